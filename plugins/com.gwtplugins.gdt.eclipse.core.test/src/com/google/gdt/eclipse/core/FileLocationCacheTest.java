@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+
+/**
+ * Tests the {@link FileLocationCache}, which the plugin starts tracking.
+ */
+public class FileLocationCacheTest extends TestCase {
+
+  private static final String PROJECT = "FileLocationCacheTest";
+
+  private IProject project;
+
+  public void testAddedFileIsFound() throws Exception {
+    IFile file = project.getFile("added.txt");
+    URI location = file.getLocationURI();
+    assertNull(FileLocationCache.INSTANCE.findFileForLocationURI(location));
+
+    createFile(file);
+    assertEquals(file, FileLocationCache.INSTANCE.findFileForLocationURI(location));
+  }
+
+  public void testRemovedFileIsNotFound() throws Exception {
+    IFile file = project.getFile("removed.txt");
+    createFile(file);
+    IFile other = project.getFile("other.txt");
+    createFile(other);
+    assertEquals(file, FileLocationCache.INSTANCE.findFileForLocationURI(file.getLocationURI()));
+    assertEquals(other, FileLocationCache.INSTANCE.findFileForLocationURI(other.getLocationURI()));
+
+    file.delete(true, new NullProgressMonitor());
+    assertNull(FileLocationCache.INSTANCE.findFileForLocationURI(file.getLocationURI()));
+    assertEquals(other, FileLocationCache.INSTANCE.findFileForLocationURI(other.getLocationURI()));
+  }
+
+  public void testFilesUnderMovedFolderAreFoundAtTheirNewLocation() throws Exception {
+    IFolder folder = project.getFolder("folder");
+    folder.create(true, true, new NullProgressMonitor());
+    IFile file = folder.getFile("nested.txt");
+    createFile(file);
+    URI location = file.getLocationURI();
+    assertEquals(file, FileLocationCache.INSTANCE.findFileForLocationURI(location));
+
+    IFolder moved = project.getFolder("moved");
+    folder.move(moved.getFullPath(), true, new NullProgressMonitor());
+    assertNull(FileLocationCache.INSTANCE.findFileForLocationURI(location));
+    IFile movedFile = moved.getFile("nested.txt");
+    assertEquals(movedFile,
+        FileLocationCache.INSTANCE.findFileForLocationURI(movedFile.getLocationURI()));
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    project = ProjectTestUtilities.createProject(PROJECT);
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    ProjectTestUtilities.deleteProject(PROJECT);
+    super.tearDown();
+  }
+
+  private void createFile(IFile file) throws Exception {
+    file.create(new ByteArrayInputStream(new byte[0]), true, new NullProgressMonitor());
+  }
+}
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tests for the {@link ProcessOutputPump} class.
+ */
+public class ProcessOutputPumpTest extends TestCase {
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private static final Pattern DROPPED_LINES = Pattern.compile("\\[\\.\\.\\. (\\d+) lines of output dropped \\.\\.\\.\\]");
+
+  private static byte[] createOutput(int lines) {
+    StringBuilder output = new StringBuilder();
+    for (int i = 0; i < lines; i++) {
+      output.append("Compiling permutation ").append(i).append("...\n");
+    }
+    return output.toString().getBytes(UTF_8);
+  }
+
+  public void testCopiesAllOutput() throws Exception {
+    byte[] output = createOutput(10000);
+    ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    ProcessOutputPump pump = new ProcessOutputPump(new ByteArrayInputStream(output), copy);
+    pump.start();
+    pump.join();
+    assertEquals(new String(output, UTF_8), new String(copy.toByteArray(), UTF_8));
+  }
+
+  public void testConvertsCharactersSplitAcrossChunks() throws Exception {
+    final String text = "r\u00e9sum\u00e9 \u65e5\u672c\u8a9e \u00fcber\n";
+    final byte[] bytes = text.getBytes(UTF_8);
+
+    // Hand out the output a byte at a time, and only once the previous byte
+    // has been written, so every multibyte character spans chunks
+    final Semaphore chunkWritten = new Semaphore(0);
+    InputStream input = new InputStream() {
+      private int next;
+
+      @Override
+      public int read() throws IOException {
+        if (next > 0) {
+          try {
+            if (!chunkWritten.tryAcquire(10, TimeUnit.SECONDS)) {
+              throw new IOException("The previous byte was not written");
+            }
+          } catch (InterruptedException e) {
+            throw new IOException(e);
+          }
+        }
+        return next < bytes.length ? bytes[next++] & 0xff : -1;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        int c = read();
+        if (c == -1) {
+          return -1;
+        }
+        b[off] = (byte) c;
+        return 1;
+      }
+    };
+
+    final Charset utf16 = Charset.forName("UTF-16BE");
+    final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    OutputStream output = new OutputStream() {
+      @Override
+      public void flush() {
+        chunkWritten.release();
+      }
+
+      @Override
+      public void write(int b) {
+        copy.write(b);
+      }
+    };
+    ProcessOutputPump pump = new ProcessOutputPump(input, output, UTF_8, utf16, 1, 0,
+        ProcessOutputPump.DEFAULT_MAX_BUFFERED_BYTES);
+    pump.start();
+    pump.join();
+    assertEquals(text, new String(copy.toByteArray(), utf16));
+  }
+
+  public void testDropsWholeLinesWhenOverloaded() throws Exception {
+    int lineCount = 20000;
+    byte[] output = createOutput(lineCount);
+    final CountDownLatch inputConsumed = new CountDownLatch(1);
+    final ByteArrayInputStream input = new ByteArrayInputStream(output) {
+      @Override
+      public synchronized int read(byte[] b, int off, int len) {
+        int bytesRead = super.read(b, off, len);
+        if (bytesRead == -1) {
+          inputConsumed.countDown();
+        }
+        return bytesRead;
+      }
+    };
+
+    // Hold up the writer until all of the output has been read
+    ByteArrayOutputStream copy = new ByteArrayOutputStream() {
+      @Override
+      public synchronized void write(byte[] b, int off, int len) {
+        try {
+          inputConsumed.await();
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+        super.write(b, off, len);
+      }
+    };
+
+    ProcessOutputPump pump = new ProcessOutputPump(input, copy, UTF_8, UTF_8, 1, 0, 4096);
+    pump.start();
+    pump.join();
+
+    String[] lines = new String(copy.toByteArray(), UTF_8).split("\n");
+    int copiedLines = 0;
+    long droppedLines = 0;
+    for (String line : lines) {
+      Matcher matcher = DROPPED_LINES.matcher(line);
+      if (matcher.matches()) {
+        droppedLines += Long.parseLong(matcher.group(1));
+      } else {
+        assertTrue(line, line.matches("Compiling permutation \\d+\\.\\.\\."));
+        copiedLines++;
+      }
+    }
+
+    assertTrue(droppedLines > 0);
+    assertEquals(lineCount, copiedLines + droppedLines);
+  }
+}
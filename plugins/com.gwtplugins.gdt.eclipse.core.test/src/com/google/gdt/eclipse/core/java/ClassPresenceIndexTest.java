@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core.java;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Tests the {@link ClassPresenceIndex}.
+ */
+public class ClassPresenceIndexTest extends TestCase {
+
+  private static void createJar(File jar, String... entryNames) throws IOException {
+    ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar));
+    try {
+      for (String entryName : entryNames) {
+        out.putNextEntry(new ZipEntry(entryName));
+        out.write(new byte[] {(byte) 0xca, (byte) 0xfe});
+        out.closeEntry();
+      }
+    } finally {
+      out.close();
+    }
+  }
+
+  private static void delete(File file) {
+    File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+
+  private File classesDir;
+
+  private File jar;
+
+  private File tempDir;
+
+  public void testFindsClassesInFolders() throws Exception {
+    File classFile = new File(classesDir, "com/example/Foo$Bar.class");
+    classFile.getParentFile().mkdirs();
+    classFile.createNewFile();
+
+    String[] classpath = new String[] {classesDir.getPath()};
+    assertTrue(ClassPresenceIndex.INSTANCE.exists(classpath, "com.example.Foo$Bar"));
+    assertFalse(ClassPresenceIndex.INSTANCE.exists(classpath, "com.example.Foo"));
+  }
+
+  public void testFindsClassesInJars() throws Exception {
+    createJar(jar, "com/example/Foo.class", "com/example/foo.properties");
+
+    String[] classpath = new String[] {
+        new File(tempDir, "missing.jar").getPath(), jar.getPath()};
+    assertTrue(ClassPresenceIndex.INSTANCE.exists(classpath, "com.example.Foo"));
+    assertFalse(ClassPresenceIndex.INSTANCE.exists(classpath, "com.example.Bar"));
+    assertFalse(ClassPresenceIndex.INSTANCE.exists(classpath, "com.example.foo.properties"));
+    assertTrue(ClassPresenceIndex.INSTANCE.exists(Arrays.asList(jar), "com.example.Foo"));
+  }
+
+  public void testRereadsChangedJars() throws Exception {
+    createJar(jar, "com/example/Foo.class");
+    long lastModified = jar.lastModified();
+    String[] classpath = new String[] {jar.getPath()};
+    assertTrue(ClassPresenceIndex.INSTANCE.exists(classpath, "com.example.Foo"));
+    int cachedJarCount = ClassPresenceIndex.INSTANCE.getCachedJarCount();
+
+    createJar(jar, "com/example/Bar.class");
+    jar.setLastModified(lastModified + 2000);
+    assertFalse(ClassPresenceIndex.INSTANCE.exists(classpath, "com.example.Foo"));
+    assertTrue(ClassPresenceIndex.INSTANCE.exists(classpath, "com.example.Bar"));
+    // The entry was replaced
+    assertEquals(cachedJarCount, ClassPresenceIndex.INSTANCE.getCachedJarCount());
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    tempDir = File.createTempFile(getClass().getSimpleName(), "");
+    tempDir.delete();
+    tempDir.mkdir();
+    classesDir = new File(tempDir, "classes");
+    classesDir.mkdir();
+    jar = new File(tempDir, "classes.jar");
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    delete(tempDir);
+    super.tearDown();
+  }
+}
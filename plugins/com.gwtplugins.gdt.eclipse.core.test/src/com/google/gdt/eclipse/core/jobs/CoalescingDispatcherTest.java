@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core.jobs;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the {@link CoalescingDispatcher} class. The dispatcher's job is
+ * scheduled far in the future, and the tests do the work themselves by calling
+ * {@link CoalescingDispatcher#dispatch()}.
+ */
+public class CoalescingDispatcherTest extends TestCase {
+
+  private static class FakeClock implements CoalescingDispatcher.Clock {
+    private long now = 1000;
+
+    @Override
+    public long currentTimeMillis() {
+      return now;
+    }
+  }
+
+  private static class FakeSink implements CoalescingDispatcher.Sink {
+    private final List<Integer> dispatches = new ArrayList<Integer>();
+
+    @Override
+    public void dispatch(int triggerCount) {
+      dispatches.add(triggerCount);
+    }
+  }
+
+  private static final long HOUR_MILLIS = 60 * 60 * 1000;
+
+  private static final long INTERVAL_MILLIS = 10000;
+
+  private FakeClock clock;
+
+  private CoalescingDispatcher dispatcher;
+
+  private FakeSink sink;
+
+  public void testCoalescesTriggers() {
+    for (int i = 0; i < 80; i++) {
+      dispatcher.trigger();
+    }
+
+    assertEquals(-1, dispatcher.dispatch());
+    assertEquals(1, sink.dispatches.size());
+    assertEquals(80, sink.dispatches.get(0).intValue());
+  }
+
+  public void testDoesNothingWithoutTriggers() {
+    assertEquals(-1, dispatcher.dispatch());
+    assertTrue(sink.dispatches.isEmpty());
+  }
+
+  public void testRateLimitsDispatches() {
+    dispatcher.trigger();
+    dispatcher.dispatch();
+
+    // Too soon, the remaining time is returned
+    clock.now += 4000;
+    dispatcher.trigger();
+    dispatcher.trigger();
+    assertEquals(INTERVAL_MILLIS - 4000, dispatcher.dispatch());
+    assertEquals(1, sink.dispatches.size());
+
+    clock.now += INTERVAL_MILLIS - 4000;
+    assertEquals(-1, dispatcher.dispatch());
+    assertEquals(2, sink.dispatches.size());
+    assertEquals(2, sink.dispatches.get(1).intValue());
+  }
+
+  public void testReadsIntervalWhenDispatching() {
+    final long[] intervalMillis = {INTERVAL_MILLIS};
+    dispatcher.stop();
+    dispatcher = new CoalescingDispatcher("Test dispatcher", sink, clock, HOUR_MILLIS,
+        INTERVAL_MILLIS) {
+      @Override
+      protected long getMinIntervalMillis() {
+        return intervalMillis[0];
+      }
+    };
+    dispatcher.trigger();
+    dispatcher.dispatch();
+
+    clock.now += 4000;
+    dispatcher.trigger();
+    intervalMillis[0] = 3000;
+    assertEquals(-1, dispatcher.dispatch());
+    assertEquals(2, sink.dispatches.size());
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    clock = new FakeClock();
+    sink = new FakeSink();
+    dispatcher = new CoalescingDispatcher("Test dispatcher", sink, clock, HOUR_MILLIS,
+        INTERVAL_MILLIS);
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    dispatcher.stop();
+    super.tearDown();
+  }
+}
@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core.jobs;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests {@link DownloadRunnable} against an HTTP server running on the
+ * loopback interface.
+ */
+public class DownloadRunnableTest extends TestCase {
+
+  /**
+   * Serves a single file at "/file", supporting range requests from an offset
+   * to the end of the file, and If-Range headers with the file's ETag.
+   */
+  private static class LoopbackHttpServer implements Runnable {
+    private volatile byte[] content;
+
+    /**
+     * The ETag of the file, or null to send none.
+     */
+    private volatile String etag = "\"v1\"";
+    private volatile String lastIfRange;
+    private volatile String lastRange;
+    private volatile boolean rangesSupported = true;
+    private volatile int requestCount;
+    private final ServerSocket serverSocket;
+    private final Thread thread;
+
+    /**
+     * The number of bytes of the body of the next response which are sent
+     * before the connection is dropped, or -1 to send the whole body.
+     */
+    private volatile int truncateAfter = -1;
+
+    LoopbackHttpServer(byte[] content) throws IOException {
+      this.content = content;
+      serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+      thread = new Thread(this, "Loopback HTTP server");
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    @Override
+    public void run() {
+      while (!serverSocket.isClosed()) {
+        try {
+          Socket socket = serverSocket.accept();
+          try {
+            serve(socket);
+          } finally {
+            socket.close();
+          }
+        } catch (IOException e) {
+          // Closed, or the client went away
+        }
+      }
+    }
+
+    URL getUrl(String path) throws IOException {
+      return new URL("http", InetAddress.getLoopbackAddress().getHostAddress(),
+          serverSocket.getLocalPort(), path);
+    }
+
+    void stop() throws IOException, InterruptedException {
+      serverSocket.close();
+      thread.join();
+    }
+
+    private void serve(Socket socket) throws IOException {
+      BufferedReader reader = new BufferedReader(new InputStreamReader(
+          socket.getInputStream(), "US-ASCII"));
+      String requestLine = reader.readLine();
+      String range = null;
+      String ifRange = null;
+      String header;
+      while ((header = reader.readLine()) != null && header.length() > 0) {
+        if (header.toLowerCase().startsWith("range:")) {
+          range = header.substring("range:".length()).trim();
+        } else if (header.toLowerCase().startsWith("if-range:")) {
+          ifRange = header.substring("if-range:".length()).trim();
+        }
+      }
+      requestCount++;
+      lastRange = range;
+      lastIfRange = ifRange;
+      byte[] content = this.content;
+
+      OutputStream out = socket.getOutputStream();
+      if (requestLine == null || !requestLine.startsWith("GET /file ")) {
+        out.write("HTTP/1.1 404 Not Found\r\nContent-Length: 0\r\nConnection: close\r\n\r\n".getBytes("US-ASCII"));
+        return;
+      }
+
+      int offset = 0;
+      StringBuilder headers = new StringBuilder();
+      if (range != null && rangesSupported
+          && (ifRange == null || ifRange.equals(etag))) {
+        offset = Integer.parseInt(range.substring("bytes=".length(),
+            range.indexOf('-')));
+        headers.append("HTTP/1.1 206 Partial Content\r\n");
+        headers.append("Content-Range: bytes " + offset + "-"
+            + (content.length - 1) + "/" + content.length + "\r\n");
+      } else {
+        headers.append("HTTP/1.1 200 OK\r\n");
+      }
+      if (etag != null) {
+        headers.append("ETag: " + etag + "\r\n");
+      }
+      headers.append("Content-Length: " + (content.length - offset) + "\r\n");
+      headers.append("Connection: close\r\n\r\n");
+      out.write(headers.toString().getBytes("US-ASCII"));
+
+      int length = content.length - offset;
+      if (truncateAfter >= 0) {
+        length = Math.min(length, truncateAfter);
+        truncateAfter = -1;
+      }
+      out.write(content, offset, length);
+      out.flush();
+    }
+  }
+
+  private static String sha1(byte[] bytes) throws Exception {
+    StringBuilder hex = new StringBuilder();
+    for (byte b : MessageDigest.getInstance("SHA-1").digest(bytes)) {
+      hex.append(String.format("%02x", b & 0xff));
+    }
+    return hex.toString();
+  }
+
+  private byte[] content;
+
+  private File dir;
+
+  private LoopbackHttpServer server;
+
+  private File target;
+
+  public void testChecksumMismatchDiscardsDownload() throws Exception {
+    DownloadRunnable download = new DownloadRunnable(server.getUrl("/file"),
+        target, "SHA-1", "0123456789012345678901234567890123456789");
+
+    assertEquals(IStatus.ERROR, download.run(new NullProgressMonitor()).getSeverity());
+    assertFalse(target.exists());
+    assertFalse(download.getPartialFile().exists());
+  }
+
+  public void testDownloadsOverOneConnection() throws Exception {
+    DownloadRunnable download = new DownloadRunnable(server.getUrl("/file"),
+        target, "SHA-1", sha1(content));
+
+    assertTrue(download.run(new NullProgressMonitor()).isOK());
+    assertContent();
+    assertEquals(1, server.requestCount);
+    assertNull(server.lastRange);
+    assertFalse(download.getPartialFile().exists());
+  }
+
+  public void testReportsServerError() throws Exception {
+    DownloadRunnable download = new DownloadRunnable(
+        server.getUrl("/missing"), target);
+
+    assertEquals(IStatus.ERROR, download.run(new NullProgressMonitor()).getSeverity());
+    assertFalse(target.exists());
+  }
+
+  public void testRestartsWhenServerIgnoresRange() throws Exception {
+    server.rangesSupported = false;
+    server.truncateAfter = 100000;
+    DownloadRunnable download = new DownloadRunnable(server.getUrl("/file"),
+        target);
+    assertEquals(IStatus.ERROR, download.run(new NullProgressMonitor()).getSeverity());
+
+    assertTrue(download.run(new NullProgressMonitor()).isOK());
+    assertNotNull(server.lastRange);
+    assertContent();
+  }
+
+  public void testRestartsWhenFileChanged() throws Exception {
+    server.truncateAfter = 100000;
+    DownloadRunnable download = new DownloadRunnable(server.getUrl("/file"),
+        target);
+    assertEquals(IStatus.ERROR, download.run(new NullProgressMonitor()).getSeverity());
+
+    content = new byte[200 * 1024];
+    new Random(43).nextBytes(content);
+    server.content = content;
+    server.etag = "\"v2\"";
+
+    assertTrue(download.run(new NullProgressMonitor()).isOK());
+    assertNotNull(server.lastRange);
+    assertEquals("\"v1\"", server.lastIfRange);
+    assertContent();
+  }
+
+  public void testRestartsWithoutValidatorOrChecksum() throws Exception {
+    server.etag = null;
+    server.truncateAfter = 100000;
+    DownloadRunnable download = new DownloadRunnable(server.getUrl("/file"),
+        target);
+    assertEquals(IStatus.ERROR, download.run(new NullProgressMonitor()).getSeverity());
+    assertTrue(download.getPartialFile().length() > 0);
+
+    assertTrue(download.run(new NullProgressMonitor()).isOK());
+    assertNull(server.lastRange);
+    assertContent();
+  }
+
+  public void testResumesInterruptedDownload() throws Exception {
+    server.truncateAfter = 100000;
+    DownloadRunnable download = new DownloadRunnable(server.getUrl("/file"),
+        target, "SHA-1", sha1(content));
+
+    assertEquals(IStatus.ERROR, download.run(new NullProgressMonitor()).getSeverity());
+    assertFalse(target.exists());
+    long partialLength = download.getPartialFile().length();
+    assertTrue(partialLength > 0 && partialLength <= 100000);
+
+    assertTrue(download.run(new NullProgressMonitor()).isOK());
+    assertEquals("bytes=" + partialLength + "-", server.lastRange);
+    assertEquals("\"v1\"", server.lastIfRange);
+    assertEquals(2, server.requestCount);
+    assertContent();
+    assertFalse(download.getPartialFile().exists());
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    content = new byte[300 * 1024];
+    new Random(42).nextBytes(content);
+    server = new LoopbackHttpServer(content);
+
+    dir = File.createTempFile("download", "");
+    dir.delete();
+    assertTrue(dir.mkdir());
+    target = new File(dir, "sdk.zip");
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    server.stop();
+    for (File file : dir.listFiles()) {
+      file.delete();
+    }
+    dir.delete();
+  }
+
+  private void assertContent() throws IOException {
+    RandomAccessFile file = new RandomAccessFile(target, "r");
+    try {
+      byte[] bytes = new byte[(int) file.length()];
+      file.readFully(bytes);
+      assertTrue(Arrays.equals(content, bytes));
+    } finally {
+      file.close();
+    }
+  }
+}
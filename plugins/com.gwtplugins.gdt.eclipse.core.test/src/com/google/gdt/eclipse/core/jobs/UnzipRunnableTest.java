@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core.jobs;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Enumeration;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Tests {@link UnzipRunnable} on small generated archives.
+ */
+public class UnzipRunnableTest extends TestCase {
+
+  private static final long ENTRY_TIME = 1262304000000L; // 2010-01-01
+
+  private static void delete(File file) {
+    File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+
+  private File dir;
+
+  public void testCancelStopsExtraction() throws Exception {
+    File archive = createArchive("small.zip", 2, 3, 1024);
+    NullProgressMonitor monitor = new NullProgressMonitor();
+    monitor.setCanceled(true);
+
+    IStatus status = new UnzipRunnable(archive, newTargetDir("canceled")).run(monitor);
+    assertEquals(IStatus.CANCEL, status.getSeverity());
+  }
+
+  public void testExtractsEntriesWithTimes() throws Exception {
+    File archive = createArchive("small.zip", 3, 4, 4096);
+    File targetDir = newTargetDir("small");
+
+    UnzipRunnable runnable = new UnzipRunnable(archive, targetDir);
+    assertTrue(runnable.run(new NullProgressMonitor()).isOK());
+
+    ZipFile zipFile = new ZipFile(archive);
+    try {
+      long size = 0;
+      Enumeration<? extends ZipEntry> entries = zipFile.entries();
+      while (entries.hasMoreElements()) {
+        ZipEntry zipEntry = entries.nextElement();
+        File file = new File(targetDir, zipEntry.getName());
+        assertTrue(file.exists());
+        assertEquals(zipEntry.getName(), zipEntry.getTime() / 1000,
+            file.lastModified() / 1000);
+        if (!zipEntry.isDirectory()) {
+          assertEquals(zipEntry.getSize(), file.length());
+          assertEquals(zipEntry.getCrc(), crc(file));
+          size += file.length();
+        }
+      }
+      assertEquals(size, runnable.getExtractedBytes());
+    } finally {
+      zipFile.close();
+    }
+  }
+
+  public void testCreatesDirectories() throws Exception {
+    File archive = createArchive("dirs.zip", "gwt/empty/", "gwt/lib/nested/File.java",
+        "README");
+    File targetDir = newTargetDir("dirs");
+
+    assertTrue(new UnzipRunnable(archive, targetDir).run(new NullProgressMonitor()).isOK());
+    assertTrue(new File(targetDir, "gwt/empty").isDirectory());
+    assertTrue(new File(targetDir, "gwt/lib/nested").isDirectory());
+    assertTrue(new File(targetDir, "gwt/lib/nested/File.java").isFile());
+    assertTrue(new File(targetDir, "README").isFile());
+  }
+
+  public void testExtractsEntriesWithDotSegments() throws Exception {
+    File archive = createArchive("dots.zip", "missing/../README", "gwt/./File.java");
+    File targetDir = newTargetDir("dots");
+
+    assertTrue(new UnzipRunnable(archive, targetDir).run(new NullProgressMonitor()).isOK());
+    assertEquals("missing/../README", read(new File(targetDir, "README")));
+    assertEquals("gwt/./File.java", read(new File(targetDir, "gwt/File.java")));
+    assertFalse(new File(targetDir, "missing").exists());
+  }
+
+  public void testExtractsLastOfDuplicateEntries() throws Exception {
+    File archive = createArchive("duplicates.zip", "gwt/File.java", "gwt/../gwt/File.java");
+    File targetDir = newTargetDir("duplicates");
+
+    UnzipRunnable runnable = new UnzipRunnable(archive, targetDir);
+    assertTrue(runnable.run(new NullProgressMonitor()).isOK());
+    assertEquals("gwt/../gwt/File.java", read(new File(targetDir, "gwt/File.java")));
+    assertEquals("gwt/../gwt/File.java".length(), runnable.getExtractedBytes());
+  }
+
+  public void testRejectsEntriesOutsideTargetDir() throws Exception {
+    File targetDir = newTargetDir("target");
+    String[] badNames = new String[] {"../escaped.txt", "gwt/../../escaped.txt",
+        "gwt/../../target-sibling/escaped.txt"};
+    for (String badName : badNames) {
+      File archive = createArchive("bad.zip", "gwt/File.java", badName);
+
+      IStatus status = new UnzipRunnable(archive, targetDir).run(new NullProgressMonitor());
+      assertEquals(badName, IStatus.ERROR, status.getSeverity());
+      assertFalse(badName, new File(dir, "escaped.txt").exists());
+      assertFalse(badName, new File(dir, "target-sibling").exists());
+      // Nothing is extracted once an entry is rejected
+      assertFalse(badName, new File(targetDir, "gwt/File.java").exists());
+    }
+  }
+
+  public void testRejectsNonZip() throws IOException {
+    File file = new File(dir, "notes.zip");
+    FileWriter writer = new FileWriter(file);
+    try {
+      writer.write("not a zip");
+    } finally {
+      writer.close();
+    }
+
+    try {
+      new UnzipRunnable(file, dir);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    dir = File.createTempFile("unzip", "");
+    dir.delete();
+    assertTrue(dir.mkdir());
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    delete(dir);
+  }
+
+  private long crc(File file) throws IOException {
+    CRC32 crc = new CRC32();
+    RandomAccessFile in = new RandomAccessFile(file, "r");
+    try {
+      byte[] bytes = new byte[(int) in.length()];
+      in.readFully(bytes);
+      crc.update(bytes);
+    } finally {
+      in.close();
+    }
+    return crc.getValue();
+  }
+
+  /**
+   * Creates an archive of text-like files, spread over directories.
+   */
+  private File createArchive(String name, int dirCount, int filesPerDir,
+      int maxFileSize) throws IOException {
+    Random random = new Random(dirCount * filesPerDir);
+    String[] words = new String[] {
+        "public", "class", "void", "return", "com.google.gwt", "{", "}", ";",
+        "\n", "String", "int", "final"};
+
+    File archive = new File(dir, name);
+    ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(
+        new FileOutputStream(archive)));
+    try {
+      for (int d = 0; d < dirCount; d++) {
+        String dirName = "gwt/dir" + d + "/";
+        ZipEntry dirEntry = new ZipEntry(dirName);
+        dirEntry.setTime(ENTRY_TIME);
+        out.putNextEntry(dirEntry);
+        out.closeEntry();
+
+        for (int f = 0; f < filesPerDir; f++) {
+          ZipEntry entry = new ZipEntry(dirName + "File" + f + ".java");
+          entry.setTime(ENTRY_TIME + f * 2000);
+          out.putNextEntry(entry);
+          StringBuilder contents = new StringBuilder();
+          int size = random.nextInt(maxFileSize);
+          while (contents.length() < size) {
+            contents.append(words[random.nextInt(words.length)]).append(' ');
+            contents.append(random.nextInt());
+          }
+          out.write(contents.toString().getBytes("UTF-8"));
+          out.closeEntry();
+        }
+      }
+    } finally {
+      out.close();
+    }
+    return archive;
+  }
+
+  /**
+   * Creates an archive with the given entries. Names ending with a slash are
+   * directories, and the others are files containing their name.
+   */
+  private File createArchive(String name, String... entryNames)
+      throws IOException {
+    File archive = new File(dir, name);
+    ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(
+        new FileOutputStream(archive)));
+    try {
+      for (String entryName : entryNames) {
+        out.putNextEntry(new ZipEntry(entryName));
+        if (!entryName.endsWith("/")) {
+          out.write(entryName.getBytes("UTF-8"));
+        }
+        out.closeEntry();
+      }
+    } finally {
+      out.close();
+    }
+    return archive;
+  }
+
+  private String read(File file) throws IOException {
+    RandomAccessFile in = new RandomAccessFile(file, "r");
+    try {
+      byte[] bytes = new byte[(int) in.length()];
+      in.readFully(bytes);
+      return new String(bytes, "UTF-8");
+    } finally {
+      in.close();
+    }
+  }
+
+  private File newTargetDir(String name) {
+    File targetDir = new File(dir, name);
+    assertTrue(targetDir.mkdir());
+    return targetDir;
+  }
+}
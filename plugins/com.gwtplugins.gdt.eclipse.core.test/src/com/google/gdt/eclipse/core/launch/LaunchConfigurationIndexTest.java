@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core.launch;
+
+import com.google.gdt.eclipse.core.JavaProjectTestUtilities;
+import com.google.gdt.eclipse.core.ProjectTestUtilities;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests the {@link LaunchConfigurationIndex}.
+ */
+public class LaunchConfigurationIndexTest extends TestCase {
+
+  private static final String PROJECT_A = "LaunchConfigurationIndexTestA";
+
+  private static final String PROJECT_B = "LaunchConfigurationIndexTestB";
+
+  private final List<ILaunchConfiguration> launchConfigs = new ArrayList<ILaunchConfiguration>();
+
+  private IProject projectA;
+
+  private IProject projectB;
+
+  public void testFindsLaunchConfigurationsOfProject() throws Exception {
+    ILaunchConfiguration a = createLaunchConfig("a", PROJECT_A);
+    createLaunchConfig("b", PROJECT_B);
+
+    assertEquals(Collections.singletonList(a), getLaunchConfigs(projectA));
+    assertEquals(Collections.singletonList(a),
+        LaunchConfigurationUtilities.getLaunchConfigurations(projectA,
+            IJavaLaunchConfigurationConstants.ID_JAVA_APPLICATION));
+    assertTrue(LaunchConfigurationUtilities.getLaunchConfigurations(projectA,
+        "some.other.type").isEmpty());
+  }
+
+  public void testTracksChanges() throws Exception {
+    // Build the index before the changes
+    assertTrue(getLaunchConfigs(projectA).isEmpty());
+
+    ILaunchConfiguration a = createLaunchConfig("a", PROJECT_A);
+    assertEquals(Collections.singletonList(a), getLaunchConfigs(projectA));
+
+    // Move it to the other project
+    ILaunchConfigurationWorkingCopy workingCopy = a.getWorkingCopy();
+    LaunchConfigurationUtilities.setProjectName(workingCopy, PROJECT_B);
+    // The working copy isn't indexed until it is saved
+    assertTrue(getLaunchConfigs(projectB).isEmpty());
+    a = workingCopy.doSave();
+    assertTrue(getLaunchConfigs(projectA).isEmpty());
+    assertEquals(Collections.singletonList(a), getLaunchConfigs(projectB));
+
+    a.delete();
+    assertTrue(getLaunchConfigs(projectB).isEmpty());
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    projectA = JavaProjectTestUtilities.createJavaProject(PROJECT_A).getProject();
+    projectB = JavaProjectTestUtilities.createJavaProject(PROJECT_B).getProject();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    for (ILaunchConfiguration launchConfig : launchConfigs) {
+      if (launchConfig.exists()) {
+        launchConfig.delete();
+      }
+    }
+    ProjectTestUtilities.deleteProject(PROJECT_A);
+    ProjectTestUtilities.deleteProject(PROJECT_B);
+    super.tearDown();
+  }
+
+  private ILaunchConfiguration createLaunchConfig(String name,
+      String projectName) throws Exception {
+    ILaunchConfigurationType type = DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurationType(
+        IJavaLaunchConfigurationConstants.ID_JAVA_APPLICATION);
+    ILaunchConfigurationWorkingCopy workingCopy = type.newInstance(null,
+        getClass().getSimpleName() + name);
+    LaunchConfigurationUtilities.setProjectName(workingCopy, projectName);
+    ILaunchConfiguration launchConfig = workingCopy.doSave();
+    launchConfigs.add(launchConfig);
+    return launchConfig;
+  }
+
+  private List<ILaunchConfiguration> getLaunchConfigs(IProject project) {
+    return LaunchConfigurationIndex.INSTANCE.getLaunchConfigurations(project,
+        Arrays.<String> asList());
+  }
+}
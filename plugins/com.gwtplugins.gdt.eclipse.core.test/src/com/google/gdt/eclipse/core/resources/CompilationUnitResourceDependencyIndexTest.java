@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core.resources;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * Tests the versioning of the format of the
+ * {@link CompilationUnitResourceDependencyIndex}.
+ */
+public class CompilationUnitResourceDependencyIndexTest extends TestCase {
+
+  private static class TestIndex extends CompilationUnitResourceDependencyIndex {
+    private static IPath location;
+
+    TestIndex(int formatVersion) {
+      super("testIndex", formatVersion);
+    }
+
+    @Override
+    protected IPath getIndexFileLocation() {
+      return location;
+    }
+  }
+
+  private File dir;
+
+  public void testIndexWithAnotherVersionIsDiscarded() {
+    new TestIndex(1).saveIndex();
+
+    assertFalse(new TestIndex(1).wasDiscardedOnLoad());
+    assertTrue(new TestIndex(2).wasDiscardedOnLoad());
+  }
+
+  public void testMissingIndexIsNotDiscarded() {
+    assertFalse(new TestIndex(2).wasDiscardedOnLoad());
+  }
+
+  public void testUnversionedIndexHasFirstVersion() throws IOException {
+    FileWriter writer = new FileWriter(new File(dir, "testIndex"));
+    try {
+      writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<index/>");
+    } finally {
+      writer.close();
+    }
+
+    assertFalse(new TestIndex(1).wasDiscardedOnLoad());
+    assertTrue(new TestIndex(2).wasDiscardedOnLoad());
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    dir = File.createTempFile("index", "");
+    dir.delete();
+    dir.mkdir();
+    TestIndex.location = new Path(dir.getAbsolutePath());
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    new File(dir, "testIndex").delete();
+    dir.delete();
+  }
+}
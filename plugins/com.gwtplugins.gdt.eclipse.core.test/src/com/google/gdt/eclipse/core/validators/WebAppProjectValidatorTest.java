@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core.validators;
+
+import com.google.gdt.eclipse.core.BuilderUtilities;
+import com.google.gdt.eclipse.core.JavaProjectTestUtilities;
+import com.google.gdt.eclipse.core.MarkerUtilities;
+import com.google.gdt.eclipse.core.ProjectTestUtilities;
+import com.google.gdt.eclipse.core.WebAppUtilities;
+import com.google.gdt.eclipse.core.markers.ProjectStructureOrSdkProblemType;
+import com.google.gdt.eclipse.core.properties.WebAppProjectProperties;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Tests that the {@link WebAppProjectValidator} keeps its markers across builds
+ * which don't change what it validates, and recomputes them otherwise. The
+ * project's build path has a jar outside of WEB-INF/lib, so a valid project
+ * has exactly one marker.
+ */
+public class WebAppProjectValidatorTest extends TestCase {
+
+  private static final String PROJECT = "WebAppProjectValidatorTest";
+
+  private ICompilationUnit compilationUnit;
+
+  private File jar;
+
+  private IJavaProject javaProject;
+
+  private IProject project;
+
+  private boolean wasAutoBuilding;
+
+  public void testMarkersSurviveJavaEdit() throws Exception {
+    IMarker marker = findOnlyMarker();
+
+    IFile file = (IFile) compilationUnit.getResource();
+    file.setContents(new ByteArrayInputStream(
+        "package p; public class Foo { int i; }".getBytes("UTF-8")), true, false,
+        new NullProgressMonitor());
+    build();
+
+    assertEquals(marker, findOnlyMarker());
+  }
+
+  public void testMarkersAreRecomputedWhenWebXmlIsRemovedOrAdded() throws Exception {
+    IMarker marker = findOnlyMarker();
+
+    IFile webXml = WebAppUtilities.getWebInfSrc(project).getFile("web.xml");
+    webXml.delete(true, new NullProgressMonitor());
+    build();
+    assertProblemType(ProjectStructureOrSdkProblemType.MISSING_WEB_XML, findOnlyMarker());
+
+    createFile(webXml);
+    build();
+    IMarker recomputed = findOnlyMarker();
+    assertProblemType(ProjectStructureOrSdkProblemType.JAR_OUTSIDE_WEBINF_LIB, recomputed);
+    assertFalse(marker.equals(recomputed));
+  }
+
+  public void testMarkersAreRecomputedWhenWarDirectoryIsRemovedOrAdded() throws Exception {
+    // Otherwise the Java builder recreates the WAR directory for its output
+    javaProject.setOutputLocation(project.getFolder("bin").getFullPath(),
+        new NullProgressMonitor());
+
+    IFolder warSrc = WebAppUtilities.getWarSrc(project);
+    warSrc.delete(true, new NullProgressMonitor());
+    build();
+    String expectedMessage = MessageFormat.format(
+        ProjectStructureOrSdkProblemType.MISSING_WAR_DIR.getMessage(),
+        warSrc.getFullPath().toString());
+    assertEquals(expectedMessage, findOnlyMarker().getAttribute(IMarker.MESSAGE, ""));
+
+    warSrc.create(true, true, new NullProgressMonitor());
+    build();
+    assertProblemType(ProjectStructureOrSdkProblemType.MISSING_WEB_XML, findOnlyMarker());
+  }
+
+  public void testMarkersAreRecomputedWhenJarIsExcluded() throws Exception {
+    WebAppProjectProperties.setJarsExcludedFromWebInfLib(project,
+        Collections.<IPath> singletonList(Path.fromOSString(jar.getAbsolutePath())));
+    build();
+
+    assertEquals(0, findMarkers().length);
+  }
+
+  public void testMarkersAreRecomputedWhenOutputLocationChanges() throws Exception {
+    javaProject.setOutputLocation(project.getFolder("bin").getFullPath(),
+        new NullProgressMonitor());
+    build();
+
+    assertProblemType(ProjectStructureOrSdkProblemType.BUILD_OUTPUT_DIR_NOT_WEBINF_CLASSES,
+        findOnlyMarker());
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+
+    // Builds are run explicitly
+    IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    IWorkspaceDescription description = workspace.getDescription();
+    wasAutoBuilding = description.isAutoBuilding();
+    description.setAutoBuilding(false);
+    workspace.setDescription(description);
+
+    jar = File.createTempFile("outside", ".jar");
+    new JarOutputStream(new FileOutputStream(jar)).close();
+
+    javaProject = JavaProjectTestUtilities.createJavaProject(PROJECT);
+    project = javaProject.getProject();
+    WebAppUtilities.setDefaultWarSettings(project);
+    IFolder webInf = WebAppUtilities.getWebInfSrc(project);
+    ((IFolder) webInf.getParent()).create(true, true, new NullProgressMonitor());
+    webInf.create(true, true, new NullProgressMonitor());
+    webInf.getFolder("lib").create(true, true, new NullProgressMonitor());
+    createFile(webInf.getFile("web.xml"));
+    WebAppUtilities.setOutputLocationToWebInfClasses(javaProject, new NullProgressMonitor());
+
+    IFolder src = project.getFolder("src");
+    src.create(true, true, new NullProgressMonitor());
+    JavaProjectTestUtilities.addRawClassPathEntry(javaProject,
+        JavaCore.newSourceEntry(src.getFullPath()));
+    compilationUnit = javaProject.getPackageFragmentRoot(src).createPackageFragment("p", true,
+        new NullProgressMonitor()).createCompilationUnit("Foo.java",
+        "package p; public class Foo { }", true, new NullProgressMonitor());
+    JavaProjectTestUtilities.addRawClassPathEntry(javaProject,
+        JavaCore.newLibraryEntry(Path.fromOSString(jar.getAbsolutePath()), null, null));
+    BuilderUtilities.addBuilderToProject(project, WebAppProjectValidator.BUILDER_ID);
+
+    build();
+    assertProblemType(ProjectStructureOrSdkProblemType.JAR_OUTSIDE_WEBINF_LIB, findOnlyMarker());
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    ProjectTestUtilities.deleteProject(PROJECT);
+    jar.delete();
+
+    IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    IWorkspaceDescription description = workspace.getDescription();
+    description.setAutoBuilding(wasAutoBuilding);
+    workspace.setDescription(description);
+    super.tearDown();
+  }
+
+  private void assertProblemType(ProjectStructureOrSdkProblemType expected, IMarker marker) {
+    assertEquals(expected.getProblemId(),
+        marker.getAttribute(MarkerUtilities.PROBLEM_TYPE_ID, -1));
+  }
+
+  private void build() throws Exception {
+    project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, new NullProgressMonitor());
+  }
+
+  private void createFile(IFile file) throws Exception {
+    file.create(new ByteArrayInputStream(new byte[0]), true, new NullProgressMonitor());
+  }
+
+  private IMarker[] findMarkers() throws Exception {
+    return project.findMarkers(WebAppProjectValidator.PROBLEM_MARKER_ID, false,
+        IResource.DEPTH_INFINITE);
+  }
+
+  private IMarker findOnlyMarker() throws Exception {
+    IMarker[] markers = findMarkers();
+    assertEquals(1, markers.length);
+    return markers[0];
+  }
+}
@@ -29,6 +29,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
@@ -133,6 +134,19 @@ public class BuilderUtilities {
    */
   public static void revalidateCompilationUnits(
       final Set<ICompilationUnit> cus, String description) {
+    revalidateCompilationUnits(cus, description, null);
+  }
+
+  /**
+   * Forces re-validation of a set of compilation units by the JDT Java Builder,
+   * and notifies the listener of the progress of the job which does it.
+   * 
+   * @param listener notified of the job's progress, added before the job is
+   *          scheduled; may be null
+   */
+  public static void revalidateCompilationUnits(
+      final Set<ICompilationUnit> cus, String description,
+      IJobChangeListener listener) {
     WorkspaceJob revalidateJob = new WorkspaceJob(description) {
       @Override
       public IStatus runInWorkspace(IProgressMonitor monitor)
@@ -181,6 +195,9 @@ public class BuilderUtilities {
         return StatusUtilities.OK_STATUS;
       }
     };
+    if (listener != null) {
+      revalidateJob.addJobChangeListener(listener);
+    }
     revalidateJob.schedule();
   }
 
@@ -190,6 +207,19 @@ public class BuilderUtilities {
    * @param project the project to rebuild
    */
   public static void scheduleRebuild(final IProject project) {
+    scheduleRebuild(project, null);
+  }
+
+  /**
+   * Schedules a full rebuild on a project, and notifies the listener of the
+   * progress of the job which does it.
+   * 
+   * @param project the project to rebuild
+   * @param listener notified of the job's progress, added before the job is
+   *          scheduled; may be null
+   */
+  public static void scheduleRebuild(final IProject project,
+      IJobChangeListener listener) {
     WorkspaceJob buildJob = new WorkspaceJob("Building " + project.getName()) {
       @Override
       public boolean belongsTo(Object family) {
@@ -206,6 +236,9 @@ public class BuilderUtilities {
 
     buildJob.setRule(ResourcesPlugin.getWorkspace().getRuleFactory().buildRule());
     buildJob.setUser(true);
+    if (listener != null) {
+      buildJob.addJobChangeListener(listener);
+    }
     buildJob.schedule();
   }
 
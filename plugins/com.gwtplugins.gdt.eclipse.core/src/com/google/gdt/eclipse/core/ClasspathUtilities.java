@@ -15,6 +15,7 @@
 package com.google.gdt.eclipse.core;
 
 import com.google.common.base.Predicate;
+import com.google.gdt.eclipse.core.java.ClassPresenceIndex;
 import com.google.gdt.eclipse.core.java.ClasspathChangedListener;
 
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -55,6 +56,17 @@ public final class ClasspathUtilities {
    * Finds classes in a class loader.
    */
   public static class ClassFinder {
+    /**
+     * Returns whether the class is on the classpath, without loading it.
+     *
+     * @param classpath the file system paths of the classpath's jars and
+     *          folders
+     * @see ClassPresenceIndex
+     */
+    public boolean exists(String[] classpath, String className) {
+      return ClassPresenceIndex.INSTANCE.exists(classpath, className);
+    }
+
     public boolean exists(ClassLoader classLoader, String className) {
       return find(classLoader, className) != null;
     }
@@ -19,7 +19,6 @@ import org.eclipse.core.filesystem.IFileStore;
 import org.eclipse.core.internal.content.LazyInputStream;
 import org.eclipse.core.internal.content.LazyReader;
 import org.eclipse.core.resources.IFile;
-import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.jface.text.IDocument;
 
 import java.io.InputStream;
@@ -33,6 +32,51 @@ import java.lang.reflect.Field;
 @SuppressWarnings("restriction")
 public class ContentDescriberUtilities {
 
+  /**
+   * The fields read to get from a content describer's input to the file behind
+   * it. They are looked up once, when first needed; a field is
+   * <code>null</code> if this version of Eclipse doesn't have it.
+   */
+  private static class ReflectiveHandles {
+    private static final Field DOCUMENT_READER_DOCUMENT_FIELD;
+    private static final Class<?> DOCUMENT_READER_CLASS;
+    private static final Field LAZY_FILE_INPUT_STREAM_TARGET_FIELD;
+    private static final Class<?> LAZY_FILE_INPUT_STREAM_CLASS;
+    private static final Field LAZY_INPUT_STREAM_IN_FIELD = getAccessibleField(LazyInputStream.class, "in");
+    private static final Field LAZY_READER_IN_FIELD = getAccessibleField(LazyReader.class, "in");
+
+    static {
+      LAZY_FILE_INPUT_STREAM_CLASS = getClass(
+          "org.eclipse.core.internal.resources.ContentDescriptionManager$LazyFileInputStream");
+      LAZY_FILE_INPUT_STREAM_TARGET_FIELD = LAZY_FILE_INPUT_STREAM_CLASS != null
+          ? getAccessibleField(LAZY_FILE_INPUT_STREAM_CLASS, "target") : null;
+
+      DOCUMENT_READER_CLASS = getClass("org.eclipse.core.internal.filebuffers.DocumentReader");
+      DOCUMENT_READER_DOCUMENT_FIELD = DOCUMENT_READER_CLASS != null
+          ? getAccessibleField(DOCUMENT_READER_CLASS, "fDocument") : null;
+    }
+
+    private static Field getAccessibleField(Class<?> c, String name) {
+      try {
+        Field field = c.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+      } catch (Throwable e) {
+        // Ignore on purpose
+        return null;
+      }
+    }
+
+    private static Class<?> getClass(String name) {
+      try {
+        return Class.forName(name);
+      } catch (Throwable e) {
+        // Ignore on purpose
+        return null;
+      }
+    }
+  }
+
   /**
    * Returns an {@link IFile} for the file backing an input stream. This method
    * is tailored to work with
@@ -45,30 +89,24 @@ public class ContentDescriberUtilities {
       InputStream contentInputStream) {
     try {
   
-      if (!(contentInputStream instanceof LazyInputStream)) {
+      if (!(contentInputStream instanceof LazyInputStream)
+          || ReflectiveHandles.LAZY_INPUT_STREAM_IN_FIELD == null
+          || ReflectiveHandles.LAZY_FILE_INPUT_STREAM_TARGET_FIELD == null) {
         return null;
       }
   
-      Class<?> c = contentInputStream.getClass();
-  
-      Field in = c.getDeclaredField("in");
-      in.setAccessible(true);
-      Object lazyFileInputStreamObj = in.get(contentInputStream);
+      Object lazyFileInputStreamObj = ReflectiveHandles.LAZY_INPUT_STREAM_IN_FIELD.get(contentInputStream);
   
       if (lazyFileInputStreamObj == null) {
         return null;
       }
   
-      if (!Class.forName(
-          "org.eclipse.core.internal.resources.ContentDescriptionManager$LazyFileInputStream").isAssignableFrom(
+      if (!ReflectiveHandles.LAZY_FILE_INPUT_STREAM_CLASS.isAssignableFrom(
           lazyFileInputStreamObj.getClass())) {
         return null;
       }
   
-      Field target = lazyFileInputStreamObj.getClass().getDeclaredField(
-          "target");
-      target.setAccessible(true);
-      Object fileStoreObj = target.get(lazyFileInputStreamObj);
+      Object fileStoreObj = ReflectiveHandles.LAZY_FILE_INPUT_STREAM_TARGET_FIELD.get(lazyFileInputStreamObj);
       if (fileStoreObj == null) {
         return null;
       }
@@ -85,9 +123,7 @@ public class ContentDescriberUtilities {
         return null;
       }
   
-      IFile[] files = ResourcesPlugin.getWorkspace().getRoot().findFilesForLocationURI(
-          fileStore.toURI());
-      return files.length > 0 ? files[0] : null;
+      return FileLocationCache.INSTANCE.findFileForLocationURI(fileStore.toURI());
   
     } catch (Throwable e) {
       // Ignore on purpose
@@ -107,29 +143,24 @@ public class ContentDescriberUtilities {
   public static IFile resolveFileFromReader(Reader reader) {
     try {
   
-      if (!(reader instanceof LazyReader)) {
+      if (!(reader instanceof LazyReader)
+          || ReflectiveHandles.LAZY_READER_IN_FIELD == null
+          || ReflectiveHandles.DOCUMENT_READER_DOCUMENT_FIELD == null) {
         return null;
       }
   
-      Class<?> c = reader.getClass();
-  
-      Field in = c.getDeclaredField("in");
-      in.setAccessible(true);
-      Object documentReaderObj = in.get(reader);
+      Object documentReaderObj = ReflectiveHandles.LAZY_READER_IN_FIELD.get(reader);
   
       if (documentReaderObj == null) {
         return null;
       }
   
-      if (!Class.forName("org.eclipse.core.internal.filebuffers.DocumentReader").isAssignableFrom(
+      if (!ReflectiveHandles.DOCUMENT_READER_CLASS.isAssignableFrom(
           documentReaderObj.getClass())) {
         return null;
       }
   
-      Field documentField = documentReaderObj.getClass().getDeclaredField(
-          "fDocument");
-      documentField.setAccessible(true);
-      Object documentObj = documentField.get(documentReaderObj);
+      Object documentObj = ReflectiveHandles.DOCUMENT_READER_DOCUMENT_FIELD.get(documentReaderObj);
       if (documentObj == null) {
         return null;
       }
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package com.google.gdt.eclipse.core;
 
+import com.google.gdt.eclipse.core.launch.LaunchConfigurationIndex;
 import com.google.gdt.eclipse.core.markers.GdtProblemSeverities;
 import com.google.gdt.eclipse.core.markers.ProjectStructureOrSdkProblemType;
 import com.google.gdt.eclipse.core.projects.ProjectChangeTimestampTracker;
@@ -59,10 +60,13 @@ public class CorePlugin extends AbstractGwtPlugin {
         new Class<?>[] {ProjectStructureOrSdkProblemType.class});
 
     ProjectChangeTimestampTracker.INSTANCE.startTracking();
+    FileLocationCache.INSTANCE.startTracking();
   }
 
   @Override
   public void stop(BundleContext context) throws Exception {
+    LaunchConfigurationIndex.INSTANCE.stopTracking();
+    FileLocationCache.INSTANCE.stopTracking();
     ProjectChangeTimestampTracker.INSTANCE.stopTracking();
 
     plugin = null;
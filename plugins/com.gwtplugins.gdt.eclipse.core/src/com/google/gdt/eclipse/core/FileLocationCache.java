@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the workspace file found at a file system location, since
+ * {@link org.eclipse.core.resources.IWorkspaceRoot#findFilesForLocationURI(URI)}
+ * is expensive on large workspaces and content describers look up the same
+ * files over and over.
+ *
+ * When files are added, removed or moved, only the entries for their locations
+ * are dropped, and when folders are, the entries for the locations under them.
+ * The whole cache is cleared when projects are added, removed, opened, closed or
+ * have their description (and so possibly their linked resources) changed.
+ * Changes to the contents of files don't affect it.
+ */
+public enum FileLocationCache implements IResourceChangeListener {
+  INSTANCE;
+
+  /**
+   * The cache is cleared when it grows larger than this.
+   */
+  private static final int MAX_SIZE = 10000;
+
+  private static final IFile[] NO_FILES = new IFile[0];
+
+  /**
+   * Collects the locations affected by a change.
+   */
+  private static class LocationChangeVisitor implements IResourceDeltaVisitor {
+    private boolean clearAll;
+
+    private final List<URI> fileLocations = new ArrayList<URI>();
+
+    private final List<URI> folderLocations = new ArrayList<URI>();
+
+    @Override
+    public boolean visit(IResourceDelta delta) {
+      if (clearAll) {
+        return false;
+      }
+
+      IResource resource = delta.getResource();
+      int kind = delta.getKind();
+      switch (resource.getType()) {
+        case IResource.ROOT:
+          return true;
+
+        case IResource.PROJECT:
+          // The project's linked resources may be anywhere
+          if (kind != IResourceDelta.CHANGED
+              || (delta.getFlags() & (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION)) != 0) {
+            clearAll = true;
+            return false;
+          }
+          return true;
+
+        default:
+          if (kind != IResourceDelta.ADDED && kind != IResourceDelta.REMOVED) {
+            return true;
+          }
+
+          URI location = resource.getLocationURI();
+          if (location == null) {
+            clearAll = true;
+          } else if (resource.getType() == IResource.FILE) {
+            fileLocations.add(location);
+          } else {
+            // Covers the files under the folder, which may be a link
+            folderLocations.add(location);
+          }
+          return false;
+      }
+    }
+  }
+
+  private final Map<URI, IFile[]> files = new ConcurrentHashMap<URI, IFile[]>();
+
+  /**
+   * Incremented whenever entries are dropped, so lookups that raced with a
+   * change don't cache their possibly stale result.
+   */
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * Returns the first workspace file at the given location, or
+   * <code>null</code> if there is none.
+   */
+  public IFile findFileForLocationURI(URI location) {
+    IFile[] locationFiles = files.get(location);
+    if (locationFiles == null) {
+      if (files.size() >= MAX_SIZE) {
+        clear();
+      }
+      long lookupGeneration = generation.get();
+      locationFiles = ResourcesPlugin.getWorkspace().getRoot().findFilesForLocationURI(location);
+      if (lookupGeneration == generation.get()) {
+        files.put(location, locationFiles.length > 0 ? locationFiles : NO_FILES);
+      }
+    }
+
+    return locationFiles.length > 0 ? locationFiles[0] : null;
+  }
+
+  @Override
+  public void resourceChanged(IResourceChangeEvent event) {
+    IResourceDelta delta = event.getDelta();
+    if (delta == null || files.isEmpty()) {
+      return;
+    }
+
+    LocationChangeVisitor visitor = new LocationChangeVisitor();
+    try {
+      delta.accept(visitor);
+    } catch (CoreException e) {
+      CorePluginLog.logError(e, "Could not process a resource change for the file location cache");
+      visitor.clearAll = true;
+    }
+
+    if (visitor.clearAll) {
+      clear();
+    } else if (!visitor.fileLocations.isEmpty() || !visitor.folderLocations.isEmpty()) {
+      invalidate(visitor.fileLocations, visitor.folderLocations);
+    }
+  }
+
+  public void startTracking() {
+    ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+  }
+
+  public void stopTracking() {
+    ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+    clear();
+  }
+
+  private void clear() {
+    generation.incrementAndGet();
+    files.clear();
+  }
+
+  /**
+   * Drops the entries for the given file locations, and for the locations in
+   * or under the given folder locations.
+   */
+  private void invalidate(List<URI> fileLocations, List<URI> folderLocations) {
+    generation.incrementAndGet();
+    for (URI fileLocation : fileLocations) {
+      files.remove(fileLocation);
+    }
+
+    if (folderLocations.isEmpty()) {
+      return;
+    }
+    List<String> folderPrefixes = new ArrayList<String>(folderLocations.size());
+    for (URI folderLocation : folderLocations) {
+      String prefix = folderLocation.toString();
+      folderPrefixes.add(prefix.endsWith("/") ? prefix : prefix + "/");
+    }
+    for (Iterator<URI> it = files.keySet().iterator(); it.hasNext();) {
+      String location = it.next().toString();
+      for (String folderPrefix : folderPrefixes) {
+        if (location.startsWith(folderPrefix) || folderPrefix.equals(location + "/")) {
+          it.remove();
+          break;
+        }
+      }
+    }
+  }
+}
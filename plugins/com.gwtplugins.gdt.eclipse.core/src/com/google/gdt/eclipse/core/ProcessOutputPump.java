@@ -0,0 +1,324 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Copies the output of a process to an output stream (typically a console
+ * stream) in chunks rather than line by line.
+ *
+ * One thread drains the process output as fast as the process produces it
+ * into a bounded buffer, so the process never blocks on a slow console.
+ * Another thread writes the buffered output once at least
+ * {@link #DEFAULT_CHUNK_SIZE} bytes are pending or
+ * {@link #DEFAULT_FLUSH_INTERVAL_MILLIS} have passed, flushing once per chunk.
+ * Bytes are passed through unchanged when the input and output charsets are
+ * the same, and converted once per chunk otherwise.
+ *
+ * If the buffer is full, whole lines of output are dropped until the writer
+ * has caught up, and a line saying how many lines were dropped is written in
+ * their place.
+ */
+public class ProcessOutputPump {
+
+  public static final int DEFAULT_CHUNK_SIZE = 32 * 1024;
+
+  public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 100;
+
+  public static final int DEFAULT_MAX_BUFFERED_BYTES = 8 * 1024 * 1024;
+
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  private final int chunkSize;
+
+  /**
+   * Non-null when the output needs converting from the input charset to the
+   * output charset.
+   */
+  private final CharsetDecoder decoder;
+
+  /**
+   * The number of lines dropped since the buffer overflowed, or -1 if output
+   * is not being dropped. Guarded by {@link #lock}.
+   */
+  private long droppedLines = -1;
+
+  /**
+   * Guarded by {@link #lock}.
+   */
+  private boolean endOfInput;
+
+  private final long flushIntervalMillis;
+
+  private final InputStream inputStream;
+
+  private final Object lock = new Object();
+
+  private final int maxBufferedBytes;
+
+  private final Charset outputCharset;
+
+  private final OutputStream outputStream;
+
+  /**
+   * Whether the last output dropped ended in the middle of a line. Guarded by
+   * {@link #lock}.
+   */
+  private boolean partialLineDropped;
+
+  /**
+   * Output read from the process but not written yet. Guarded by
+   * {@link #lock}.
+   */
+  private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+  private Thread readerThread;
+
+  /**
+   * The bytes at the end of the last chunk which did not make up a complete
+   * character, to be decoded with the next chunk. Only used by the writer
+   * thread.
+   */
+  private ByteBuffer undecoded = ByteBuffer.allocate(0);
+
+  private Thread writerThread;
+
+  /**
+   * Creates a pump which passes the process output through unchanged, with the
+   * default chunk size, flush interval and buffer size.
+   */
+  public ProcessOutputPump(InputStream inputStream, OutputStream outputStream) {
+    this(inputStream, outputStream, Charset.defaultCharset(), Charset.defaultCharset(),
+        DEFAULT_CHUNK_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS, DEFAULT_MAX_BUFFERED_BYTES);
+  }
+
+  public ProcessOutputPump(InputStream inputStream, OutputStream outputStream,
+      Charset inputCharset, Charset outputCharset, int chunkSize, long flushIntervalMillis,
+      int maxBufferedBytes) {
+    this.inputStream = inputStream;
+    this.outputStream = outputStream;
+    this.outputCharset = outputCharset;
+    this.chunkSize = chunkSize;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.maxBufferedBytes = maxBufferedBytes;
+    this.decoder = inputCharset.equals(outputCharset) ? null : inputCharset.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  }
+
+  /**
+   * Waits until all of the process output has been read and written.
+   */
+  public void join() throws InterruptedException {
+    readerThread.join();
+    writerThread.join();
+  }
+
+  /**
+   * Starts copying the process output.
+   */
+  public void start() {
+    readerThread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        read();
+      }
+    }, "Process Output Pump");
+    writerThread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        write();
+      }
+    }, "Process Output Writer");
+    readerThread.start();
+    writerThread.start();
+  }
+
+  /**
+   * Appends output read from the process, dropping whole lines if the buffer
+   * is full. Must be called with {@link #lock} held.
+   */
+  private void append(byte[] bytes, int length) {
+    int start = 0;
+    if (droppedLines >= 0) {
+      if (pending.size() > maxBufferedBytes / 2) {
+        droppedLines += countNewlines(bytes, 0, length);
+        partialLineDropped = bytes[length - 1] != '\n';
+        return;
+      }
+
+      // The writer has caught up; resume at the next line
+      int newline = indexOfNewline(bytes, 0, length);
+      if (newline == -1) {
+        return;
+      }
+      droppedLines++;
+      appendDroppedLinesSummary();
+      start = newline + 1;
+    }
+
+    if (pending.size() + length - start > maxBufferedBytes) {
+      // Keep the complete lines that fit, and start dropping after them
+      int end = start;
+      int newline;
+      while ((newline = indexOfNewline(bytes, end, length)) != -1
+          && pending.size() + newline + 1 - start <= maxBufferedBytes) {
+        end = newline + 1;
+      }
+      pending.write(bytes, start, end - start);
+      droppedLines = countNewlines(bytes, end, length);
+      partialLineDropped = bytes[length - 1] != '\n';
+    } else {
+      pending.write(bytes, start, length - start);
+    }
+    lock.notifyAll();
+  }
+
+  /**
+   * Must be called with {@link #lock} held.
+   */
+  private void appendDroppedLinesSummary() {
+    // The summary goes through the same conversion as the process output
+    byte[] summary = ("[... " + droppedLines + " lines of output dropped ...]\n").getBytes(
+        decoder != null ? decoder.charset() : outputCharset);
+    pending.write(summary, 0, summary.length);
+    droppedLines = -1;
+  }
+
+  private int countNewlines(byte[] bytes, int start, int end) {
+    int count = 0;
+    for (int i = start; i < end; i++) {
+      if (bytes[i] == '\n') {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private int indexOfNewline(byte[] bytes, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (bytes[i] == '\n') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void read() {
+    byte[] buffer = new byte[READ_BUFFER_SIZE];
+    try {
+      int bytesRead;
+      while ((bytesRead = inputStream.read(buffer)) != -1) {
+        synchronized (lock) {
+          append(buffer, bytesRead);
+        }
+      }
+    } catch (IOException e) {
+      // The "Stream closed" exception is common when we destroy the
+      // process (e.g. when the user requests to terminate a GWT compile)
+      if (e.getMessage() == null || !e.getMessage().contains("Stream closed")) {
+        CorePluginLog.logError(e);
+      }
+    } finally {
+      synchronized (lock) {
+        if (droppedLines >= 0) {
+          if (partialLineDropped) {
+            droppedLines++;
+          }
+          appendDroppedLinesSummary();
+        }
+        endOfInput = true;
+        lock.notifyAll();
+      }
+    }
+  }
+
+  private void write() {
+    ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+    try {
+      while (true) {
+        boolean done;
+        synchronized (lock) {
+          while (pending.size() == 0 && !endOfInput) {
+            lock.wait();
+          }
+
+          // Give the process a chance to fill the chunk
+          long deadline = System.currentTimeMillis() + flushIntervalMillis;
+          long remaining = flushIntervalMillis;
+          while (pending.size() < chunkSize && !endOfInput && remaining > 0) {
+            lock.wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+          }
+
+          // Swap the buffers, so the reader is not held up while we write
+          ByteArrayOutputStream filled = pending;
+          pending = chunk;
+          chunk = filled;
+          done = endOfInput && pending.size() == 0;
+        }
+
+        writeChunk(chunk, done);
+        chunk.reset();
+
+        if (done) {
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException e) {
+      CorePluginLog.logError(e);
+    }
+  }
+
+  private void writeChunk(ByteArrayOutputStream chunk, boolean endOfInput) throws IOException {
+    if (decoder == null) {
+      if (chunk.size() > 0) {
+        chunk.writeTo(outputStream);
+        outputStream.flush();
+      }
+      return;
+    }
+
+    if (chunk.size() == 0 && !endOfInput) {
+      return;
+    }
+
+    ByteBuffer in = ByteBuffer.allocate(undecoded.remaining() + chunk.size());
+    in.put(undecoded).put(chunk.toByteArray()).flip();
+    CharBuffer chars = CharBuffer.allocate((int) (in.remaining() * decoder.maxCharsPerByte()) + 1);
+    decoder.decode(in, chars, endOfInput);
+    if (endOfInput) {
+      decoder.flush(chars);
+    }
+    // Keep an incomplete character at the end of the chunk for the next one
+    undecoded = in;
+
+    chars.flip();
+    ByteBuffer bytes = outputCharset.encode(chars);
+    outputStream.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+    outputStream.flush();
+  }
+}
@@ -386,7 +386,7 @@ public class ProcessUtilities {
     }
 
     Process process = null;
-    Thread t = null;
+    ProcessOutputPump pump = null;
     int processExitCode = -1;
 
     try {
@@ -395,36 +395,10 @@ public class ProcessUtilities {
         processReceiver.setProcess(process);
       }
 
-      // Local class to read the output of the process and write it to the
-      // output stream
-      class OutputPump implements Runnable {
-
-        Process process;
-
-        OutputPump(Process p) {
-          process = p;
-        }
-
-        @Override
-        public void run() {
-          BufferedReader processReader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-          PrintWriter outputWriter = new PrintWriter(outputStream, true);
-          try {
-            String line = null;
-            while ((line = processReader.readLine()) != null) {
-              outputWriter.println(line);
-            }
-          } catch (IOException e) {
-            // The "Stream closed" exception is common when we destroy the
-            // process (e.g. when the user requests to terminate a GWT compile)
-            if (!e.getMessage().contains("Stream closed")) {
-              CorePluginLog.logError(e);
-            }
-          }
-        }
-      }
-      t = new Thread(new OutputPump(process), "Process Output Pump");
-      t.start();
+      // Copy the output of the process to the output stream in chunks, so a
+      // chatty process is not slowed down by flushing the console per line
+      pump = new ProcessOutputPump(process.getInputStream(), outputStream);
+      pump.start();
 
       // Wait for process to complete
       processExitCode = process.waitFor();
@@ -438,10 +412,10 @@ public class ProcessUtilities {
       // Rethrow the original exception
       throw ie;
     } finally {
-      if (t != null) {
-        // Wait for this thread to complete before returning from the method.
+      if (pump != null) {
+        // Wait for the pump to complete before returning from the method.
         try {
-          t.join();
+          pump.join();
           // Close all of the process' streams, and destroy the process
           cleanupProcess(process);
         } catch (InterruptedException e) {
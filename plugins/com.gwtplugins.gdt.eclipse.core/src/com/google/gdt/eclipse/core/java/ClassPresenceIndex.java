@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core.java;
+
+import com.google.gdt.eclipse.core.CorePluginLog;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Answers whether a class is on a classpath without creating a class loader,
+ * by looking for its class file in the classpath's folders and jars.
+ *
+ * The names of the class files in each jar are read once and cached, keyed by
+ * the jar's path, and dropped when the jar's modification time or size
+ * changes. Folders (e.g. output folders) change all the time, so they are
+ * checked directly, which only costs a file system lookup.
+ */
+public enum ClassPresenceIndex {
+  INSTANCE;
+
+  /**
+   * The class files in a jar, as it was when they were read.
+   */
+  private static final class JarEntries {
+    private final Set<String> classFileNames;
+    private final long lastModified;
+    private final long length;
+
+    private JarEntries(long lastModified, long length, Set<String> classFileNames) {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.classFileNames = classFileNames;
+    }
+  }
+
+  /**
+   * The cache is cleared when it grows larger than this.
+   */
+  private static final int MAX_CACHED_JARS = 500;
+
+  private static final String CLASS_FILE_EXTENSION = ".class";
+
+  /**
+   * Returns the path of the class file of a class, e.g. "com/example/Foo$Bar.class".
+   *
+   * @param className the binary name of the class, e.g. "com.example.Foo$Bar"
+   */
+  private static String toClassFileName(String className) {
+    return className.replace('.', '/') + CLASS_FILE_EXTENSION;
+  }
+
+  private final Map<String, JarEntries> jars = new ConcurrentHashMap<String, JarEntries>();
+
+  /**
+   * Returns whether the class is on the classpath.
+   *
+   * @param classpath the file system paths of the classpath's jars and folders
+   * @param className the binary name of the class, as given to
+   *          {@link Class#forName(String)}
+   */
+  public boolean exists(String[] classpath, String className) {
+    String classFileName = toClassFileName(className);
+    for (String path : classpath) {
+      if (contains(new File(path), classFileName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @see #exists(String[], String)
+   */
+  public boolean exists(Iterable<File> classpath, String className) {
+    String classFileName = toClassFileName(className);
+    for (File file : classpath) {
+      if (contains(file, classFileName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the number of jars whose class files are cached. Used by tests.
+   */
+  int getCachedJarCount() {
+    return jars.size();
+  }
+
+  private boolean contains(File file, String classFileName) {
+    if (file.isDirectory()) {
+      return new File(file, classFileName).isFile();
+    }
+
+    long lastModified = file.lastModified();
+    if (lastModified == 0) {
+      // Doesn't exist, or can't be read
+      return false;
+    }
+
+    String path = file.getAbsolutePath();
+    long length = file.length();
+    JarEntries entries = jars.get(path);
+    if (entries == null || entries.lastModified != lastModified
+        || entries.length != length) {
+      if (jars.size() >= MAX_CACHED_JARS) {
+        jars.clear();
+      }
+      entries = new JarEntries(lastModified, length, readClassFileNames(file));
+      jars.put(path, entries);
+    }
+    return entries.classFileNames.contains(classFileName);
+  }
+
+  private Set<String> readClassFileNames(File file) {
+    ZipFile zipFile = null;
+    try {
+      zipFile = new ZipFile(file);
+      Set<String> classFileNames = new HashSet<String>();
+      for (Enumeration<? extends ZipEntry> e = zipFile.entries(); e.hasMoreElements();) {
+        String name = e.nextElement().getName();
+        if (name.endsWith(CLASS_FILE_EXTENSION)) {
+          classFileNames.add(name);
+        }
+      }
+      return classFileNames;
+    } catch (IOException e) {
+      CorePluginLog.logWarning(e, "Could not read the classpath entry " + file.getAbsolutePath());
+      return Collections.emptySet();
+    } finally {
+      if (zipFile != null) {
+        try {
+          zipFile.close();
+        } catch (IOException e) {
+          // Ignore
+        }
+      }
+    }
+  }
+}
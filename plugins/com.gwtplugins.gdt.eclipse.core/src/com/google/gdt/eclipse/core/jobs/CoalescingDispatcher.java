@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core.jobs;
+
+import com.google.gdt.eclipse.core.CorePluginLog;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Turns frequent triggers (e.g. one per project build) into infrequent work
+ * done on a single background job.
+ *
+ * Triggers arriving within the debounce delay of each other are coalesced, and
+ * the work is done at most once per minimum interval, with the number of
+ * triggers it covers. {@link #trigger()} only updates a counter and a flag, so
+ * it is cheap enough to call from hot paths.
+ */
+public class CoalescingDispatcher {
+
+  /**
+   * The source of the current time, which tests replace.
+   */
+  public interface Clock {
+    long currentTimeMillis();
+  }
+
+  /**
+   * Does the work.
+   */
+  public interface Sink {
+    /**
+     * @param triggerCount the number of triggers since the work was last done
+     */
+    void dispatch(int triggerCount);
+  }
+
+  public static final Clock SYSTEM_CLOCK = new Clock() {
+    @Override
+    public long currentTimeMillis() {
+      return System.currentTimeMillis();
+    }
+  };
+
+  private final Clock clock;
+
+  private final long debounceMillis;
+
+  private final Job job;
+
+  /**
+   * When the work was last done, or -1 if it hasn't been done yet. Only
+   * accessed from the job.
+   */
+  private long lastDispatchMillis = -1;
+
+  private final long minIntervalMillis;
+
+  private final AtomicInteger pendingTriggers = new AtomicInteger();
+
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  private final Sink sink;
+
+  public CoalescingDispatcher(String jobName, Sink sink, Clock clock, long debounceMillis,
+      long minIntervalMillis) {
+    this.sink = sink;
+    this.clock = clock;
+    this.debounceMillis = debounceMillis;
+    this.minIntervalMillis = minIntervalMillis;
+    this.job = new Job(jobName) {
+      @Override
+      protected IStatus run(IProgressMonitor monitor) {
+        long delay = dispatch();
+        if (delay >= 0) {
+          schedule(delay);
+        } else {
+          scheduled.set(false);
+          // A trigger may have come in after the dispatch, but before the flag
+          // was cleared
+          if (pendingTriggers.get() > 0) {
+            scheduleJob();
+          }
+        }
+        return Status.OK_STATUS;
+      }
+    };
+    job.setSystem(true);
+  }
+
+  /**
+   * Cancels any pending work.
+   */
+  public void stop() {
+    job.cancel();
+  }
+
+  /**
+   * Requests the work to be done.
+   */
+  public void trigger() {
+    pendingTriggers.incrementAndGet();
+    scheduleJob();
+  }
+
+  /**
+   * Does the work if any triggers are pending and the minimum interval has
+   * passed since it was last done.
+   *
+   * @return the delay until the work can be done, if it is pending but the
+   *         minimum interval has not passed yet, otherwise -1
+   */
+  long dispatch() {
+    if (pendingTriggers.get() == 0) {
+      return -1;
+    }
+
+    long now = clock.currentTimeMillis();
+    long intervalMillis = getMinIntervalMillis();
+    if (lastDispatchMillis >= 0 && now - lastDispatchMillis < intervalMillis) {
+      return intervalMillis - (now - lastDispatchMillis);
+    }
+
+    lastDispatchMillis = now;
+    try {
+      sink.dispatch(pendingTriggers.getAndSet(0));
+    } catch (Exception e) {
+      CorePluginLog.logError(e);
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the minimum interval between two dispatches. It is read each time
+   * the work is due, so subclasses can return a value which changes while the
+   * dispatcher runs.
+   */
+  protected long getMinIntervalMillis() {
+    return minIntervalMillis;
+  }
+
+  private void scheduleJob() {
+    if (scheduled.compareAndSet(false, true)) {
+      job.schedule(debounceMillis);
+    }
+  }
+}
@@ -22,26 +22,74 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
+import java.util.Locale;
 
 /**
  * DownloadRunnable downloads the supplied URL to the file identified in target.
  * This runnable is authored to be included as but one step in a larger Job, so
  * the done() method on the monitor is not called.
- * 
- * The suppression of restriction warnings addresses the use of IResponse in the
- * org.eclipse.update.internal.core.connection package. Consider creating an
- * equivalent in a more available package.
+ * <p>
+ * The download is written to a temporary file next to the target, which is
+ * renamed to the target once the download is complete (and its checksum, if
+ * one is expected, verified). If a download is interrupted, the temporary file
+ * is kept, and the next run resumes it with a range request when the server
+ * supports them. A download is only resumed if the server identified the file
+ * with a strong ETag or a Last-Modified date, which is sent back in an If-Range
+ * header so a file which changed meanwhile is downloaded again, or if a
+ * checksum is expected.
  */
-@SuppressWarnings("restriction")
 public class DownloadRunnable implements IRunnableWithProgressAndStatus {
 
+  private static final int BUFSIZE = 64 * 1024;
+
+  private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
+  /**
+   * The minimum time between two progress updates.
+   */
+  private static final long PROGRESS_UPDATE_MILLIS = 100;
+
+  private static final String PARTIAL_FILE_SUFFIX = ".part";
+
+  private static final String VALIDATOR_FILE_SUFFIX = ".part.validator";
+
+  /**
+   * Returns the strong ETag or the Last-Modified date of the response, which
+   * can be sent in an If-Range header, or null.
+   */
+  private static String getValidator(URLConnection connection) {
+    String etag = connection.getHeaderField("ETag");
+    if (etag != null && !etag.startsWith("W/")) {
+      return etag;
+    }
+    return connection.getHeaderField("Last-Modified");
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      hex.append(String.format("%02x", b & 0xff));
+    }
+    return hex.toString();
+  }
+
+  private final String checksumAlgorithm;
+  private final String expectedChecksum;
   private URL url;
   private File target;
 
@@ -54,8 +102,33 @@ public class DownloadRunnable implements IRunnableWithProgressAndStatus {
    *          create it.
    */
   public DownloadRunnable(URL url, File target) {
+    this(url, target, null, null);
+  }
+
+  /**
+   * Construction of a DownloadRunnable which verifies the checksum of the
+   * downloaded file.
+   * 
+   * @param url the source for the download
+   * @param target the target file for the download
+   * @param checksumAlgorithm the {@link MessageDigest} algorithm of the
+   *          checksum, e.g. "SHA-1", or null to skip the verification
+   * @param expectedChecksum the expected checksum, in hexadecimal
+   */
+  public DownloadRunnable(URL url, File target, String checksumAlgorithm,
+      String expectedChecksum) {
     this.url = url;
     this.target = target;
+    this.checksumAlgorithm = checksumAlgorithm;
+    this.expectedChecksum = expectedChecksum;
+  }
+
+  /**
+   * Returns the temporary file the download is written to until it is
+   * complete.
+   */
+  public File getPartialFile() {
+    return new File(target.getPath() + PARTIAL_FILE_SUFFIX);
   }
 
   /**
@@ -70,58 +143,125 @@ public class DownloadRunnable implements IRunnableWithProgressAndStatus {
    *         severity of ERROR.
    */
   public IStatus run(IProgressMonitor monitor) {
+    File partialFile = getPartialFile();
     InputStream input = null;
     FileOutputStream output = null;
     IStatus jobStatus = Status.OK_STATUS;
-    byte[] b = new byte[1024];
-    int bytesRead;
 
     try {
-      HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-      input = url.openStream();
-      long totalBytesRead = 0L;
-      int responseStatusCode = connection.getResponseCode();
-      if (responseStatusCode >= HttpURLConnection.HTTP_BAD_REQUEST) { // 400
-        jobStatus = new Status(Status.ERROR, CorePlugin.PLUGIN_ID,
-            MessageFormat.format("Remote ServerError: {0} ({1})",
-                responseStatusCode, connection.getResponseMessage()));
+      long offset = partialFile.isFile() ? partialFile.length() : 0;
+      String validator = offset > 0 ? readValidator() : null;
+      if (validator == null && expectedChecksum == null) {
+        // Nothing would tell whether the partial file is a prefix of the
+        // current remote file
+        offset = 0;
       }
-      long contentLength = connection.getContentLength();
 
-      output = new FileOutputStream(target);
+      URLConnection connection = openConnection(offset, validator);
+      if (connection instanceof HttpURLConnection) {
+        HttpURLConnection httpConnection = (HttpURLConnection) connection;
+        int responseStatusCode = httpConnection.getResponseCode();
+        if (offset > 0 && responseStatusCode == HTTP_RANGE_NOT_SATISFIABLE) {
+          // The partial file is not a prefix of the file anymore, start over
+          httpConnection.disconnect();
+          partialFile.delete();
+          offset = 0;
+          httpConnection = (HttpURLConnection) openConnection(offset, null);
+          responseStatusCode = httpConnection.getResponseCode();
+        }
 
-      monitor.beginTask("Downloading " + url.toString(), (int) contentLength);
+        if (responseStatusCode >= HttpURLConnection.HTTP_BAD_REQUEST) { // 400
+          return new Status(Status.ERROR, CorePlugin.PLUGIN_ID,
+              MessageFormat.format("Remote ServerError: {0} ({1})",
+                  responseStatusCode, httpConnection.getResponseMessage()));
+        }
 
-      while (jobStatus == Status.OK_STATUS) {
-        if (contentLength > 0 && totalBytesRead >= contentLength) {
-          break;
+        if (responseStatusCode != HttpURLConnection.HTTP_PARTIAL
+            || !isContentRangeFrom(httpConnection, offset)) {
+          // The server sent the whole file, e.g. because it changed
+          offset = 0;
         }
+        connection = httpConnection;
+      } else {
+        offset = 0;
+      }
 
-        bytesRead = input.read(b);
+      if (offset == 0) {
+        writeValidator(getValidator(connection));
+      }
 
-        if (bytesRead == -1) {
-          break;
-        }
-        
-        output.write(b, 0, bytesRead);
+      long contentLength = connection.getContentLengthLong();
+      long totalLength = contentLength >= 0 ? offset + contentLength : -1;
+      input = connection.getInputStream();
+      output = new FileOutputStream(partialFile, offset > 0);
+
+      // The monitor counts kilobytes, so files over 2 GB fit in an int
+      monitor.beginTask("Downloading " + url.toString(), totalLength >= 0
+          ? (int) (totalLength / 1024) : IProgressMonitor.UNKNOWN);
+      monitor.worked((int) (offset / 1024));
 
+      long totalBytesRead = offset;
+      long reportedBytes = offset;
+      long lastProgressUpdate = System.currentTimeMillis();
+      byte[] b = new byte[BUFSIZE];
+      int bytesRead;
+      while ((bytesRead = input.read(b)) != -1) {
+        output.write(b, 0, bytesRead);
         totalBytesRead += bytesRead;
-        monitor.worked(bytesRead);
 
         if (monitor.isCanceled()) {
-          jobStatus = Status.CANCEL_STATUS;
-          break;
+          return Status.CANCEL_STATUS;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - lastProgressUpdate >= PROGRESS_UPDATE_MILLIS) {
+          monitor.worked((int) (totalBytesRead / 1024 - reportedBytes / 1024));
+          reportedBytes = totalBytesRead;
+          lastProgressUpdate = now;
         }
       }
+      monitor.worked((int) (totalBytesRead / 1024 - reportedBytes / 1024));
+
+      if (totalLength >= 0 && totalBytesRead < totalLength) {
+        throw new IOException(MessageFormat.format(
+            "Connection closed after {0} of {1} bytes", totalBytesRead,
+            totalLength));
+      }
+
+      closeStreams(input, output);
+      input = null;
+      output = null;
+
+      if (expectedChecksum != null && checksumAlgorithm != null) {
+        String checksum = computeChecksum(partialFile);
+        if (!checksum.equalsIgnoreCase(expectedChecksum)) {
+          // Don't resume a corrupted download
+          partialFile.delete();
+          getValidatorFile().delete();
+          return new Status(Status.ERROR, CorePlugin.PLUGIN_ID,
+              MessageFormat.format(
+                  "The {0} checksum of {1} is {2}, but {3} was expected",
+                  checksumAlgorithm, url.toExternalForm(), checksum,
+                  expectedChecksum.toLowerCase(Locale.ENGLISH)));
+        }
+      }
+
+      moveToTarget(partialFile);
+      getValidatorFile().delete();
     } catch (MalformedURLException e) {
       jobStatus = new Status(Status.ERROR, CorePlugin.PLUGIN_ID,
           "Malformed URL: " + url.toExternalForm(), e);
     } catch (IOException e) {
+      // The partial file is kept, to resume the download
       jobStatus = new Status(Status.ERROR, CorePlugin.PLUGIN_ID,
           "IO error while downloading " + url.toExternalForm(), e);
+    } catch (NoSuchAlgorithmException e) {
+      jobStatus = new Status(Status.ERROR, CorePlugin.PLUGIN_ID,
+          "Unknown checksum algorithm " + checksumAlgorithm, e);
+    } finally {
+      closeStreams(input, output);
     }
 
-    closeStreams(input, output);
     return jobStatus;
   }
 
@@ -147,4 +287,92 @@ public class DownloadRunnable implements IRunnableWithProgressAndStatus {
       }
     }
   }
+
+  private String computeChecksum(File file) throws IOException,
+      NoSuchAlgorithmException {
+    MessageDigest digest = MessageDigest.getInstance(checksumAlgorithm);
+    InputStream input = new FileInputStream(file);
+    try {
+      byte[] b = new byte[BUFSIZE];
+      int bytesRead;
+      while ((bytesRead = input.read(b)) != -1) {
+        digest.update(b, 0, bytesRead);
+      }
+    } finally {
+      input.close();
+    }
+    return toHex(digest.digest());
+  }
+
+  private File getValidatorFile() {
+    return new File(target.getPath() + VALIDATOR_FILE_SUFFIX);
+  }
+
+  /**
+   * Returns whether the content of a partial response starts at the offset.
+   */
+  private boolean isContentRangeFrom(HttpURLConnection connection, long offset) {
+    // e.g. "bytes 1000-4999/5000"
+    String contentRange = connection.getHeaderField("Content-Range");
+    return contentRange != null
+        && contentRange.trim().startsWith("bytes " + offset + "-");
+  }
+
+  private void moveToTarget(File partialFile) throws IOException {
+    try {
+      Files.move(partialFile.toPath(), target.toPath(),
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(partialFile.toPath(), target.toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Opens a connection requesting the file from the offset, if it is still the
+   * file identified by the validator.
+   */
+  private URLConnection openConnection(long offset, String validator)
+      throws IOException {
+    URLConnection connection = url.openConnection();
+    if (offset > 0 && connection instanceof HttpURLConnection) {
+      connection.setRequestProperty("Range", "bytes=" + offset + "-");
+      if (validator != null) {
+        connection.setRequestProperty("If-Range", validator);
+      }
+    }
+    return connection;
+  }
+
+  /**
+   * Returns the validator of the file the partial file is a prefix of, or
+   * null.
+   */
+  private String readValidator() {
+    File validatorFile = getValidatorFile();
+    if (!validatorFile.isFile()) {
+      return null;
+    }
+    try {
+      String validator = new String(Files.readAllBytes(validatorFile.toPath()),
+          StandardCharsets.UTF_8).trim();
+      return validator.length() > 0 ? validator : null;
+    } catch (IOException e) {
+      CorePluginLog.logWarning(e, "Could not read " + validatorFile);
+      return null;
+    }
+  }
+
+  /**
+   * Records the validator of the file being downloaded from the start, or
+   * deletes the previous one if there is none.
+   */
+  private void writeValidator(String validator) throws IOException {
+    File validatorFile = getValidatorFile();
+    if (validator == null) {
+      validatorFile.delete();
+    } else {
+      Files.write(validatorFile.toPath(), validator.getBytes(StandardCharsets.UTF_8));
+    }
+  }
 }
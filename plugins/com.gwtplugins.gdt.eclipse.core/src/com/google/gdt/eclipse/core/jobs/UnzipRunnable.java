@@ -21,13 +21,29 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
@@ -36,17 +52,44 @@ import java.util.zip.ZipFile;
  * UnzipRunnable extracts the supplied archive file to the directory identified
  * in targetDir. This runnable is authored to be included as but one step in a
  * larger Job, so the done() method on the monitor is not called.
+ * <p>
+ * The directories are created first, each once, and the files are then
+ * extracted concurrently, copying through large buffers. When several entries
+ * extract to the same file, only the last one is extracted. The modification
+ * times of the entries are preserved.
  */
 public class UnzipRunnable extends AbstractExtractRunnable implements
     IRunnableWithProgressAndStatus {
 
-  private static final int BUFSIZE = 2048;
+  private static final int BUFSIZE = 64 * 1024;
+
+  private static final int MAX_EXTRACT_THREADS = 4;
+
+  /**
+   * The minimum time between two updates of the extraction rate shown by the
+   * monitor.
+   */
+  private static final long RATE_UPDATE_MILLIS = 500;
+
+  private static final ThreadLocal<byte[]> buffers = new ThreadLocal<byte[]>() {
+    @Override
+    protected byte[] initialValue() {
+      return new byte[BUFSIZE];
+    }
+  };
 
   /**
    * Convenience method testing the provided file to determine whether is
-   * appears to be a valid zip archive.
+   * appears to be a valid zip archive. Archives which start with a zip
+   * signature are accepted without reading their central directory, which is
+   * read again when they are extracted.
    */
   private static boolean isZip(File file) throws IOException {
+    if (hasZipSignature(file)) {
+      return true;
+    }
+
+    // Zip archives may start with something else, e.g. an executable stub
     try {
       (new ZipFile(file)).close();
     } catch (ZipException e) {
@@ -56,6 +99,29 @@ public class UnzipRunnable extends AbstractExtractRunnable implements
     return true;
   }
 
+  private static boolean hasZipSignature(File file) throws IOException {
+    InputStream is = new FileInputStream(file);
+    try {
+      byte[] signature = new byte[4];
+      int length = 0;
+      int numBytesRead;
+      while (length < signature.length
+          && (numBytesRead = is.read(signature, length, signature.length - length)) != -1) {
+        length += numBytesRead;
+      }
+
+      // A local file header, or the end of central directory of an empty zip
+      return length == signature.length && signature[0] == 'P' && signature[1] == 'K'
+          && ((signature[2] == 3 && signature[3] == 4) || (signature[2] == 5 && signature[3] == 6));
+    } finally {
+      is.close();
+    }
+  }
+
+  private final AtomicLong extractedBytes = new AtomicLong();
+
+  private long extractionMillis;
+
   /**
    * Constructor for an UnzipRunnable takes an archive file and a target
    * directory. On run it will extract the archive.
@@ -77,6 +143,21 @@ public class UnzipRunnable extends AbstractExtractRunnable implements
     }
   }
 
+  /**
+   * Returns the number of bytes extracted per second by the last run, or 0 if
+   * it hasn't run.
+   */
+  public long getBytesPerSecond() {
+    return extractedBytes.get() * 1000 / Math.max(extractionMillis, 1);
+  }
+
+  /**
+   * Returns the number of uncompressed bytes written by the last run.
+   */
+  public long getExtractedBytes() {
+    return extractedBytes.get();
+  }
+
   /**
    * Executes the unzipRunnable using the provided monitor to update the user
    * and provide cancel capabilities.
@@ -91,52 +172,76 @@ public class UnzipRunnable extends AbstractExtractRunnable implements
    */
   public IStatus run(IProgressMonitor monitor) throws InvocationTargetException {
     ZipFile zipFile = null;
-    FileOutputStream fos = null;
-    BufferedOutputStream dest = null;
-    BufferedInputStream is = null;
+    ExecutorService executor = null;
     jobStatus = Status.OK_STATUS;
+    extractedBytes.set(0);
+    long startTime = System.currentTimeMillis();
 
     try {
       zipFile = new ZipFile(archive);
       monitor.beginTask("Uncompressing " + archive.getName(), zipFile.size());
 
+      // Create the directories up front, so the files can be extracted in any
+      // order, and each directory is only created once
+      Set<File> createdDirs = new HashSet<File>();
+      Map<File, ZipEntry> dirEntries = new LinkedHashMap<File, ZipEntry>();
+      Map<File, ZipEntry> fileEntries = new LinkedHashMap<File, ZipEntry>();
+      Path targetPath = targetDir.toPath().toAbsolutePath().normalize();
       Enumeration<? extends ZipEntry> entries = zipFile.entries();
-
       while (entries.hasMoreElements()) {
         ZipEntry zipEntry = entries.nextElement();
+        File destFile = getDestFile(targetPath, zipEntry);
+        if (zipEntry.isDirectory()) {
+          mkdirs(destFile, createdDirs);
+          dirEntries.put(destFile, zipEntry);
+          monitor.worked(1);
+        } else {
+          mkdirs(destFile.getParentFile(), createdDirs);
+          // The last entry for a file wins, as when extracting sequentially
+          if (fileEntries.put(destFile, zipEntry) != null) {
+            monitor.worked(1);
+          }
+        }
+      }
 
-        String currentEntry = zipEntry.getName();
-        File destFile = new File(targetDir, currentEntry);
-        File destinationParent = destFile.getParentFile();
-
-        // write the current file to disk
-        if (!zipEntry.isDirectory()) {
-          destinationParent.mkdirs();
-
-          is = new BufferedInputStream(zipFile.getInputStream(zipEntry));
-
-          int numBytesRead;
-          byte bytes[] = new byte[BUFSIZE];
+      int threads = Math.max(1,
+          Math.min(Runtime.getRuntime().availableProcessors(), MAX_EXTRACT_THREADS));
+      executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+          Thread thread = new Thread(r, "Uncompressing " + archive.getName());
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
 
-          fos = new FileOutputStream(destFile);
-          dest = new BufferedOutputStream(fos, BUFSIZE);
+      CompletionService<Void> completionService = new ExecutorCompletionService<Void>(executor);
+      for (Map.Entry<File, ZipEntry> fileEntry : fileEntries.entrySet()) {
+        completionService.submit(newExtractFile(zipFile, fileEntry.getValue(), fileEntry.getKey()));
+      }
 
-          while ((numBytesRead = is.read(bytes, 0, BUFSIZE)) != -1) {
-            dest.write(bytes, 0, numBytesRead);
-          }
-          dest.flush();
-        } else {
-          // If it's a directory, build all the directories up to that point.
-          destFile.mkdirs();
-        }
+      long lastRateUpdate = startTime;
+      for (int i = 0; i < fileEntries.size(); i++) {
+        completionService.take().get();
         monitor.worked(1);
+
         if (monitor.isCanceled()) {
           jobStatus = Status.CANCEL_STATUS;
           break;
         }
+
+        long now = System.currentTimeMillis();
+        if (now - lastRateUpdate >= RATE_UPDATE_MILLIS) {
+          monitor.subTask(formatRate(extractedBytes.get(), now - startTime));
+          lastRateUpdate = now;
+        }
       }
 
       if (!monitor.isCanceled()) {
+        // Writing the files changed the times of their directories
+        for (Map.Entry<File, ZipEntry> dirEntry : dirEntries.entrySet()) {
+          setLastModified(dirEntry.getKey(), dirEntry.getValue());
+        }
         jobStatus = Status.OK_STATUS;
       }
     } catch (ZipException ze) {
@@ -147,26 +252,111 @@ public class UnzipRunnable extends AbstractExtractRunnable implements
       String errormsg = errorMessage();
       jobStatus = new Status(Status.ERROR, CorePlugin.PLUGIN_ID, errormsg);
       CorePluginLog.logError(ioe, errormsg);
+    } catch (ExecutionException e) {
+      String errormsg = e.getCause() instanceof ZipException ? errorMessage("It may be corrupted?")
+          : errorMessage();
+      jobStatus = new Status(Status.ERROR, CorePlugin.PLUGIN_ID, errormsg);
+      CorePluginLog.logError(e.getCause(), errormsg);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      jobStatus = Status.CANCEL_STATUS;
     } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+        try {
+          // The zip file can't be closed while entries are being read
+          executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+
       try {
         if (zipFile != null) {
           zipFile.close();
         }
-        if (is != null) {
-          is.close();
-        }
-        if (dest != null) {
-          dest.close();
-        }
       } catch (IOException ioe) {
         String errormsg = errorMessage();
         jobStatus = new Status(Status.ERROR, CorePlugin.PLUGIN_ID, errormsg);
         CorePluginLog.logError(ioe, errormsg);
       }
+      extractionMillis = System.currentTimeMillis() - startTime;
     }
     return jobStatus;
   }
 
+  /**
+   * Returns the file an entry is extracted to.
+   * 
+   * @throws ZipException if the entry's name, e.g. "../x", would put it outside
+   *           of the target directory
+   */
+  private File getDestFile(Path targetPath, ZipEntry zipEntry) throws ZipException {
+    Path destPath = targetPath.resolve(zipEntry.getName()).normalize();
+    if (!destPath.startsWith(targetPath)) {
+      throw new ZipException("The entry " + zipEntry.getName()
+          + " is outside of the target directory");
+    }
+    return destPath.toFile();
+  }
+
+  private String formatRate(long bytes, long millis) {
+    return String.format(Locale.ENGLISH, "%.1f MB extracted (%.1f MB/s)", bytes / (1024.0 * 1024.0),
+        bytes / (1024.0 * 1024.0) * 1000 / Math.max(millis, 1));
+  }
+
+  /**
+   * Creates the directory and its parents, unless it was already created.
+   */
+  private void mkdirs(File dir, Set<File> createdDirs) throws IOException {
+    if (createdDirs.add(dir) && !dir.mkdirs() && !dir.isDirectory()) {
+      throw new IOException("Could not create the directory " + dir.getAbsolutePath());
+    }
+  }
+
+  /**
+   * Returns a task extracting the entry to the given file, as returned by
+   * {@link #getDestFile(Path, ZipEntry)}.
+   */
+  private Callable<Void> newExtractFile(final ZipFile zipFile, final ZipEntry zipEntry,
+      final File destFile) {
+    return new Callable<Void>() {
+      @Override
+      public Void call() throws IOException {
+        byte[] bytes = buffers.get();
+
+        InputStream is = zipFile.getInputStream(zipEntry);
+        try {
+          OutputStream dest = new FileOutputStream(destFile);
+          try {
+            int numBytesRead;
+            while ((numBytesRead = is.read(bytes, 0, bytes.length)) != -1) {
+              if (Thread.currentThread().isInterrupted()) {
+                throw new IOException("Extraction of " + zipEntry.getName() + " was interrupted");
+              }
+              dest.write(bytes, 0, numBytesRead);
+              extractedBytes.addAndGet(numBytesRead);
+            }
+          } finally {
+            dest.close();
+          }
+        } finally {
+          is.close();
+        }
+
+        setLastModified(destFile, zipEntry);
+        return null;
+      }
+    };
+  }
+
+  private void setLastModified(File file, ZipEntry zipEntry) {
+    long time = zipEntry.getTime();
+    if (time != -1) {
+      file.setLastModified(time);
+    }
+  }
+
   /**
    * Convenience method creates readable error message with no explanation.
    */
@@ -0,0 +1,299 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.core.launch;
+
+import com.google.gdt.eclipse.core.CorePluginLog;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationListener;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes the launch configurations by the name of their Java project, so
+ * finding the launch configurations of a project doesn't go through all the
+ * launch configurations of the workspace and read their attributes.
+ *
+ * The index is built on the first lookup, and is kept up to date from launch
+ * configuration events from then on. Once {@link #stopTracking()} is called
+ * (when the plug-in stops), the index is dropped for good, and lookups go
+ * through all the launch configurations.
+ */
+public enum LaunchConfigurationIndex implements ILaunchConfigurationListener {
+  INSTANCE;
+
+  /**
+   * What is indexed about a launch configuration.
+   */
+  private static final class Entry {
+    private final String projectName;
+
+    /**
+     * The type id, or null if the type isn't known (e.g. its plug-in isn't
+     * installed).
+     */
+    private final String typeId;
+
+    private Entry(String projectName, String typeId) {
+      this.projectName = projectName;
+      this.typeId = typeId;
+    }
+  }
+
+  private static Entry createEntry(ILaunchConfiguration launchConfig) {
+    String projectName = "";
+    String typeId = null;
+    try {
+      projectName = launchConfig.getAttribute(
+          IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, "").trim();
+      typeId = launchConfig.getType().getIdentifier();
+    } catch (CoreException e) {
+      // Index what could be read; a launch configuration without a project
+      // isn't returned by any lookup
+    }
+    return new Entry(projectName, typeId);
+  }
+
+  private static boolean matches(Entry entry, String projectName,
+      Collection<String> typeIds) {
+    return entry.projectName.equals(projectName)
+        && (typeIds.isEmpty() || typeIds.contains(entry.typeId));
+  }
+
+  /**
+   * The indexed launch configurations of each project, keyed by project name.
+   * Null until the index is built. Guarded by this.
+   */
+  private Map<String, Map<ILaunchConfiguration, Entry>> launchConfigsByProject;
+
+  /**
+   * The project name each launch configuration is indexed under. Guarded by
+   * this.
+   */
+  private final Map<ILaunchConfiguration, String> projectNames = new HashMap<ILaunchConfiguration, String>();
+
+  /**
+   * Incremented on every launch configuration event, so a build that raced
+   * with an event is redone. Guarded by this.
+   */
+  private int generation;
+
+  /**
+   * Set by {@link #stopTracking()}, after which the index isn't built again.
+   * Guarded by this.
+   */
+  private boolean stopped;
+
+  /**
+   * Guarded by this.
+   */
+  private boolean tracking;
+
+  /**
+   * Returns the launch configurations of the project's Java project with one of
+   * the given types.
+   *
+   * @param typeIds launch configuration type ids that will be searched for, or
+   *          empty to match all
+   */
+  public List<ILaunchConfiguration> getLaunchConfigurations(IProject project,
+      Collection<String> typeIds) {
+    List<ILaunchConfiguration> launchConfigs = new ArrayList<ILaunchConfiguration>();
+    // Launch configurations of closed or non-Java projects have no Java project
+    if (!JavaCore.create(project).exists()) {
+      return launchConfigs;
+    }
+
+    String projectName = project.getName();
+    if (!ensureIndexed()) {
+      for (ILaunchConfiguration launchConfig : getAllLaunchConfigurations()) {
+        if (matches(createEntry(launchConfig), projectName, typeIds)) {
+          launchConfigs.add(launchConfig);
+        }
+      }
+      return launchConfigs;
+    }
+
+    synchronized (this) {
+      Map<ILaunchConfiguration, Entry> projectLaunchConfigs = launchConfigsByProject.get(projectName);
+      if (projectLaunchConfigs != null) {
+        for (Map.Entry<ILaunchConfiguration, Entry> entry : projectLaunchConfigs.entrySet()) {
+          if (matches(entry.getValue(), projectName, typeIds)) {
+            launchConfigs.add(entry.getKey());
+          }
+        }
+      }
+    }
+    return launchConfigs;
+  }
+
+  public void launchConfigurationAdded(ILaunchConfiguration configuration) {
+    update(configuration, false);
+  }
+
+  public void launchConfigurationChanged(ILaunchConfiguration configuration) {
+    update(configuration, false);
+  }
+
+  public void launchConfigurationRemoved(ILaunchConfiguration configuration) {
+    update(configuration, true);
+  }
+
+  public void stopTracking() {
+    synchronized (this) {
+      stopped = true;
+      if (!tracking) {
+        return;
+      }
+      tracking = false;
+      launchConfigsByProject = null;
+      projectNames.clear();
+    }
+
+    DebugPlugin debugPlugin = DebugPlugin.getDefault();
+    if (debugPlugin != null) {
+      debugPlugin.getLaunchManager().removeLaunchConfigurationListener(this);
+    }
+  }
+
+  /**
+   * Builds the index if needed, and starts tracking the launch configuration
+   * events.
+   *
+   * @return true if the index is built, false if it can't be or tracking
+   *         was stopped
+   */
+  private boolean ensureIndexed() {
+    synchronized (this) {
+      if (launchConfigsByProject != null) {
+        return true;
+      }
+      if (stopped) {
+        return false;
+      }
+    }
+
+    DebugPlugin debugPlugin = DebugPlugin.getDefault();
+    if (debugPlugin == null) {
+      return false;
+    }
+    ILaunchManager manager = debugPlugin.getLaunchManager();
+    synchronized (this) {
+      if (stopped) {
+        return false;
+      }
+      if (!tracking) {
+        tracking = true;
+        manager.addLaunchConfigurationListener(this);
+      }
+    }
+
+    /*
+     * Read the launch configurations without holding the lock, since the launch
+     * manager may notify the listener while holding its own locks.
+     */
+    while (true) {
+      int buildGeneration;
+      synchronized (this) {
+        buildGeneration = generation;
+      }
+
+      Map<ILaunchConfiguration, Entry> entries = new LinkedHashMap<ILaunchConfiguration, Entry>();
+      for (ILaunchConfiguration launchConfig : getAllLaunchConfigurations()) {
+        entries.put(launchConfig, createEntry(launchConfig));
+      }
+
+      synchronized (this) {
+        if (!tracking) {
+          return false;
+        }
+        if (launchConfigsByProject != null) {
+          return true;
+        }
+        if (generation == buildGeneration) {
+          launchConfigsByProject = new HashMap<String, Map<ILaunchConfiguration, Entry>>();
+          for (Map.Entry<ILaunchConfiguration, Entry> entry : entries.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+          }
+          return true;
+        }
+      }
+    }
+  }
+
+  private ILaunchConfiguration[] getAllLaunchConfigurations() {
+    try {
+      return DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurations();
+    } catch (CoreException e) {
+      CorePluginLog.logError(e, "Could not get the launch configurations");
+      return new ILaunchConfiguration[0];
+    }
+  }
+
+  private void put(ILaunchConfiguration launchConfig, Entry entry) {
+    remove(launchConfig);
+    Map<ILaunchConfiguration, Entry> projectLaunchConfigs = launchConfigsByProject.get(entry.projectName);
+    if (projectLaunchConfigs == null) {
+      projectLaunchConfigs = new LinkedHashMap<ILaunchConfiguration, Entry>();
+      launchConfigsByProject.put(entry.projectName, projectLaunchConfigs);
+    }
+    projectLaunchConfigs.put(launchConfig, entry);
+    projectNames.put(launchConfig, entry.projectName);
+  }
+
+  private void remove(ILaunchConfiguration launchConfig) {
+    String projectName = projectNames.remove(launchConfig);
+    if (projectName != null) {
+      Map<ILaunchConfiguration, Entry> projectLaunchConfigs = launchConfigsByProject.get(projectName);
+      projectLaunchConfigs.remove(launchConfig);
+      if (projectLaunchConfigs.isEmpty()) {
+        launchConfigsByProject.remove(projectName);
+      }
+    }
+  }
+
+  private void update(ILaunchConfiguration launchConfig, boolean removed) {
+    // Working copies are indexed once they are saved
+    if (launchConfig.isWorkingCopy()) {
+      return;
+    }
+
+    // A removed launch configuration's attributes can't be read anymore
+    Entry entry = removed ? null : createEntry(launchConfig);
+    synchronized (this) {
+      generation++;
+      if (launchConfigsByProject == null) {
+        return;
+      }
+
+      if (removed) {
+        remove(launchConfig);
+      } else {
+        put(launchConfig, entry);
+      }
+    }
+  }
+}
@@ -138,7 +138,13 @@ public final class LaunchConfigurationProcessorUtilities {
   /**
    * Returns a {@link ClassLoader} that contains all of the entries returned by
    * {@link #getClasspath(ILaunchConfiguration)}.
+   *
+   * @deprecated to check whether a class is on the classpath, use
+   *             {@link com.google.gdt.eclipse.core.java.ClassPresenceIndex}
+   *             with {@link #getClasspath(ILaunchConfiguration)} instead, which
+   *             doesn't open the classpath's jars again each time
    */
+  @Deprecated
   public static ClassLoader getClassLoaderFor(ILaunchConfiguration configuration)
       throws CoreException {
     String[] classpath = getClasspath(configuration);
@@ -17,10 +17,8 @@ package com.google.gdt.eclipse.core.launch;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
-import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.debug.ui.DebugUITools;
 import org.eclipse.debug.ui.IDebugModelPresentation;
 import org.eclipse.jdt.core.IJavaProject;
@@ -30,11 +28,9 @@ import org.eclipse.jface.window.Window;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.dialogs.ElementListSelectionDialog;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * General utility methods for launch configurations.
@@ -89,26 +85,17 @@ public class LaunchConfigurationUtilities {
   }
 
   /**
+   * Returns the launch configurations of the project, looked up in the
+   * {@link LaunchConfigurationIndex}.
+   *
    * @param typeIds launch configuration type ids that will be searched for, or
    *          empty to match all
    * @throws CoreException
    */
   public static List<ILaunchConfiguration> getLaunchConfigurations(
       IProject project, String... typeIds) throws CoreException {
-    Set<String> setOfTypeIds = new HashSet<String>(Arrays.asList(typeIds));
-    ILaunchManager manager = DebugPlugin.getDefault().getLaunchManager();
-    List<ILaunchConfiguration> launchConfigs = new ArrayList<ILaunchConfiguration>();
-    for (ILaunchConfiguration launchConfig : manager.getLaunchConfigurations()) {
-      IJavaProject javaProject = getJavaProject(launchConfig);
-      boolean typeIdIsOk = setOfTypeIds.isEmpty()
-          || setOfTypeIds.contains(launchConfig.getType().getIdentifier());
-      if (javaProject != null && project.equals(javaProject.getProject())
-          && typeIdIsOk) {
-        launchConfigs.add(launchConfig);
-      }
-    }
-
-    return launchConfigs;
+    return LaunchConfigurationIndex.INSTANCE.getLaunchConfigurations(project,
+        new HashSet<String>(Arrays.asList(typeIds)));
   }
 
   public static IProject getProject(ILaunchConfiguration launchConfiguration) {
@@ -45,7 +45,7 @@ public final class WebAppProjectProperties {
     void warOutLocationChanged(IProject project);
   }
 
-  private static final String JARS_EXCLUDED_FROM_WEB_INF_LIB = "jarsExcludedFromWebInfLib";
+  public static final String JARS_EXCLUDED_FROM_WEB_INF_LIB = "jarsExcludedFromWebInfLib";
 
   // File system location of the unmanaged WAR output directory last used by a
   // launch, GWT compile
@@ -37,6 +37,10 @@ import java.util.Set;
 /**
  * Tracks dependencies of {@link ICompilationUnit}s which are non-Java
  * resources.
+ * <p>
+ * The index is saved with the version of its format. An index saved with
+ * another version is discarded when it is loaded, see
+ * {@link #wasDiscardedOnLoad()}.
  */
 public abstract class CompilationUnitResourceDependencyIndex {
 
@@ -44,6 +48,13 @@ public abstract class CompilationUnitResourceDependencyIndex {
 
   private static final String ATTR_RESOURCE_PATH = "path";
 
+  private static final String ATTR_VERSION = "version";
+
+  /**
+   * The version of the indexes saved before the format was versioned.
+   */
+  private static final int UNVERSIONED_FORMAT_VERSION = 1;
+
   private static final String TAG_DEPENDENCIES = "deps";
 
   private static final String TAG_RESOURCE = "res";
@@ -55,8 +66,22 @@ public abstract class CompilationUnitResourceDependencyIndex {
 
   private final String indexName;
 
+  private final int formatVersion;
+
+  private boolean discardedOnLoad;
+
   protected CompilationUnitResourceDependencyIndex(String indexName) {
+    this(indexName, UNVERSIONED_FORMAT_VERSION);
+  }
+
+  /**
+   * @param formatVersion the version of the format of the index, which must be
+   *          changed whenever the format changes
+   */
+  protected CompilationUnitResourceDependencyIndex(String indexName,
+      int formatVersion) {
     this.indexName = indexName;
+    this.formatVersion = formatVersion;
     loadIndex();
   }
 
@@ -88,12 +113,17 @@ public abstract class CompilationUnitResourceDependencyIndex {
     index.putLeftToManyRights(cu, normalizedPaths);
   }
 
+  public int getFormatVersion() {
+    return formatVersion;
+  }
+
   public void remove(ICompilationUnit cu) {
     index.removeLeftElement(cu);
   }
 
   public void saveIndex() {
     XMLMemento memento = XMLMemento.createWriteRoot(TAG_ROOT);
+    memento.putInteger(ATTR_VERSION, formatVersion);
     persistIndex(memento);
 
     File indexFile = getIndexFile();
@@ -117,6 +147,14 @@ public abstract class CompilationUnitResourceDependencyIndex {
     }
   }
 
+  /**
+   * Returns whether the saved index had another format, and was discarded, so
+   * the dependencies of the compilation units have to be computed again.
+   */
+  public boolean wasDiscardedOnLoad() {
+    return discardedOnLoad;
+  }
+
   protected abstract IPath getIndexFileLocation();
 
   protected IPath normalizePath(IPath path) {
@@ -190,6 +228,16 @@ public abstract class CompilationUnitResourceDependencyIndex {
   }
 
   private void loadIndex(XMLMemento memento) {
+    Integer version = memento.getInteger(ATTR_VERSION);
+    int savedFormatVersion = version != null ? version
+        : UNVERSIONED_FORMAT_VERSION;
+    if (savedFormatVersion != formatVersion) {
+      CorePluginLog.logInfo("Discarding index " + indexName + " saved in format "
+          + savedFormatVersion + " (current format: " + formatVersion + ")");
+      discardedOnLoad = true;
+      return;
+    }
+
     for (IMemento cuNode : memento.getChildren(TAG_DEPENDENCIES)) {
       loadCuDependencies(cuNode);
     }
@@ -27,6 +27,8 @@ import com.google.gdt.eclipse.core.properties.WebAppProjectProperties;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
@@ -35,8 +37,11 @@ import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Builder that performs validation on a project with the WebAppNature.
@@ -56,60 +61,138 @@ public class WebAppProjectValidator extends IncrementalProjectBuilder {
     }
   }
 
+  /**
+   * What the validations looked at the last time they ran, or null if they
+   * have to run on the next build.
+   */
+  private List<Object> lastValidationInputs;
+
   @SuppressWarnings("unchecked")
   @Override
   protected IProject[] build(int kind, Map args, IProgressMonitor monitor)
       throws CoreException {
 
-    // Clear existing markers.
-    MarkerUtilities.clearMarkers(PROBLEM_MARKER_ID, getProject());
-
     if (kind == CLEAN_BUILD) {
       cleanImpl();
       return null;
     }
 
     IJavaProject javaProject = JavaCore.create(getProject());
+    List<Object> validationInputs = computeValidationInputs(javaProject);
+
+    if (kind != FULL_BUILD && validationInputs.equals(lastValidationInputs)
+        && !hasRelevantChanges(getDelta(getProject()))) {
+      // Nothing the validations look at has changed, so keep the markers
+      return null;
+    }
+
+    lastValidationInputs = null;
+
+    // Clear existing markers.
+    MarkerUtilities.clearMarkers(PROBLEM_MARKER_ID, getProject());
+
+    validate(javaProject);
+
+    lastValidationInputs = validationInputs;
+    return null;
+  }
+
+  @Override
+  protected void clean(IProgressMonitor monitor) throws CoreException {
+    cleanImpl();
+  }
+
+  private void cleanImpl() throws CoreException {
+    lastValidationInputs = null;
+    MarkerUtilities.clearMarkers(PROBLEM_MARKER_ID, getProject());
+  }
+
+  /**
+   * Returns the project settings the validations depend on: the WAR
+   * directories, the output location, and the resolved build classpath along
+   * with the jars excluded from WEB-INF/lib. These are compared between builds,
+   * since changing them does not always show in the project's resource delta
+   * (e.g. when a classpath variable is changed).
+   */
+  private List<Object> computeValidationInputs(IJavaProject javaProject)
+      throws CoreException {
+    List<Object> inputs = new ArrayList<Object>();
+    boolean isJavaProject = JavaProjectUtilities.isJavaProjectNonNullAndExists(javaProject);
+    inputs.add(isJavaProject);
+    if (!isJavaProject || !WebAppUtilities.isWebApp(getProject())) {
+      return inputs;
+    }
+
+    inputs.add(WebAppProjectProperties.getWarSrcDir(getProject()));
+    inputs.add(WebAppUtilities.hasManagedWarOut(getProject()));
+    inputs.add(javaProject.getOutputLocation());
+    inputs.add(WebAppProjectProperties.getJarsExcludedFromWebInfLib(getProject()));
+    for (IClasspathEntry rawClasspath : javaProject.getRawClasspath()) {
+      IClasspathEntry resolvedClasspath = JavaCore.getResolvedClasspathEntry(rawClasspath);
+      inputs.add(resolvedClasspath != null ? resolvedClasspath.getPath() : rawClasspath);
+    }
+    return inputs;
+  }
 
+  /**
+   * Returns whether the delta adds or removes one of the resources whose
+   * existence is validated: the WAR source directory, web.xml, and the WAR
+   * output directory's WEB-INF/lib folder.
+   */
+  private boolean hasRelevantChanges(IResourceDelta delta) {
+    if (delta == null) {
+      // No delta is available, so anything may have changed
+      return true;
+    }
+
+    if (!WebAppUtilities.isWebApp(getProject())) {
+      return false;
+    }
+
+    List<IResource> resources = new ArrayList<IResource>();
+    resources.add(WebAppUtilities.getWarSrc(getProject()));
+    resources.add(WebAppUtilities.getWebInfSrc(getProject()).getFile("web.xml"));
+    if (WebAppUtilities.hasManagedWarOut(getProject())) {
+      resources.add(WebAppUtilities.getWebInfOut(getProject()).getFolder("lib"));
+    }
+
+    for (IResource resource : resources) {
+      IResourceDelta resourceDelta = delta.findMember(resource.getProjectRelativePath());
+      if (resourceDelta != null
+          && (resourceDelta.getKind() & (IResourceDelta.ADDED | IResourceDelta.REMOVED)) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void validate(IJavaProject javaProject) throws CoreException {
     if (!JavaProjectUtilities.isJavaProjectNonNullAndExists(javaProject)) {
       // TODO: This error will be flagged by the GDT Validator.
-      return null;
+      return;
     }
 
     if (!WebAppUtilities.isWebApp(getProject())) {
-      return null;
+      return;
     }
 
     if (!validateWarSrcDirectoryExists()) {
-      return null;
+      return;
     }
 
     if (!validateWebXmlFileExists()) {
-      return null;
+      return;
     }
 
     // These validations only apply when the project has a managed WAR output
     // directory
     if (WebAppUtilities.hasManagedWarOut(getProject())) {
       if (!validateOutputDirectory(javaProject)) {
-        return null;
+        return;
       }
 
-      if (!validateBuildClasspath(javaProject)) {
-        return null;
-      }
+      validateBuildClasspath(javaProject);
     }
-
-    return null;
-  }
-
-  @Override
-  protected void clean(IProgressMonitor monitor) throws CoreException {
-    cleanImpl();
-  }
-
-  private void cleanImpl() throws CoreException {
-    MarkerUtilities.clearMarkers(PROBLEM_MARKER_ID, getProject());
   }
 
   private boolean validateBuildClasspath(IJavaProject javaProject)
@@ -125,7 +208,8 @@ public class WebAppProjectValidator extends IncrementalProjectBuilder {
 
     IClasspathEntry[] rawClasspaths = javaProject.getRawClasspath();
     boolean isOk = true;
-    List<IPath> excludedJars = WebAppProjectProperties.getJarsExcludedFromWebInfLib(javaProject.getProject());
+    Set<IPath> excludedJars = new HashSet<IPath>(
+        WebAppProjectProperties.getJarsExcludedFromWebInfLib(javaProject.getProject()));
 
     for (IClasspathEntry rawClasspath : rawClasspaths) {
       rawClasspath = JavaCore.getResolvedClasspathEntry(rawClasspath);
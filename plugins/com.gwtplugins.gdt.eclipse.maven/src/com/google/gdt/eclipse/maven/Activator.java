@@ -14,6 +14,8 @@
  *******************************************************************************/
 package com.google.gdt.eclipse.maven;
 
+import com.google.gdt.eclipse.maven.sdk.GWTMavenRuntimeCache;
+
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
@@ -45,10 +47,12 @@ public class Activator extends AbstractUIPlugin {
   public void start(BundleContext context) throws Exception {
     super.start(context);
     plugin = this;
+    GWTMavenRuntimeCache.INSTANCE.start();
   }
 
   @Override
   public void stop(BundleContext context) throws Exception {
+    GWTMavenRuntimeCache.INSTANCE.stop();
     plugin = null;
     super.stop(context);
   }
@@ -17,6 +17,7 @@ package com.google.gdt.eclipse.maven.launch;
 import com.google.gdt.eclipse.core.sdk.Sdk.SdkException;
 import com.google.gdt.eclipse.maven.Activator;
 import com.google.gdt.eclipse.maven.MavenUtils;
+import com.google.gdt.eclipse.maven.sdk.GWTMavenRuntime;
 import com.google.gwt.eclipse.core.launch.ModuleClasspathProvider;
 import com.google.gwt.eclipse.core.nature.GWTNature;
 import com.google.gwt.eclipse.core.runtime.GwtSdk;
@@ -62,7 +63,12 @@ public class MavenClasspathProvider extends ModuleClasspathProvider {
 
   private static void addGwtDevjarIfPossible(IJavaProject proj,
       Set<IRuntimeClasspathEntry> classpath) throws CoreException {
-    GwtSdk runtime = GwtSdk.findSdkFor(proj);
+    // The project has the Maven nature, so this is the runtime the SDK
+    // factories would find; its lookups are cached until the classpath changes
+    GwtSdk runtime = GWTMavenRuntime.forProject(proj);
+    if (!runtime.validate().isOK()) {
+      runtime = GwtSdk.findSdkFor(proj);
+    }
     if (runtime == null) {
       Activator
           .getDefault()
@@ -14,17 +14,13 @@
  *******************************************************************************/
 package com.google.gdt.eclipse.maven.sdk;
 
-import com.google.gdt.eclipse.core.StatusUtilities;
-import com.google.gdt.eclipse.core.sdk.AbstractSdk;
 import com.google.gdt.eclipse.maven.Activator;
-import com.google.gdt.eclipse.maven.MavenUtils;
 import com.google.gwt.eclipse.core.launch.processors.GwtLaunchConfigurationProcessorUtilities;
 import com.google.gwt.eclipse.core.runtime.GwtSdk.ProjectBoundSdk;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaElement;
@@ -39,12 +35,6 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
 
 /**
  * A project-based GWT SDK for Maven-based project.
@@ -57,37 +47,45 @@ public class GWTMavenRuntime extends ProjectBoundSdk {
   public static final String MAVEN_GWT_USER_ARTIFACT_ID = "gwt-user";
   public static final String MAVEN_GWT_SERVLET_ARTIFACT_ID = "gwt-servlet";
 
+  /**
+   * Returns the Maven-based GWT runtime of the given Maven project, without
+   * querying the project-bound SDK factories.
+   */
+  public static GWTMavenRuntime forProject(IJavaProject javaProject) {
+    return new GWTMavenRuntime(javaProject);
+  }
+
   protected GWTMavenRuntime(IJavaProject javaProject) {
     super(javaProject);
   }
 
   @Override
   public URLClassLoader createClassLoader() throws SdkException, MalformedURLException {
-    if (!validate().isOK()) {
+    GWTMavenRuntimeDescriptor descriptor = getDescriptor();
+    if (!descriptor.getValidationStatus().isOK()) {
       return new URLClassLoader(new URL[0]);
     }
 
-    try {
-      ArrayList<URL> classloaderURLs = new ArrayList<URL>();
-
-      // getDevJar would throw an exception instead of returning null
-      // gwt-dev.jar
-      classloaderURLs.add(getDevJar().toURI().toURL());
-
-      // findGwtUserClasspathEntry won't be null, because validate passed gwt-user.jar
-      classloaderURLs.add(findGwtUserClasspathEntry().getPath().toFile().toURI().toURL());
-
-      // validation jars
-      IClasspathEntry javaxValidationJar = findJavaXValidationClasspathEntry();
-      // could be null on older GWT projects
-      if (javaxValidationJar != null) {
-        classloaderURLs.add(javaxValidationJar.getPath().toFile().toURI().toURL());
-      }
+    ArrayList<URL> classloaderURLs = new ArrayList<URL>();
 
-      return new URLClassLoader(classloaderURLs.toArray(new URL[classloaderURLs.size()]), null);
+    // gwt-dev.jar, which exists since validation passed
+    try {
+      classloaderURLs.add(descriptor.getDevJar().toURI().toURL());
     } catch (JavaModelException jme) {
       return new URLClassLoader(new URL[0]);
     }
+
+    // gwt-user.jar, which was found since validation passed
+    classloaderURLs.add(descriptor.getGwtUserEntry().getPath().toFile().toURI().toURL());
+
+    // validation jars
+    IClasspathEntry javaxValidationJar = descriptor.getJavaxValidationEntry();
+    // could be null on older GWT projects
+    if (javaxValidationJar != null) {
+      classloaderURLs.add(javaxValidationJar.getPath().toFile().toURI().toURL());
+    }
+
+    return new URLClassLoader(classloaderURLs.toArray(new URL[classloaderURLs.size()]), null);
   }
 
   /**
@@ -105,68 +103,26 @@ public class GWTMavenRuntime extends ProjectBoundSdk {
    */
   @Override
   public IClasspathEntry[] getClasspathEntries() {
+    GWTMavenRuntimeDescriptor descriptor = getDescriptor();
     try {
-      // If containers are being used, we avoid duplicates by using a set
-      Set<IClasspathEntry> classpathEntries = new HashSet<IClasspathEntry>();
-
-      IClasspathEntry gwtUser = findGwtUserClasspathEntry();
-      if (gwtUser != null) {
-        classpathEntries.add(gwtUser);
-
-        File gwtDevJar = getDevJar();
-
-        if (gwtDevJar != null) {
-          classpathEntries.add(JavaCore.newLibraryEntry(Path.fromOSString(gwtDevJar.getAbsolutePath()), null, null));
-        }
-      }
-
-      final List<IClasspathEntry> rawClasspath = Arrays.asList(javaProject.getRawClasspath());
-
-      // Sort the classpath entries so they match the declared order of the
-      // raw classpath.
-      IClasspathEntry[] classpathEntryArray = classpathEntries.toArray(NO_ICLASSPATH_ENTRIES);
-      Collections.sort(Arrays.asList(classpathEntryArray), new Comparator<IClasspathEntry>() {
-        @Override
-        public int compare(IClasspathEntry o1, IClasspathEntry o2) {
-          return rawClasspath.indexOf(o1) - rawClasspath.indexOf(o2);
-        }
-      });
-
-      return classpathEntryArray;
+      descriptor.getDevJar();
     } catch (JavaModelException e) {
       Activator.getDefault().getLog().log(new Status(IStatus.ERROR, Activator.PLUGIN_ID,
           "Unable to generate classpath entries for the maven-based GWT runtime.", e));
     } catch (SdkException sdke) {
-      Activator.getDefault().getLog().log(new Status(IStatus.ERROR, Activator.PLUGIN_ID,
-          "Unable to generate classpath entries for the maven-based GWT runtime.", sdke));
+      // Without gwt-user.jar, there are no entries to generate
+      if (descriptor.getGwtUserEntry() != null) {
+        Activator.getDefault().getLog().log(new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+            "Unable to generate classpath entries for the maven-based GWT runtime.", sdke));
+      }
     }
 
-    return AbstractSdk.NO_ICLASSPATH_ENTRIES;
+    return descriptor.getClasspathEntries().clone();
   }
 
   @Override
   public File getDevJar() throws SdkException, JavaModelException {
-    IClasspathEntry classpathEntry = findGwtUserClasspathEntry();
-
-    if (classpathEntry == null) {
-      throw new SdkException("Unable to locate gwt-user.jar");
-    }
-
-    IPath path = MavenUtils.getArtifactPathForPeerMavenArtifact(classpathEntry.getPath(), MAVEN_GWT_GROUP_ID,
-        MAVEN_GWT_DEV_JAR_ARTIFACT_ID);
-    if (path == null) {
-      path = MavenUtils.getArtifactPathForPeerMavenArtifact(classpathEntry.getPath(), MAVEN_GWT_NEW_GROUP_ID,
-          MAVEN_GWT_DEV_JAR_ARTIFACT_ID);
-      if (path == null) {
-          throw new SdkException("Unable to locate gwt-dev.jar");
-      }
-    }
-
-    if (!path.toFile().exists()) {
-      throw new SdkException(path.toOSString() + " does not exist.");
-    }
-
-    return path.toFile();
+    return getDescriptor().getDevJar();
   }
 
   /**
@@ -175,24 +131,7 @@ public class GWTMavenRuntime extends ProjectBoundSdk {
    */
   @Override
   public IPath getInstallationPath() {
-
-    try {
-      IClasspathEntry classpathEntry = findGwtUserClasspathEntry();
-      if (classpathEntry == null) {
-        return null;
-      }
-
-      IPath p = classpathEntry.getPath();
-      if (p.segmentCount() < 4) {
-        return null;
-      }
-      return p.removeLastSegments(3);
-    } catch (JavaModelException e) {
-      Activator.getDefault().getLog().log(new Status(IStatus.ERROR, Activator.PLUGIN_ID,
-          "Unable to determine installation path for the maven-based GWT runtime.", e));
-    }
-
-    return null;
+    return getDescriptor().getInstallationPath();
   }
 
   /**
@@ -205,12 +144,7 @@ public class GWTMavenRuntime extends ProjectBoundSdk {
 
   @Override
   public IStatus validate() {
-    try {
-      getDevJar();
-    } catch (Exception e) {
-      return StatusUtilities.newErrorStatus(e, Activator.PLUGIN_ID);
-    }
-    return StatusUtilities.OK_STATUS;
+    return getDescriptor().getValidationStatus();
   }
 
   /**
@@ -234,48 +168,12 @@ public class GWTMavenRuntime extends ProjectBoundSdk {
     return null;
   }
 
-  private IClasspathEntry findGwtUserClasspathEntry() throws JavaModelException {
-    /*
-     * Note that the type that we're looking for to determine if we're part of the gwt-user library is different than
-     * the one that is used by the superclass. This is because the class that the superclass is querying for,
-     * "com.google.gwt.core.client.GWT", also exists in the gwt-servlet library, and for some reason, this sometimes
-     * ends up on the build path for Maven projects.
-     *
-     * TODO: See why Maven is putting gwt-servlet on the build path.
-     *
-     * TODO: Change the class query in the superclass to "com.google.gwt.junit.client.GWTTestCase"
-     */
-    IType type = javaProject.findType("com.google.gwt.junit.client.GWTTestCase");
-
-    if (type == null) {
-      return null;
-    }
-
-    IPackageFragmentRoot packageFragmentRoot = (IPackageFragmentRoot) type
-        .getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
-    if (packageFragmentRoot.getKind() == IPackageFragmentRoot.K_BINARY) {
-      // TODO: If the Maven javadoc and source libs for gwt-dev.jar are
-      // available, attach them here.
-      return JavaCore.newLibraryEntry(packageFragmentRoot.getPath(), null, null);
-    }
-
-    return null;
-  }
-
-  private IClasspathEntry findJavaXValidationClasspathEntry() throws JavaModelException {
-    IType type = javaProject.findType("javax.validation.Constraint");
-
-    if (type == null) {
-      return null;
-    }
-
-    IPackageFragmentRoot packageFragmentRoot = (IPackageFragmentRoot) type
-        .getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
-    if (packageFragmentRoot.getKind() == IPackageFragmentRoot.K_BINARY) {
-      return JavaCore.newLibraryEntry(packageFragmentRoot.getPath(), null, null);
-    }
-
-    return null;
+  /**
+   * Returns what is known about the project's GWT libraries, which is only
+   * looked up again after the project's classpath changes.
+   */
+  private GWTMavenRuntimeDescriptor getDescriptor() {
+    return GWTMavenRuntimeCache.INSTANCE.getDescriptor(javaProject);
   }
 
 }
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.maven.sdk;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps a {@link GWTMavenRuntimeDescriptor} per project, so the
+ * {@link GWTMavenRuntime} of a project (which is created over and over, e.g.
+ * on every launch) does not look up the GWT libraries on its classpath again.
+ *
+ * A descriptor is dropped as soon as the classpath of its project changes, or
+ * the project is opened, closed, added or removed.
+ */
+public class GWTMavenRuntimeCache {
+
+  public static final GWTMavenRuntimeCache INSTANCE = new GWTMavenRuntimeCache();
+
+  private static final int CLASSPATH_CHANGED_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED
+      | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_OPENED
+      | IJavaElementDelta.F_CLOSED;
+
+  private final IElementChangedListener classpathListener = new IElementChangedListener() {
+    public void elementChanged(ElementChangedEvent event) {
+      for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+        IJavaElement element = delta.getElement();
+        if (element.getElementType() != IJavaElement.JAVA_PROJECT) {
+          continue;
+        }
+
+        if (delta.getKind() != IJavaElementDelta.CHANGED
+            || (delta.getFlags() & CLASSPATH_CHANGED_FLAGS) != 0) {
+          invalidate(element.getElementName());
+        }
+      }
+    }
+  };
+
+  private final Map<String, GWTMavenRuntimeDescriptor> descriptors =
+      new HashMap<String, GWTMavenRuntimeDescriptor>();
+
+  /**
+   * Incremented on every invalidation, so a descriptor computed while the
+   * classpath changed is not kept.
+   */
+  private long invalidationCount;
+
+  private GWTMavenRuntimeCache() {
+  }
+
+  /**
+   * Discards every cached descriptor.
+   */
+  public synchronized void clear() {
+    descriptors.clear();
+    invalidationCount++;
+  }
+
+  /**
+   * Drops the descriptor of the given project.
+   */
+  public synchronized void invalidate(String projectName) {
+    descriptors.remove(projectName);
+    invalidationCount++;
+  }
+
+  /**
+   * Starts listening for changes that invalidate cached descriptors.
+   */
+  public void start() {
+    JavaCore.addElementChangedListener(classpathListener, ElementChangedEvent.POST_CHANGE);
+  }
+
+  /**
+   * Stops listening for changes and discards every cached descriptor.
+   */
+  public void stop() {
+    JavaCore.removeElementChangedListener(classpathListener);
+    clear();
+  }
+
+  /**
+   * Returns the descriptor of the given project, computing it if it is not
+   * cached.
+   */
+  GWTMavenRuntimeDescriptor getDescriptor(IJavaProject javaProject) {
+    String projectName = javaProject.getElementName();
+    long expectedInvalidationCount;
+    synchronized (this) {
+      GWTMavenRuntimeDescriptor descriptor = descriptors.get(projectName);
+      if (descriptor != null) {
+        if (!descriptor.isDevJarDeleted()) {
+          return descriptor;
+        }
+        // The classpath did not change, but gwt-dev.jar is gone from the
+        // Maven repository
+        descriptors.remove(projectName);
+      }
+      expectedInvalidationCount = invalidationCount;
+    }
+
+    // Look up the types outside of the lock
+    GWTMavenRuntimeDescriptor descriptor = GWTMavenRuntimeDescriptor.compute(javaProject);
+    synchronized (this) {
+      if (descriptor.isReusable() && invalidationCount == expectedInvalidationCount) {
+        descriptors.put(projectName, descriptor);
+      }
+    }
+    return descriptor;
+  }
+}
@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.maven.sdk;
+
+import com.google.gdt.eclipse.core.StatusUtilities;
+import com.google.gdt.eclipse.core.sdk.Sdk.SdkException;
+import com.google.gdt.eclipse.maven.Activator;
+import com.google.gdt.eclipse.maven.MavenUtils;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * What {@link GWTMavenRuntime} knows about a project: the gwt-user and
+ * javax.validation libraries found on its classpath, and the gwt-dev library
+ * next to gwt-user in the Maven repository.
+ *
+ * Finding these takes type lookups on the project's classpath, so a descriptor
+ * is computed once and kept by {@link GWTMavenRuntimeCache} until the project's
+ * classpath changes.
+ */
+final class GWTMavenRuntimeDescriptor {
+
+  private static final IClasspathEntry[] NO_CLASSPATH_ENTRIES = new IClasspathEntry[0];
+
+  private static final String GWT_USER_TYPE = "com.google.gwt.junit.client.GWTTestCase";
+
+  private static final String JAVAX_VALIDATION_TYPE = "javax.validation.Constraint";
+
+  /**
+   * Computes the descriptor of the given project. Lookup failures are recorded
+   * in the descriptor rather than thrown, so they are reported by the calls
+   * which would have hit them.
+   */
+  static GWTMavenRuntimeDescriptor compute(IJavaProject javaProject) {
+    try {
+      return new GWTMavenRuntimeDescriptor(javaProject);
+    } catch (JavaModelException e) {
+      return new GWTMavenRuntimeDescriptor(e);
+    }
+  }
+
+  /**
+   * Returns the library entry of the package fragment root defining the given
+   * type, or <code>null</code> if the type is not found in a library.
+   */
+  private static IClasspathEntry findLibraryEntryDefining(IJavaProject javaProject,
+      String typeName) throws JavaModelException {
+    IType type = javaProject.findType(typeName);
+    if (type == null) {
+      return null;
+    }
+
+    IPackageFragmentRoot packageFragmentRoot = (IPackageFragmentRoot) type
+        .getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+    if (packageFragmentRoot.getKind() == IPackageFragmentRoot.K_BINARY) {
+      // TODO: If the Maven javadoc and source libs for gwt-dev.jar are
+      // available, attach them here.
+      return JavaCore.newLibraryEntry(packageFragmentRoot.getPath(), null, null);
+    }
+
+    return null;
+  }
+
+  private final IClasspathEntry[] classpathEntries;
+
+  private final File devJar;
+
+  /**
+   * Why {@link #devJar} is null; either a {@link SdkException} or a
+   * {@link JavaModelException}.
+   */
+  private final Exception devJarException;
+
+  private final IClasspathEntry gwtUserEntry;
+
+  private final IPath installationPath;
+
+  private final IClasspathEntry javaxValidationEntry;
+
+  /**
+   * Whether the descriptor may be reused until the classpath changes.
+   */
+  private final boolean reusable;
+
+  private final IStatus validationStatus;
+
+  private GWTMavenRuntimeDescriptor(IJavaProject javaProject) throws JavaModelException {
+    /*
+     * Note that the type that we're looking for to determine if we're part of
+     * the gwt-user library is different than the one that is used by
+     * ProjectBoundSdk. This is because the class that it is querying for,
+     * "com.google.gwt.core.client.GWT", also exists in the gwt-servlet library,
+     * and for some reason, this sometimes ends up on the build path for Maven
+     * projects.
+     */
+    gwtUserEntry = findLibraryEntryDefining(javaProject, GWT_USER_TYPE);
+    javaxValidationEntry = findLibraryEntryDefining(javaProject, JAVAX_VALIDATION_TYPE);
+
+    IPath devJarPath = null;
+    if (gwtUserEntry != null) {
+      devJarPath = MavenUtils.getArtifactPathForPeerMavenArtifact(gwtUserEntry.getPath(),
+          GWTMavenRuntime.MAVEN_GWT_GROUP_ID, GWTMavenRuntime.MAVEN_GWT_DEV_JAR_ARTIFACT_ID);
+      if (devJarPath == null) {
+        devJarPath = MavenUtils.getArtifactPathForPeerMavenArtifact(gwtUserEntry.getPath(),
+            GWTMavenRuntime.MAVEN_GWT_NEW_GROUP_ID,
+            GWTMavenRuntime.MAVEN_GWT_DEV_JAR_ARTIFACT_ID);
+      }
+    }
+
+    if (gwtUserEntry == null) {
+      devJar = null;
+      devJarException = new SdkException("Unable to locate gwt-user.jar");
+    } else if (devJarPath == null) {
+      devJar = null;
+      devJarException = new SdkException("Unable to locate gwt-dev.jar");
+    } else if (!devJarPath.toFile().exists()) {
+      devJar = null;
+      devJarException = new SdkException(devJarPath.toOSString() + " does not exist.");
+    } else {
+      devJar = devJarPath.toFile();
+      devJarException = null;
+    }
+
+    // Maven may still be downloading gwt-dev.jar, which doesn't change the
+    // classpath, so look for it again next time
+    reusable = devJarPath == null || devJar != null;
+
+    validationStatus = devJar != null ? StatusUtilities.OK_STATUS
+        : StatusUtilities.newErrorStatus(devJarException, Activator.PLUGIN_ID);
+
+    if (gwtUserEntry != null && gwtUserEntry.getPath().segmentCount() >= 4) {
+      installationPath = gwtUserEntry.getPath().removeLastSegments(3);
+    } else {
+      installationPath = null;
+    }
+
+    classpathEntries = computeClasspathEntries(javaProject.getRawClasspath());
+  }
+
+  private GWTMavenRuntimeDescriptor(JavaModelException e) {
+    classpathEntries = NO_CLASSPATH_ENTRIES;
+    devJar = null;
+    devJarException = e;
+    gwtUserEntry = null;
+    installationPath = null;
+    javaxValidationEntry = null;
+    reusable = false;
+    validationStatus = StatusUtilities.newErrorStatus(e, Activator.PLUGIN_ID);
+  }
+
+  /**
+   * Returns the gwt-user and gwt-dev entries, in the order of the raw
+   * classpath, or no entries if either could not be found.
+   */
+  IClasspathEntry[] getClasspathEntries() {
+    return classpathEntries;
+  }
+
+  /**
+   * Returns the gwt-dev library, or throws why it could not be found.
+   */
+  File getDevJar() throws SdkException, JavaModelException {
+    if (devJarException instanceof JavaModelException) {
+      throw (JavaModelException) devJarException;
+    }
+    if (devJarException != null) {
+      throw (SdkException) devJarException;
+    }
+    return devJar;
+  }
+
+  IClasspathEntry getGwtUserEntry() {
+    return gwtUserEntry;
+  }
+
+  IPath getInstallationPath() {
+    return installationPath;
+  }
+
+  IClasspathEntry getJavaxValidationEntry() {
+    return javaxValidationEntry;
+  }
+
+  IStatus getValidationStatus() {
+    return validationStatus;
+  }
+
+  boolean isReusable() {
+    return reusable;
+  }
+
+  /**
+   * Whether the gwt-dev library found when the descriptor was computed has
+   * been deleted since.
+   */
+  boolean isDevJarDeleted() {
+    return devJar != null && !devJar.exists();
+  }
+
+  private IClasspathEntry[] computeClasspathEntries(IClasspathEntry[] rawClasspath) {
+    if (devJar == null) {
+      return NO_CLASSPATH_ENTRIES;
+    }
+
+    // If containers are being used, we avoid duplicates by using a set
+    Set<IClasspathEntry> entries = new LinkedHashSet<IClasspathEntry>();
+    entries.add(gwtUserEntry);
+    entries.add(JavaCore.newLibraryEntry(Path.fromOSString(devJar.getAbsolutePath()), null,
+        null));
+
+    // Sort the classpath entries so they match the declared order of the raw
+    // classpath; entries which are not on it go first
+    final Map<IClasspathEntry, Integer> rawClasspathIndices =
+        new HashMap<IClasspathEntry, Integer>();
+    for (int i = rawClasspath.length - 1; i >= 0; i--) {
+      rawClasspathIndices.put(rawClasspath[i], i);
+    }
+    IClasspathEntry[] entryArray = entries.toArray(NO_CLASSPATH_ENTRIES);
+    Arrays.sort(entryArray, new Comparator<IClasspathEntry>() {
+      @Override
+      public int compare(IClasspathEntry o1, IClasspathEntry o2) {
+        return indexOf(o1) - indexOf(o2);
+      }
+
+      private int indexOf(IClasspathEntry entry) {
+        Integer index = rawClasspathIndices.get(entry);
+        return index != null ? index : -1;
+      }
+    });
+    return entryArray;
+  }
+}
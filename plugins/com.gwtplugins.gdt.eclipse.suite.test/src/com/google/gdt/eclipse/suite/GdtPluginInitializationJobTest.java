@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.suite;
+
+import junit.framework.TestCase;
+
+import java.util.Map;
+
+/**
+ * Tests the {@link GdtPluginInitializationJob}.
+ */
+public class GdtPluginInitializationJobTest extends TestCase {
+
+  public void testRecordsStepTimings() throws InterruptedException {
+    GdtPluginInitializationJob job = new GdtPluginInitializationJob();
+    job.schedule();
+    job.await();
+    job.stop();
+
+    Map<String, Long> stepMillis = job.getStepMillis();
+    assertEquals(2, stepMillis.size());
+    for (Long millis : stepMillis.values()) {
+      assertTrue(millis >= 0);
+    }
+  }
+
+  public void testStopReleasesWaitersWhenNotRun() throws InterruptedException {
+    GdtPluginInitializationJob job = new GdtPluginInitializationJob();
+    job.schedule(60 * 1000);
+    job.stop();
+
+    // Would block if the cancelled job left the latches up
+    job.awaitSdkRegistration();
+    job.await();
+    assertTrue(job.getStepMillis().isEmpty());
+  }
+
+  public void testPluginInitializationFinishes() {
+    GdtPlugin.getDefault().waitForSdkRegistration();
+    GdtPlugin.getDefault().waitForInitialization();
+  }
+}
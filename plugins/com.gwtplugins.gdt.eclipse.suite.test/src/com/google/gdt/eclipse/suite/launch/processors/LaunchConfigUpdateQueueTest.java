@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.suite.launch.processors;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests the {@link LaunchConfigUpdateQueue}. The projects don't need to exist,
+ * since the queue only passes them on.
+ */
+public class LaunchConfigUpdateQueueTest extends TestCase {
+
+  private static class RecordingQueue extends LaunchConfigUpdateQueue {
+    private final List<List<IProject>> updates = new ArrayList<List<IProject>>();
+
+    private volatile boolean failNextUpdate;
+
+    RecordingQueue() {
+      super(200);
+    }
+
+    @Override
+    protected IStatus update(Set<IProject> projects, IProgressMonitor monitor) {
+      synchronized (updates) {
+        updates.add(new ArrayList<IProject>(projects));
+      }
+      if (failNextUpdate) {
+        failNextUpdate = false;
+        throw new IllegalStateException("Failing update");
+      }
+      return Status.OK_STATUS;
+    }
+  }
+
+  private RecordingQueue queue;
+
+  private IWorkspaceRoot root;
+
+  public void testCoalescesAndDeduplicatesProjects() throws Exception {
+    IProject a = root.getProject("a");
+    IProject b = root.getProject("b");
+    for (int i = 0; i < 50; i++) {
+      queue.add(a);
+      queue.add(b);
+    }
+    queue.join();
+
+    assertEquals(1, queue.updates.size());
+    assertEquals(Arrays.asList(a, b), queue.updates.get(0));
+  }
+
+  public void testUpdatesProjectsAddedLater() throws Exception {
+    IProject a = root.getProject("a");
+    queue.add(a);
+    queue.join();
+    queue.add(a);
+    queue.join();
+
+    assertEquals(2, queue.updates.size());
+  }
+
+  public void testUpdatesProjectsAddedAfterFailedUpdate() throws Exception {
+    queue.failNextUpdate = true;
+    queue.add(root.getProject("a"));
+    queue.join();
+    queue.add(root.getProject("b"));
+    queue.join();
+
+    assertEquals(2, queue.updates.size());
+    assertEquals(Arrays.asList(root.getProject("b")), queue.updates.get(1));
+  }
+
+  public void testStopDropsQueuedProjects() throws Exception {
+    queue.add(root.getProject("a"));
+    queue.stop();
+    queue.join();
+    assertTrue(queue.updates.isEmpty());
+
+    // The queue still works afterwards
+    queue.add(root.getProject("b"));
+    queue.join();
+    assertEquals(1, queue.updates.size());
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    root = ResourcesPlugin.getWorkspace().getRoot();
+    queue = new RecordingQueue();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    queue.stop();
+    super.tearDown();
+  }
+}
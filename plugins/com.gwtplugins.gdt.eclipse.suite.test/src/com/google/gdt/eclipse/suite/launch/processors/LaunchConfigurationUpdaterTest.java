@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.suite.launch.processors;
+
+import com.google.gdt.eclipse.core.launch.LaunchConfigurationProcessorTestingHelper;
+import com.google.gdt.eclipse.core.StringUtilities;
+import com.google.gdt.eclipse.core.launch.LaunchConfigurationProcessorUtilities;
+import com.google.gwt.eclipse.core.projects.GwtEnablingProjectCreationParticipant;
+import com.google.gwt.eclipse.testing.GwtRuntimeTestUtilities;
+import com.google.gwt.eclipse.testing.GwtTestUtilities;
+
+import junit.framework.TestCase;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+
+import java.util.List;
+
+/**
+ * Tests the {@link LaunchConfigurationUpdater}.
+ */
+public class LaunchConfigurationUpdaterTest extends TestCase {
+
+  private final LaunchConfigurationProcessorTestingHelper helper =
+      new LaunchConfigurationProcessorTestingHelper();
+
+  @Override
+  public void setUp() throws Exception {
+    GwtTestUtilities.setUp();
+
+    GwtRuntimeTestUtilities.addDefaultRuntime();
+
+    helper.setUp(LaunchConfigurationUpdaterTest.class.getSimpleName(),
+        new GwtEnablingProjectCreationParticipant());
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    helper.tearDown();
+  }
+
+  public void testCanonicalAttributesIgnoreArgFormatting() throws Exception {
+    ILaunchConfigurationWorkingCopy launchConfig = helper.getLaunchConfig();
+    launchConfig.setAttribute(IJavaLaunchConfigurationConstants.ATTR_VM_ARGUMENTS,
+        "-Xmx512m  -Dfoo=bar");
+    launchConfig.setAttribute("emptyAttribute", "");
+    ILaunchConfigurationWorkingCopy otherLaunchConfig = launchConfig.getWorkingCopy();
+    otherLaunchConfig.setAttribute(IJavaLaunchConfigurationConstants.ATTR_VM_ARGUMENTS,
+        "-Xmx512m -Dfoo=bar");
+    otherLaunchConfig.removeAttribute("emptyAttribute");
+
+    assertEquals(LaunchConfigurationUpdater.getCanonicalAttributes(launchConfig),
+        LaunchConfigurationUpdater.getCanonicalAttributes(otherLaunchConfig));
+
+    otherLaunchConfig.setAttribute(IJavaLaunchConfigurationConstants.ATTR_VM_ARGUMENTS,
+        "-Dfoo=bar -Xmx512m");
+    assertFalse(LaunchConfigurationUpdater.getCanonicalAttributes(launchConfig).equals(
+        LaunchConfigurationUpdater.getCanonicalAttributes(otherLaunchConfig)));
+  }
+
+  public void testUpdateSavesOnlyChanges() throws Exception {
+    ILaunchConfiguration launchConfig = helper.getLaunchConfig().doSave();
+    new LaunchConfigurationUpdater(launchConfig,
+        JavaCore.create(helper.getProject())).update();
+
+    // Nothing changed since the last update
+    assertFalse(new LaunchConfigurationUpdater(launchConfig,
+        JavaCore.create(helper.getProject())).update());
+
+    // The Xmx processor adds a missing -Xmx
+    ILaunchConfigurationWorkingCopy launchConfigWc = launchConfig.getWorkingCopy();
+    List<String> vmArgs = LaunchConfigurationProcessorUtilities.parseVmArgs(launchConfigWc);
+    vmArgs.remove(indexOfXmx(vmArgs));
+    launchConfigWc.setAttribute(IJavaLaunchConfigurationConstants.ATTR_VM_ARGUMENTS,
+        LaunchConfigurationProcessorUtilities.createArgsString(vmArgs));
+    launchConfig = launchConfigWc.doSave();
+
+    assertTrue(new LaunchConfigurationUpdater(launchConfig,
+        JavaCore.create(helper.getProject())).update());
+    assertTrue(indexOfXmx(LaunchConfigurationProcessorUtilities.parseVmArgs(launchConfig)) >= 0);
+  }
+
+  private static int indexOfXmx(List<String> vmArgs) {
+    return StringUtilities.indexOfThatStartsWith(vmArgs, "-Xmx", 0);
+  }
+}
@@ -17,6 +17,7 @@ package com.google.gdt.eclipse.suite.update;
 import com.google.gdt.eclipse.core.AbstractGwtPlugin;
 import com.google.gdt.eclipse.core.Logger;
 import com.google.gdt.eclipse.core.PluginProperties;
+import com.google.gdt.eclipse.core.jobs.CoalescingDispatcher;
 import com.google.gdt.eclipse.core.sdk.Sdk;
 import com.google.gdt.eclipse.core.sdk.SdkUtils;
 import com.google.gdt.eclipse.core.update.internal.core.FeatureUpdateChecker;
@@ -61,6 +62,12 @@ public class GdtExtPlugin extends AbstractGwtPlugin {
   public static final String PLUGIN_ID = "com.gwtplugins.gdt.eclipse.suite.update";
   public static final String GWT_SDK_BUNDLE_FEATURE_ID = "com.gwtplugins.gwt.eclipse.sdkbundle.gwt211.feature";
 
+  /**
+   * How long to wait for a burst of builds to end before checking for updates.
+   */
+  private static final long BUILD_TRIGGER_DEBOUNCE_MILLIS = 5000;
+
+  private static CoalescingDispatcher buildTriggerDispatcher;
   private static BundleContext context;
   private static FeatureUpdateManager featureUpdateManager;
   private static Logger logger;
@@ -74,6 +81,14 @@ public class GdtExtPlugin extends AbstractGwtPlugin {
     FEATURE_UPDATE_SITE_URL = props.getProperty("featureUpdateSiteURL", "http://localhost/update");
   }
 
+  /**
+   * Returns the dispatcher which checks for updates and reports builds of GWT projects, at most once per
+   * {@link GdtPreferences#getBuildTriggerIntervalMillis()}.
+   */
+  public static CoalescingDispatcher getBuildTriggerDispatcher() {
+    return buildTriggerDispatcher;
+  }
+
   public static BundleContext getContext() {
     return context;
   }
@@ -121,6 +136,11 @@ public class GdtExtPlugin extends AbstractGwtPlugin {
 
   @Override
   public void stop(BundleContext bundleContext) throws Exception {
+    if (buildTriggerDispatcher != null) {
+      buildTriggerDispatcher.stop();
+      buildTriggerDispatcher = null;
+    }
+
     if (featureUpdateManager != null) {
       featureUpdateManager.cancelPendingUpdates();
       featureUpdateManager = null;
@@ -167,6 +187,29 @@ public class GdtExtPlugin extends AbstractGwtPlugin {
 
     featureUpdateManager = new FeatureUpdateManager(generator, updateCheckersMap);
     analyticsPingManager = new AnalyticsPingManager(generator);
+
+    buildTriggerDispatcher = new CoalescingDispatcher("Check Update", new CoalescingDispatcher.Sink() {
+      @Override
+      public void dispatch(int triggerCount) {
+        try {
+          featureUpdateManager.checkForUpdates();
+        } catch (Exception e) {
+          // No need to catch network issues.
+        }
+        try {
+          analyticsPingManager.sendCompilationPing(triggerCount);
+        } catch (Exception e) {
+          // No need to catch network issues
+        }
+      }
+    }, CoalescingDispatcher.SYSTEM_CLOCK, BUILD_TRIGGER_DEBOUNCE_MILLIS,
+        GdtPreferences.getBuildTriggerIntervalMillis()) {
+      @Override
+      protected long getMinIntervalMillis() {
+        // Picks up changes to the preference without a restart
+        return GdtPreferences.getBuildTriggerIntervalMillis();
+      }
+    };
   }
 
 }
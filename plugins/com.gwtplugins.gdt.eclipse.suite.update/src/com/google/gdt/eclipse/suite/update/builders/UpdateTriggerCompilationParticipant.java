@@ -14,20 +14,20 @@
  *******************************************************************************/
 package com.google.gdt.eclipse.suite.update.builders;
 
+import com.google.gdt.eclipse.core.jobs.CoalescingDispatcher;
 import com.google.gdt.eclipse.suite.preferences.GdtPreferences;
 import com.google.gdt.eclipse.suite.update.GdtExtPlugin;
 import com.google.gwt.eclipse.core.nature.GWTNature;
 
-import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.compiler.CompilationParticipant;
 
 /**
  * A compilation participant that is used to trigger an update check of the GWT Plugin's feature
  * whenever a Java build is triggered on a GWT project.
+ *
+ * JDT asks every build and reconcile of every GWT project, so the update check and the analytics
+ * ping are left to {@link GdtExtPlugin#getBuildTriggerDispatcher()}, which coalesces the triggers.
  */
 public class UpdateTriggerCompilationParticipant extends CompilationParticipant {
 
@@ -39,47 +39,14 @@ public class UpdateTriggerCompilationParticipant extends CompilationParticipant
 
     // Only run when preferences are set to ok, and it's a gwt project
     if (GdtPreferences.getCaptureAnalytics() && GWTNature.isGWTProject(project.getProject())) {
-      runProcesses();
+      CoalescingDispatcher dispatcher = GdtExtPlugin.getBuildTriggerDispatcher();
+      if (dispatcher != null) {
+        dispatcher.trigger();
+      }
       return true;
     } else {
       return false;
     }
   }
 
-  private void runProcesses() {
-    checkUpdates();
-    pingAnalytics();
-  }
-
-  private void checkUpdates() {
-    Job job = new Job("Check Update") {
-      @Override
-      protected IStatus run(IProgressMonitor monitor) {
-        try {
-          GdtExtPlugin.getFeatureUpdateManager().checkForUpdates();
-        } catch (Exception e) {
-          // No need to catch network issues.
-        }
-        System.out.println("check updates");
-        return Status.OK_STATUS;
-      }
-    };
-    job.schedule();
-  }
-
-  public void pingAnalytics() {
-    Job job = new Job("Analytics Ping") {
-      @Override
-      protected IStatus run(IProgressMonitor monitor) {
-        try {
-          GdtExtPlugin.getAnalyticsPingManager().sendCompilationPing();
-        } catch (Exception e) {
-          // No need to catch network issues
-        }
-        return Status.OK_STATUS;
-      }
-    };
-    job.schedule();
-  }
-
 }
@@ -70,8 +70,8 @@ public class AnalyticsPingManager implements PingManager {
   }
 
   @Override
-  public void sendCompilationPing() {
-    sendPing(GdtExtPlugin.PLUGIN_ID, Action.GWT_COMPILATION, null, null);
+  public void sendCompilationPing(int compilationCount) {
+    sendPing(GdtExtPlugin.PLUGIN_ID, Action.GWT_COMPILATION, null, compilationCount);
   }
 
   private static void sendPing(
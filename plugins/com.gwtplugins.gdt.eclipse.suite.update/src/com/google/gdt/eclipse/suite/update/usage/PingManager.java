@@ -20,6 +20,11 @@ package com.google.gdt.eclipse.suite.update.usage;
  */
 public interface PingManager {
 
-  void sendCompilationPing();
+  /**
+   * Reports Java builds of GWT projects.
+   *
+   * @param compilationCount the number of builds covered by this ping
+   */
+  void sendCompilationPing(int compilationCount);
 
 }
@@ -15,8 +15,6 @@
 package com.google.gdt.eclipse.suite;
 
 import com.google.gdt.eclipse.core.AbstractGwtPlugin;
-import com.google.gdt.eclipse.core.BuilderUtilities;
-import com.google.gdt.eclipse.core.CorePluginLog;
 import com.google.gdt.eclipse.core.Logger;
 import com.google.gdt.eclipse.core.markers.GdtProblemSeverities;
 import com.google.gdt.eclipse.core.projects.ProjectUtilities;
@@ -24,16 +22,10 @@ import com.google.gdt.eclipse.suite.launch.processors.LaunchConfigAffectingChang
 import com.google.gdt.eclipse.suite.preferences.GdtPreferences;
 import com.google.gdt.eclipse.suite.resources.GdtImages;
 import com.google.gdt.eclipse.suite.wizards.WebAppProjectCreator;
-import com.google.gwt.eclipse.core.nature.GWTNature;
-
-import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.IResource;
-import org.eclipse.core.resources.IResourceChangeEvent;
-import org.eclipse.core.resources.IResourceChangeListener;
-import org.eclipse.core.resources.IResourceDelta;
-import org.eclipse.core.resources.IWorkspace;
+
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.jface.resource.ImageRegistry;
+import org.eclipse.swt.custom.BusyIndicator;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.IPerspectiveDescriptor;
 import org.eclipse.ui.IWindowListener;
@@ -119,63 +111,6 @@ public class GdtPlugin extends AbstractGwtPlugin {
     return getDefault().getBundle().getVersion();
   }
 
-  private static void rebuildProjectIfPluginVersionChanged(IProject project) {
-    // We're only worried about GWT projects
-    if (GWTNature.isGWTProject(project.getProject())) {
-      // Find the last plugin version that know the project was built with
-      Version lastForcedRebuildAt = GdtPreferences.getVersionForLastForcedRebuild(project);
-      Version currentPluginVersion = GdtPlugin.getVersion();
-
-      if (!lastForcedRebuildAt.equals(currentPluginVersion)) {
-        GdtPreferences.setVersionForLastForcedRebuild(project, currentPluginVersion);
-
-        BuilderUtilities.scheduleRebuild(project);
-        CorePluginLog.logInfo("Scheduled rebuild of project " + project.getName()
-            + " because of plugin update (current version: " + currentPluginVersion.toString() + ")");
-      }
-    }
-  }
-
-  private static void rebuildProjectsIfPluginVersionChanged() {
-    boolean closedProjectsInWorkspace = false;
-
-    // Rebuild all (open) GWT projects in the workspace
-    IWorkspace workspace = ResourcesPlugin.getWorkspace();
-    for (IProject project : workspace.getRoot().getProjects()) {
-      if (project.isOpen()) {
-        rebuildProjectIfPluginVersionChanged(project);
-      } else {
-        closedProjectsInWorkspace = true;
-      }
-    }
-
-    // Add listeners for all closed projects, so we can rebuild them, too,
-    // when they're opened (but only if they are GWT projects).
-    if (closedProjectsInWorkspace) {
-      workspace.addResourceChangeListener(new IResourceChangeListener() {
-        @Override
-        public void resourceChanged(IResourceChangeEvent event) {
-          IResourceDelta delta = event.getDelta();
-          if (delta != null) {
-            // Find any project-level changes
-            IResourceDelta[] projectDeltas = delta.getAffectedChildren(IResourceDelta.CHANGED, IResource.PROJECT);
-
-            // The master delta may include more than one project delta
-            for (IResourceDelta projectDelta : projectDeltas) {
-              // Find any deltas for projects being opened/closed
-              if ((projectDelta.getFlags() & IResourceDelta.OPEN) > 0) {
-                IProject project = (IProject) projectDelta.getResource();
-                if (project.isOpen()) {
-                  rebuildProjectIfPluginVersionChanged(project);
-                }
-              }
-            }
-          }
-        }
-      });
-    }
-  }
-
   private final PerspectiveAdapter perspectiveListener = new PerspectiveAdapter() {
     @Override
     public void perspectiveActivated(IWorkbenchPage page, IPerspectiveDescriptor perspectiveDesc) {
@@ -202,9 +137,47 @@ public class GdtPlugin extends AbstractGwtPlugin {
     }
   };
 
+  private GdtPluginInitializationJob initializationJob;
+
   public GdtPlugin() {
   }
 
+  /**
+   * Waits for the initialization started in the background on activation to
+   * finish, including updating the projects.
+   */
+  public void waitForInitialization() {
+    if (initializationJob == null) {
+      return;
+    }
+    try {
+      initializationJob.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Waits for the bundled SDKs, which are registered in the background on
+   * activation, showing a busy cursor when called on the UI thread.
+   */
+  public void waitForSdkRegistration() {
+    final GdtPluginInitializationJob job = initializationJob;
+    if (job == null) {
+      return;
+    }
+    BusyIndicator.showWhile(Display.getCurrent(), new Runnable() {
+      @Override
+      public void run() {
+        try {
+          job.awaitSdkRegistration();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+  }
+
   @Override
   protected void initializeImageRegistry(ImageRegistry reg) {
     super.initializeImageRegistry(reg);
@@ -316,7 +289,6 @@ public class GdtPlugin extends AbstractGwtPlugin {
     // Force the installation id initialization before SDK registration.
     getInstallationId();
 
-    GdtPreferences.registerSdks();
     ProjectUtilities.setWebAppProjectCreatorFactory(WebAppProjectCreator.FACTORY);
 
     /*
@@ -344,13 +316,17 @@ public class GdtPlugin extends AbstractGwtPlugin {
      */
     GdtProblemSeverities.getInstance().loadSeverities(GdtPreferences.getEncodedProblemSeverities());
 
-    rebuildProjectsIfPluginVersionChanged();
-
-    new ProjectMigrator().migrate();
+    // Register the bundled SDKs, and rebuild and migrate the projects, in the
+    // background
+    initializationJob = new GdtPluginInitializationJob();
+    initializationJob.schedule();
   }
 
   @Override
   public void stop(BundleContext context) throws Exception {
+    if (initializationJob != null) {
+      initializationJob.stop();
+    }
     LaunchConfigAffectingChangesListener.INSTANCE.stop();
 
     plugin = null;
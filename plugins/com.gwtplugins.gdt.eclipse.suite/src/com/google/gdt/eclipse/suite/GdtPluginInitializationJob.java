@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.suite;
+
+import com.google.gdt.eclipse.core.BuilderUtilities;
+import com.google.gdt.eclipse.core.CorePluginLog;
+import com.google.gdt.eclipse.suite.preferences.GdtPreferences;
+import com.google.gwt.eclipse.core.nature.GWTNature;
+import com.google.gwt.eclipse.core.validators.java.GWTBuildArtifact;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaCore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Does the work of activating the plug-in which doesn't have to be done before
+ * the activation returns, in a single background job, so it doesn't delay the
+ * IDE startup:
+ * <ul>
+ * <li>registers the SDKs bundled with the installed plug-ins</li>
+ * <li>goes over the open projects once, re-validating the compilation units of
+ * the GWT projects which contribute to build artifacts whose format changed
+ * (see {@link GWTBuildArtifact}), and migrating them. Closed projects get the
+ * same treatment when they are opened.</li>
+ * </ul>
+ * The time taken by each step is recorded, and logged when the initialization
+ * is slow.
+ */
+class GdtPluginInitializationJob extends Job {
+
+  /**
+   * The initialization is logged when it takes longer than this.
+   */
+  private static final long SLOW_INITIALIZATION_MILLIS = 5000;
+
+  /**
+   * The format version of the build artifacts generated before the formats were
+   * versioned.
+   */
+  private static final int UNVERSIONED_FORMAT_VERSION = 1;
+
+  /**
+   * Re-validates the compilation units of a GWT project which contribute to the
+   * build artifacts whose format changed since they were generated for the
+   * project. The JDT build state of the project is left alone.
+   */
+  private static void updateBuildArtifactsIfFormatChanged(IProject project) {
+    if (!GWTNature.isGWTProject(project)) {
+      return;
+    }
+
+    List<GWTBuildArtifact> outOfDateArtifacts = new ArrayList<GWTBuildArtifact>();
+    Map<String, Integer> versions = new LinkedHashMap<String, Integer>();
+    for (GWTBuildArtifact artifact : GWTBuildArtifact.values()) {
+      int projectVersion = GdtPreferences.getBuildArtifactVersion(project,
+          artifact.getId(), UNVERSIONED_FORMAT_VERSION);
+      if (artifact.isOutOfDate(projectVersion)) {
+        outOfDateArtifacts.add(artifact);
+        versions.put(artifact.getId(), artifact.getFormatVersion());
+      }
+    }
+
+    if (outOfDateArtifacts.isEmpty()) {
+      return;
+    }
+
+    Set<ICompilationUnit> cus = new HashSet<ICompilationUnit>();
+    try {
+      GWTBuildArtifact.addContributingCompilationUnits(JavaCore.create(project), outOfDateArtifacts, cus);
+    } catch (CoreException e) {
+      // Fall back to rebuilding the whole project
+      CorePluginLog.logError(e, "Could not find the compilation units to re-validate in " + project.getName());
+      BuilderUtilities.scheduleRebuild(project, saveVersionsWhenDone(project, versions));
+      return;
+    }
+
+    if (cus.isEmpty()) {
+      GdtPreferences.setBuildArtifactVersions(project, versions);
+      return;
+    }
+
+    BuilderUtilities.revalidateCompilationUnits(cus, "Updating GWT indexes of " + project.getName(),
+        saveVersionsWhenDone(project, versions));
+    CorePluginLog.logInfo("Re-validating " + cus.size() + " compilation units of project " + project.getName()
+        + " to update " + versions.keySet());
+  }
+
+  /**
+   * Returns a listener which records the new build artifact versions of the
+   * project once the job updating them has succeeded, so that a cancelled or
+   * failed update is retried on the next start.
+   */
+  private static IJobChangeListener saveVersionsWhenDone(final IProject project,
+      final Map<String, Integer> versions) {
+    return new JobChangeAdapter() {
+      @Override
+      public void done(IJobChangeEvent event) {
+        if (event.getResult() != null && event.getResult().isOK()) {
+          GdtPreferences.setBuildArtifactVersions(project, versions);
+        }
+      }
+    };
+  }
+
+  private final CountDownLatch done = new CountDownLatch(1);
+
+  /**
+   * Released as soon as the bundled SDKs are registered, before the projects
+   * are updated, which may wait for workspace locks and builds.
+   */
+  private final CountDownLatch sdksRegistered = new CountDownLatch(1);
+
+  /**
+   * Added if there are closed projects, to update them when they are opened.
+   */
+  private volatile IResourceChangeListener projectOpenedListener;
+
+  private final ProjectMigrator projectMigrator = new ProjectMigrator();
+
+  private final Map<String, Long> stepMillis = Collections.synchronizedMap(new LinkedHashMap<String, Long>());
+
+  GdtPluginInitializationJob() {
+    super("Initializing the GWT plugin");
+    setSystem(true);
+    // Run ahead of the long running jobs started with the workbench, e.g. builds
+    setPriority(Job.SHORT);
+  }
+
+  /**
+   * Waits for the initialization to finish.
+   */
+  public void await() throws InterruptedException {
+    done.await();
+  }
+
+  /**
+   * Waits for the bundled SDKs to be registered, without waiting for the
+   * projects to be updated.
+   */
+  public void awaitSdkRegistration() throws InterruptedException {
+    sdksRegistered.await();
+  }
+
+  /**
+   * Returns how long each step took, in milliseconds, in the order they ran.
+   */
+  public Map<String, Long> getStepMillis() {
+    synchronized (stepMillis) {
+      return new LinkedHashMap<String, Long>(stepMillis);
+    }
+  }
+
+  /**
+   * Cancels the initialization if it hasn't started yet, and stops updating
+   * the projects that are opened.
+   */
+  public void stop() {
+    if (cancel()) {
+      // Don't leave anyone waiting for a job which won't run
+      sdksRegistered.countDown();
+      done.countDown();
+    }
+
+    IResourceChangeListener listener = projectOpenedListener;
+    if (listener != null) {
+      ResourcesPlugin.getWorkspace().removeResourceChangeListener(listener);
+      projectOpenedListener = null;
+    }
+  }
+
+  @Override
+  protected IStatus run(IProgressMonitor monitor) {
+    try {
+      long start = System.currentTimeMillis();
+
+      runStep("Register bundled SDKs", new Runnable() {
+        @Override
+        public void run() {
+          GdtPreferences.registerSdks();
+        }
+      });
+      sdksRegistered.countDown();
+
+      runStep("Rebuild and migrate projects", new Runnable() {
+        @Override
+        public void run() {
+          updateProjects();
+        }
+      });
+
+      long elapsed = System.currentTimeMillis() - start;
+      if (elapsed > SLOW_INITIALIZATION_MILLIS) {
+        GdtPlugin.getLogger().logInfo(
+            "Initializing the GWT plugin took " + elapsed + " ms: " + getStepMillis());
+      }
+    } finally {
+      sdksRegistered.countDown();
+      done.countDown();
+    }
+
+    return Status.OK_STATUS;
+  }
+
+  private void runStep(String name, Runnable step) {
+    long start = System.currentTimeMillis();
+    try {
+      step.run();
+    } catch (RuntimeException e) {
+      GdtPlugin.getLogger().logError(e, "Could not " + name.toLowerCase());
+    }
+    stepMillis.put(name, System.currentTimeMillis() - start);
+  }
+
+  private void updateProject(IProject project) {
+    updateBuildArtifactsIfFormatChanged(project);
+    projectMigrator.migrate(project);
+  }
+
+  private void updateProjects() {
+    boolean closedProjectsInWorkspace = false;
+
+    IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    for (IProject project : workspace.getRoot().getProjects()) {
+      if (project.isOpen()) {
+        updateProject(project);
+      } else {
+        closedProjectsInWorkspace = true;
+      }
+    }
+
+    // Add a listener for all closed projects, so we can update them, too,
+    // when they're opened
+    if (closedProjectsInWorkspace) {
+      projectOpenedListener = new IResourceChangeListener() {
+        @Override
+        public void resourceChanged(IResourceChangeEvent event) {
+          IResourceDelta delta = event.getDelta();
+          if (delta != null) {
+            // Find any project-level changes
+            IResourceDelta[] projectDeltas = delta.getAffectedChildren(IResourceDelta.CHANGED, IResource.PROJECT);
+
+            // The master delta may include more than one project delta
+            for (IResourceDelta projectDelta : projectDeltas) {
+              // Find any deltas for projects being opened/closed
+              if ((projectDelta.getFlags() & IResourceDelta.OPEN) > 0) {
+                IProject project = (IProject) projectDelta.getResource();
+                if (project.isOpen()) {
+                  updateProject(project);
+                }
+              }
+            }
+          }
+        }
+      };
+      workspace.addResourceChangeListener(projectOpenedListener);
+    }
+  }
+}
@@ -20,63 +20,16 @@ import com.google.gdt.eclipse.suite.preferences.GdtPreferences;
 import com.google.gwt.eclipse.core.nature.GWTNature;
 
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.IResource;
-import org.eclipse.core.resources.IResourceChangeEvent;
-import org.eclipse.core.resources.IResourceChangeListener;
-import org.eclipse.core.resources.IResourceDelta;
-import org.eclipse.core.resources.IWorkspace;
-import org.eclipse.core.resources.ResourcesPlugin;
 
 /**
  * Runs migration logic on projects.
+ *
+ * @see GdtPluginInitializationJob
  */
 public class ProjectMigrator {
 
   public static final int CURRENT_VERSION = 4;
 
-  /**
-   * Scans projects in workspace for those that have not been migrated to the latest version.
-   */
-  public void migrate() {
-    boolean closedProjectsInWorkspace = false;
-
-    // Attempt to migrate all projects
-    IWorkspace workspace = ResourcesPlugin.getWorkspace();
-    for (IProject project : workspace.getRoot().getProjects()) {
-      if (project.isOpen()) {
-        safelyMigrateIfVersionChanged(project);
-      } else {
-        closedProjectsInWorkspace = true;
-      }
-    }
-
-    // Add listeners for all closed projects, so we can rebuild them, too,
-    // when they're opened (but only if they are GWT projects).
-    if (closedProjectsInWorkspace) {
-      workspace.addResourceChangeListener(new IResourceChangeListener() {
-        @Override
-        public void resourceChanged(IResourceChangeEvent event) {
-          IResourceDelta delta = event.getDelta();
-          if (delta != null) {
-            // Find any project-level changes
-            IResourceDelta[] projectDeltas = delta.getAffectedChildren(IResourceDelta.CHANGED, IResource.PROJECT);
-
-            // The master delta may include more than one project delta
-            for (IResourceDelta projectDelta : projectDeltas) {
-              // Find any deltas for projects being opened/closed
-              if ((projectDelta.getFlags() & IResourceDelta.OPEN) > 0) {
-                IProject project = (IProject) projectDelta.getResource();
-                if (project.isOpen()) {
-                  safelyMigrateIfVersionChanged(project);
-                }
-              }
-            }
-          }
-        }
-      });
-    }
-  }
-
   /**
    * The actual migration logic. Ensure the template is followed exactly -- specifically that
    * {@link ProjectMigrator#CURRENT_VERSION} has been bumped, and that it will equal the projectVersion at the end of
@@ -136,7 +89,7 @@ public class ProjectMigrator {
    * Migrates the given project if there is some migration that needs to be done. This method ensures no exceptions
    * escape.
    */
-  private void safelyMigrateIfVersionChanged(IProject project) {
+  public void migrate(IProject project) {
     try {
       if (GWTNature.isGWTProject(project.getProject())) {
         int projectVersion = GdtPreferences.getProjectMigratorVersion(project);
@@ -20,6 +20,9 @@ import com.google.gdt.eclipse.core.launch.LaunchConfigurationUtilities;
 import com.google.gdt.eclipse.core.properties.WebAppProjectProperties;
 import com.google.gdt.eclipse.core.properties.WebAppProjectProperties.IWarOutLocationChangedListener;
 import com.google.gdt.eclipse.suite.GdtPlugin;
+import com.google.gdt.eclipse.suite.preferences.GdtPreferences;
+import com.google.gwt.eclipse.core.properties.GWTProjectProperties;
+import com.google.gwt.eclipse.core.runtime.GwtSdk.ProjectBoundSdk;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -28,7 +31,6 @@ import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.ProjectScope;
 import org.eclipse.core.resources.ResourcesPlugin;
-import org.eclipse.core.resources.WorkspaceJob;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -55,12 +57,20 @@ import org.osgi.service.prefs.BackingStoreException;
 import org.osgi.service.prefs.Preferences;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Updates relevant launch configurations when a project's classpath or natures
  * change.
+ *
+ * Changes are filtered down to the ones the launch configuration processors
+ * depend on, and the affected projects are updated together on a single
+ * {@link LaunchConfigUpdateQueue}, except for newly added launch
+ * configurations which are updated right away.
  */
 public enum LaunchConfigAffectingChangesListener implements
     IElementChangedListener, IResourceChangeListener,
@@ -68,36 +78,71 @@ public enum LaunchConfigAffectingChangesListener implements
     IPreferenceChangeListener, INodeChangeListener {
   INSTANCE;
 
-  private static void asyncUpdate(
-      final List<LaunchConfigurationUpdater> launchConfigurationUpdaters) {
-    WorkspaceJob job = new WorkspaceJob("Updating GPE launch configurations") {
+  /**
+   * How long to wait for a burst of changes to settle before updating the
+   * launch configurations.
+   */
+  private static final long DEBOUNCE_MILLIS = 500;
+
+  /**
+   * Project preferences which no launch configuration processor depends on.
+   */
+  private static final Set<String> IGNORED_PREFERENCE_KEYS = new HashSet<String>(
+      Arrays.asList(new String[] {
+          GWTProjectProperties.FILES_COPIED_TO_WEB_INF_LIB,
+          GWTProjectProperties.GWT_COMPILE_SETTINGS_XML,
+          GWTProjectProperties.SYNC_CODESERVER_RUNNING,
+          WebAppProjectProperties.JARS_EXCLUDED_FROM_WEB_INF_LIB}));
+
+  /**
+   * The prefixes of the GWT SDK versions cached in the project preferences,
+   * which are written while the launch configurations are being updated, and
+   * of the versions of the GWT build artifacts.
+   */
+  private static final String[] IGNORED_PREFERENCE_KEY_PREFIXES = new String[] {
+      ProjectBoundSdk.GWT_VERSION_PREF, GdtPreferences.BUILD_ARTIFACT_VERSION_PREFIX};
+
+  private static boolean isRelevant(PreferenceChangeEvent event) {
+    String key = event.getKey();
+    if (IGNORED_PREFERENCE_KEYS.contains(key)) {
+      return false;
+    }
 
-      @Override
-      public IStatus runInWorkspace(IProgressMonitor monitor)
-          throws CoreException {
-        syncUpdate(launchConfigurationUpdaters);
-        return Status.OK_STATUS;
+    for (String prefix : IGNORED_PREFERENCE_KEY_PREFIXES) {
+      if (key.startsWith(prefix)) {
+        return false;
       }
-    };
-
-    job.setSystem(true);
-    // Use the build rule, since it locks the whole workspace
-    job.setRule(ResourcesPlugin.getWorkspace().getRuleFactory().buildRule());
-    job.schedule();
+    }
+    return true;
   }
 
-  private static void syncUpdate(
+  /**
+   * Returns the number of launch configurations which changed and were saved.
+   */
+  private static int syncUpdate(
       final List<LaunchConfigurationUpdater> launchConfigurationUpdaters) {
+    int savedCount = 0;
     for (LaunchConfigurationUpdater updater : launchConfigurationUpdaters) {
       try {
-        updater.update();
+        if (updater.update()) {
+          savedCount++;
+        }
       } catch (CoreException ce) {
         CorePluginLog.logError(ce, "Could not update launch configuration "
             + updater.getLaunchConfiguration().getName() + " .");
       }
     }
+    return savedCount;
   }
 
+  private final LaunchConfigUpdateQueue updateQueue = new LaunchConfigUpdateQueue(
+      DEBOUNCE_MILLIS) {
+    @Override
+    protected IStatus update(Set<IProject> projects, IProgressMonitor monitor) {
+      return updateLaunchConfigs(projects);
+    }
+  };
+
   public void added(NodeChangeEvent event) {
     ((IEclipsePreferences) event.getChild()).addPreferenceChangeListener(this);
     ((IEclipsePreferences) event.getChild()).addNodeChangeListener(this);
@@ -106,7 +151,8 @@ public enum LaunchConfigAffectingChangesListener implements
   public void elementChanged(ElementChangedEvent event) {
     for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
       int flags = delta.getFlags();
-      if ((flags & IJavaElementDelta.F_CLASSPATH_CHANGED) != 0) {
+      if (delta.getKind() == IJavaElementDelta.CHANGED
+          && (flags & IJavaElementDelta.F_CLASSPATH_CHANGED) != 0) {
         IJavaElement element = delta.getElement();
         if (element.getElementType() != IJavaElement.JAVA_PROJECT) {
           continue;
@@ -160,6 +206,10 @@ public enum LaunchConfigAffectingChangesListener implements
   }
 
   public void preferenceChange(PreferenceChangeEvent event) {
+    if (!isRelevant(event)) {
+      return;
+    }
+
     try {
       Preferences preferences = event.getNode().parent();
       if (preferences.parent().name() == ProjectScope.SCOPE) {
@@ -182,7 +232,7 @@ public enum LaunchConfigAffectingChangesListener implements
       return;
     }
 
-    for (IResourceDelta delta : rootDelta.getAffectedChildren()) {
+    for (IResourceDelta delta : rootDelta.getAffectedChildren(IResourceDelta.CHANGED)) {
       // The description includes natures (see IProjectDescription)
       if (delta.getFlags() == IResourceDelta.DESCRIPTION) {
         IResource resource = delta.getResource();
@@ -234,6 +284,8 @@ public enum LaunchConfigAffectingChangesListener implements
 
     JavaCore.removeElementChangedListener(this);
     ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+
+    updateQueue.stop();
   }
 
   public void updateLaunchConfigurations(IProject project) {
@@ -247,23 +299,42 @@ public enum LaunchConfigAffectingChangesListener implements
     updateLaunchConfigurations(project);
   }
 
-  private void updateLaunchConfigs(IJavaProject javaProject) {
-    try {
-      List<ILaunchConfiguration> launchConfigs = LaunchConfigurationUtilities.getLaunchConfigurations(
-          javaProject.getProject(),
-          LaunchConfigurationUpdater.APPLICABLE_LAUNCH_CONFIGURATION_TYPE_IDS.toArray(new String[0]));
-      ArrayList<LaunchConfigurationUpdater> launchConfigurationUpdaters = new ArrayList<LaunchConfigurationUpdater>();
-      for (ILaunchConfiguration launchConfig : launchConfigs) {
-        launchConfigurationUpdaters.add(new LaunchConfigurationUpdater(
-            launchConfig, javaProject));
+  /**
+   * Updates the launch configurations of the projects which still exist.
+   */
+  private IStatus updateLaunchConfigs(Set<IProject> projects) {
+    ArrayList<LaunchConfigurationUpdater> launchConfigurationUpdaters = new ArrayList<LaunchConfigurationUpdater>();
+    for (IProject project : projects) {
+      IJavaProject javaProject = JavaCore.create(project);
+      if (!javaProject.exists()) {
+        // Deleted or closed since the change
+        continue;
       }
 
-      asyncUpdate(launchConfigurationUpdaters);
-    } catch (CoreException e) {
-      CorePluginLog.logError(
-          e,
-          "Could not update launch configuration after project nature or classpath change");
+      try {
+        List<ILaunchConfiguration> launchConfigs = LaunchConfigurationUtilities.getLaunchConfigurations(
+            project,
+            LaunchConfigurationUpdater.APPLICABLE_LAUNCH_CONFIGURATION_TYPE_IDS.toArray(new String[0]));
+        for (ILaunchConfiguration launchConfig : launchConfigs) {
+          launchConfigurationUpdaters.add(new LaunchConfigurationUpdater(
+              launchConfig, javaProject));
+        }
+      } catch (CoreException e) {
+        CorePluginLog.logError(
+            e,
+            "Could not update launch configuration after project nature or classpath change");
+      }
     }
+
+    int savedCount = syncUpdate(launchConfigurationUpdaters);
+    return new Status(IStatus.OK, GdtPlugin.PLUGIN_ID, "Updated " + savedCount
+        + " launch configurations of " + projects.size() + " projects, "
+        + (launchConfigurationUpdaters.size() - savedCount)
+        + " were up to date");
+  }
+
+  private void updateLaunchConfigs(IJavaProject javaProject) {
+    updateQueue.add(javaProject.getProject());
   }
 
 }
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gdt.eclipse.suite.launch.processors;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.resources.WorkspaceJob;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Collects the projects whose launch configurations need updating, and updates
+ * them on a single background job.
+ *
+ * The job waits for the changes to settle, so a burst of changes (e.g. a
+ * workspace-wide classpath change, or a preference import) is handled at once,
+ * and each project is updated once no matter how many changes affected it.
+ * Projects added while the job runs are handled by its next run.
+ */
+abstract class LaunchConfigUpdateQueue {
+
+  private final long debounceMillis;
+
+  private final WorkspaceJob job;
+
+  /**
+   * Guarded by this.
+   */
+  private final Set<IProject> pendingProjects = new LinkedHashSet<IProject>();
+
+  /**
+   * Whether the job is scheduled or running. Guarded by this.
+   */
+  private boolean scheduled;
+
+  LaunchConfigUpdateQueue(long debounceMillis) {
+    this.debounceMillis = debounceMillis;
+    this.job = new WorkspaceJob("Updating GPE launch configurations") {
+      @Override
+      public IStatus runInWorkspace(IProgressMonitor monitor)
+          throws CoreException {
+        try {
+          Set<IProject> projects = takePendingProjects();
+          return projects.isEmpty() ? Status.OK_STATUS : update(projects,
+              monitor);
+        } finally {
+          // Keep updating the projects queued later even if this update failed
+          rescheduleIfPending();
+        }
+      }
+    };
+
+    job.setSystem(true);
+    // Use the build rule, since it locks the whole workspace
+    job.setRule(ResourcesPlugin.getWorkspace().getRuleFactory().buildRule());
+  }
+
+  /**
+   * Queues the project for updating.
+   */
+  public synchronized void add(IProject project) {
+    pendingProjects.add(project);
+    if (!scheduled) {
+      scheduled = true;
+      job.schedule(debounceMillis);
+    }
+  }
+
+  /**
+   * Drops the queued projects, and cancels the job if it hasn't started yet.
+   */
+  public synchronized void stop() {
+    pendingProjects.clear();
+    if (job.cancel()) {
+      scheduled = false;
+    }
+  }
+
+  /**
+   * Waits for the queued projects to be updated. Used by tests.
+   */
+  void join() throws InterruptedException {
+    job.join();
+  }
+
+  /**
+   * Updates the launch configurations of the projects. Called on the job.
+   *
+   * @return the status of the job
+   */
+  protected abstract IStatus update(Set<IProject> projects,
+      IProgressMonitor monitor);
+
+  private synchronized void rescheduleIfPending() {
+    if (pendingProjects.isEmpty()) {
+      scheduled = false;
+    } else {
+      job.schedule(debounceMillis);
+    }
+  }
+
+  private synchronized Set<IProject> takePendingProjects() {
+    Set<IProject> projects = new LinkedHashSet<IProject>(pendingProjects);
+    pendingProjects.clear();
+    return projects;
+  }
+}
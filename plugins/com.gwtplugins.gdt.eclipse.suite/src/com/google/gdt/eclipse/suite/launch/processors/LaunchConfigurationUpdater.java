@@ -41,8 +41,10 @@ import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -125,15 +127,49 @@ public class LaunchConfigurationUpdater {
     return launchConfig;
   }
 
+  /**
+   * Returns the attributes of the launch configuration in a form where
+   * attributes with the same meaning are equal: the program and VM arguments
+   * are compared as lists of arguments, and empty strings like missing
+   * attributes.
+   */
+  static Map<String, Object> getCanonicalAttributes(
+      ILaunchConfiguration launchConfig) throws CoreException {
+    Map<String, Object> attributes = new HashMap<String, Object>();
+    for (Map.Entry<?, ?> entry : ((Map<?, ?>) launchConfig.getAttributes()).entrySet()) {
+      String name = (String) entry.getKey();
+      Object value = entry.getValue();
+      if ("".equals(value)) {
+        continue;
+      }
+
+      if (value instanceof String
+          && (IJavaLaunchConfigurationConstants.ATTR_PROGRAM_ARGUMENTS.equals(name)
+              || IJavaLaunchConfigurationConstants.ATTR_VM_ARGUMENTS.equals(name))) {
+        List<String> args = LaunchConfigurationProcessorUtilities.parseArgs((String) value);
+        if (args.isEmpty()) {
+          continue;
+        }
+        value = args;
+      }
+      attributes.put(name, value);
+    }
+    return attributes;
+  }
+
   /**
    * Updates the launch configuration by delegating to each
    * {@link ILaunchConfigurationProcessor}.
    * <p>
-   * This method saves the launch configuration's working copy.
+   * This method saves the launch configuration's working copy, but only if the
+   * processors changed it, so updates which change nothing don't rewrite the
+   * launch configuration or notify launch configuration listeners.
    *
+   * @return true if the launch configuration changed and was saved
    * @throws CoreException
    */
-  public void update() throws CoreException {
+  public boolean update() throws CoreException {
+    Map<String, Object> attributesBefore = getCanonicalAttributes(launchConfig);
     ILaunchConfigurationWorkingCopy launchConfigWc = launchConfig.getWorkingCopy();
 
     for (ILaunchConfigurationProcessor processor : PROCESSORS) {
@@ -149,7 +185,12 @@ public class LaunchConfigurationUpdater {
     launchConfigWc.setAttribute(IJavaLaunchConfigurationConstants.ATTR_VM_ARGUMENTS,
         LaunchConfigurationProcessorUtilities.createArgsString(vmArgs));
 
+    if (attributesBefore.equals(getCanonicalAttributes(launchConfigWc))) {
+      return false;
+    }
+
     launchConfigWc.doSave();
+    return true;
   }
 
   public String validate() {
@@ -123,8 +123,8 @@ public class MainTypeProcessor implements ILaunchConfigurationProcessor {
     }
 
     if (GWTNature.isGWTProject(project)) {
-      ClassLoader classLoader = LaunchConfigurationProcessorUtilities.getClassLoaderFor(config);
-      if (classFinder.exists(classLoader, MainType.GWT_DEV_MODE.mainTypeName)) {
+      String[] classpath = LaunchConfigurationProcessorUtilities.getClasspath(config);
+      if (classFinder.exists(classpath, MainType.GWT_DEV_MODE.mainTypeName)) {
         return MainType.GWT_DEV_MODE.mainTypeName;
       }
 
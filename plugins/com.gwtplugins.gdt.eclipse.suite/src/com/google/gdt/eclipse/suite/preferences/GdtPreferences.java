@@ -35,7 +35,6 @@ import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.osgi.service.datalocation.Location;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
-import org.osgi.framework.Version;
 import org.osgi.service.prefs.BackingStoreException;
 
 import java.io.IOException;
@@ -130,10 +129,17 @@ public final class GdtPreferences {
   private static final String CAPTURE_ANALYTICS = "captureAnalytics";
 
   /**
-   * Records the GEP plugin version that most recently forced a rebuild on a project after install (to clean up and
-   * regenerate stale markers, etc.).
+   * The minimum time between two update checks or usage pings triggered by builds of GWT projects.
    */
-  private static final String VERSION_FOR_LAST_FORCED_REBUILD_PREFIX = "versionForLastForcedRebuild_";
+  private static final String BUILD_TRIGGER_INTERVAL_MILLIS = "buildTriggerIntervalMillis";
+
+  private static final long DEFAULT_BUILD_TRIGGER_INTERVAL_MILLIS = 30 * 60 * 1000;
+
+  /**
+   * Records the format version in which a GWT build artifact (an index, the markers, etc.) was last generated for a
+   * project.
+   */
+  public static final String BUILD_ARTIFACT_VERSION_PREFIX = "buildArtifactVersion_";
 
   public static boolean areUpdateNotificationsEnabled() {
     return getConfigurationPreferences().getBoolean(UPDATE_NOTIFICATIONS, false);
@@ -143,6 +149,10 @@ public final class GdtPreferences {
     return getConfigurationPreferences().getBoolean(CAPTURE_ANALYTICS, false);
   }
 
+  public static long getBuildTriggerIntervalMillis() {
+    return getConfigurationPreferences().getLong(BUILD_TRIGGER_INTERVAL_MILLIS, DEFAULT_BUILD_TRIGGER_INTERVAL_MILLIS);
+  }
+
   public static List<String> getAddedNewWizardActionsForPerspective(String perspectiveId) {
     IEclipsePreferences instancePrefs = getInstancePreferences();
     return PropertiesUtilities.deserializeStrings(instancePrefs.get(ADDED_NEW_WIZARD_ACTIONS + perspectiveId, ""));
@@ -187,10 +197,13 @@ public final class GdtPreferences {
         getConfigurationPreferences().get(getLastAckFeatureUpdateVersionKey(featureId), "0.0.0.0"));
   }
 
-  public static Version getVersionForLastForcedRebuild(IProject project) {
+  /**
+   * Returns the format version in which the build artifact was last generated for the project, or the default version
+   * if it wasn't recorded.
+   */
+  public static int getBuildArtifactVersion(IProject project, String artifactId, int defaultVersion) {
     IEclipsePreferences instancePrefs = getInstancePreferences();
-    String versionString = instancePrefs.get(VERSION_FOR_LAST_FORCED_REBUILD_PREFIX + project.getName(), "0.0.0.0");
-    return new Version(versionString);
+    return instancePrefs.getInt(getBuildArtifactVersionKey(project, artifactId), defaultVersion);
   }
 
   /**
@@ -261,6 +274,16 @@ public final class GdtPreferences {
     flushPreferences(configurationPreferences);
   }
 
+  /**
+   * Sets the minimum time between two update checks or usage pings triggered by builds of GWT projects. It takes
+   * effect the next time one is due.
+   */
+  public static void setBuildTriggerIntervalMillis(long intervalMillis) {
+    IEclipsePreferences configurationPreferences = getConfigurationPreferences();
+    configurationPreferences.putLong(BUILD_TRIGGER_INTERVAL_MILLIS, intervalMillis);
+    flushPreferences(configurationPreferences);
+  }
+
   public static void setInstallationId(String id) {
     IEclipsePreferences configurationPreferences = getConfigurationPreferences();
     configurationPreferences.put(INSTALLATION_ID, id);
@@ -304,9 +327,11 @@ public final class GdtPreferences {
     flushPreferences(configurationPreferences);
   }
 
-  public static void setVersionForLastForcedRebuild(IProject project, Version version) {
+  public static void setBuildArtifactVersions(IProject project, Map<String, Integer> versions) {
     IEclipsePreferences instancePrefs = getInstancePreferences();
-    instancePrefs.put(VERSION_FOR_LAST_FORCED_REBUILD_PREFIX + project.getName(), version.toString());
+    for (Map.Entry<String, Integer> entry : versions.entrySet()) {
+      instancePrefs.putInt(getBuildArtifactVersionKey(project, entry.getKey()), entry.getValue());
+    }
     flushPreferences(instancePrefs);
   }
 
@@ -388,6 +413,10 @@ public final class GdtPreferences {
     return configurationPrefs;
   }
 
+  private static String getBuildArtifactVersionKey(IProject project, String artifactId) {
+    return BUILD_ARTIFACT_VERSION_PREFIX + artifactId + "_" + project.getName();
+  }
+
   /**
    * Returns the instance scope context for this plugin.
    */
@@ -70,6 +70,8 @@ public class NewWebAppProjectWizard extends NewElementWizard implements INewWiza
 
   @Override
   public void addPages() {
+    // The page lists the SDKs, which are registered in the background
+    GdtPlugin.getDefault().waitForSdkRegistration();
     newProjectWizardPage = new NewWebAppProjectWizardPage();
     addPage(newProjectWizardPage);
   }
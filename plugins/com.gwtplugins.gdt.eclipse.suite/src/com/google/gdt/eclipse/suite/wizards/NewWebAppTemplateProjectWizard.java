@@ -57,6 +57,8 @@ public class NewWebAppTemplateProjectWizard extends NewElementWizard implements
 
   @Override
   public void addPages() {
+    // The page lists the SDKs, which are registered in the background
+    GdtPlugin.getDefault().waitForSdkRegistration();
     newProjectWizardPage = new NewWebAppTemplateProjectWizardPage();
     addPage(newProjectWizardPage);
   }
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.compile;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Tests the classpath stamp which decides whether a {@link GWTCompileDaemon}
+ * worker may be reused.
+ */
+public class GWTCompileDaemonTest extends TestCase {
+
+  private File dir;
+
+  private File jar;
+
+  private File outputFolder;
+
+  public void testStampIsStableWhileNothingChanges() throws Exception {
+    assertEquals(GWTCompileDaemon.computeClasspathStamp(getClasspath()),
+        GWTCompileDaemon.computeClasspathStamp(getClasspath()));
+  }
+
+  public void testStampChangesWhenClassFileIsRebuilt() throws Exception {
+    File classFile = new File(outputFolder, "com/example/MyGenerator.class");
+    long stamp = GWTCompileDaemon.computeClasspathStamp(getClasspath());
+
+    assertTrue(classFile.setLastModified(classFile.lastModified() - 10000));
+    assertFalse(stamp == GWTCompileDaemon.computeClasspathStamp(getClasspath()));
+  }
+
+  public void testStampChangesWhenClassFileIsAddedOrRemoved() throws Exception {
+    long stamp = GWTCompileDaemon.computeClasspathStamp(getClasspath());
+
+    File classFile = new File(outputFolder, "com/example/MyLinker.class");
+    writeFile(classFile, 10);
+    long stampWithLinker = GWTCompileDaemon.computeClasspathStamp(getClasspath());
+    assertFalse(stamp == stampWithLinker);
+
+    assertTrue(classFile.delete());
+    assertEquals(stamp, GWTCompileDaemon.computeClasspathStamp(getClasspath()));
+  }
+
+  public void testStampChangesWhenJarChanges() throws Exception {
+    long stamp = GWTCompileDaemon.computeClasspathStamp(getClasspath());
+
+    writeFile(jar, 20);
+    assertFalse(stamp == GWTCompileDaemon.computeClasspathStamp(getClasspath()));
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    dir = File.createTempFile("classpath", "");
+    dir.delete();
+    assertTrue(dir.mkdir());
+    outputFolder = new File(dir, "classes");
+    writeFile(new File(outputFolder, "com/example/MyGenerator.class"), 10);
+    jar = new File(dir, "lib.jar");
+    writeFile(jar, 10);
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    delete(dir);
+  }
+
+  private void delete(File file) {
+    File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+
+  private String getClasspath() {
+    return outputFolder.getPath() + File.pathSeparator + jar.getPath();
+  }
+
+  private void writeFile(File file, int length) throws IOException {
+    file.getParentFile().mkdirs();
+    FileOutputStream out = new FileOutputStream(file);
+    try {
+      out.write(new byte[length]);
+    } finally {
+      out.close();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.compile;
+
+import com.google.gdt.eclipse.core.ProcessUtilities.IProcessReceiver;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests the {@link GWTParallelCompileRunner}.
+ */
+public class GWTParallelCompileRunnerTest extends TestCase {
+
+  private static final String COMPILER_NAME = "com.google.gwt.dev.Compiler";
+
+  private final File workingDir = new File(System.getProperty("java.io.tmpdir"));
+
+  public void testCompileReportsFailedModules() throws Exception {
+    // The compiler isn't on the classpath, so every process fails
+    List<String> commandLine = new ArrayList<String>(Arrays.asList(
+        new File(System.getProperty("java.home"), "bin/java").getPath(), "-cp",
+        workingDir.getPath(), COMPILER_NAME));
+    final Process[] process = new Process[1];
+    IProcessReceiver processReceiver = new IProcessReceiver() {
+      @Override
+      public boolean hasDestroyedProcess() {
+        return false;
+      }
+
+      @Override
+      public void setProcess(Process p) {
+        process[0] = p;
+      }
+    };
+
+    List<String> failedModules = GWTParallelCompileRunner.compile(commandLine,
+        Arrays.asList("com.example.A", "com.example.B"), 2, workingDir,
+        new ByteArrayOutputStream(), processReceiver);
+
+    assertEquals(Arrays.asList("com.example.A", "com.example.B"), failedModules);
+    assertTrue(process[0].waitFor() != 0);
+    assertEquals(process[0].waitFor(), process[0].exitValue());
+  }
+
+  public void testCompositeProcessWaitsForCompile() throws Exception {
+    final GWTParallelCompileRunner.CompositeProcess process =
+        new GWTParallelCompileRunner.CompositeProcess();
+    try {
+      process.exitValue();
+      fail();
+    } catch (IllegalThreadStateException e) {
+      // The compile hasn't finished
+    }
+
+    Thread compile = new Thread() {
+      @Override
+      public void run() {
+        process.finish(3);
+      }
+    };
+    compile.start();
+    assertEquals(3, process.waitFor());
+
+    // Only the first exit value counts
+    process.finish(0);
+    assertEquals(3, process.exitValue());
+  }
+
+  public void testModulesGetTheirOwnUnitCache() {
+    List<String> commandLine = Arrays.asList("java", "-Xmx1g", "-cp", "gwt-dev.jar",
+        COMPILER_NAME, "-war", "war");
+
+    List<String> moduleCommandLine = GWTParallelCompileRunner.computeModuleCommandLine(
+        commandLine, "com.example.A", workingDir);
+
+    String unitCacheDir = new File(new File(workingDir, "gwt-unitCache"), "com.example.A").getPath();
+    assertEquals(Arrays.asList("java", "-Xmx1g", "-Dgwt.persistentunitcachedir=" + unitCacheDir,
+        "-cp", "gwt-dev.jar", COMPILER_NAME, "-war", "war", "com.example.A"), moduleCommandLine);
+  }
+
+  public void testModulesGetTheirOwnConfiguredDirectories() {
+    List<String> commandLine = Arrays.asList("java", "-Dgwt.persistentunitcachedir=cache",
+        "-cp", "gwt-dev.jar", COMPILER_NAME, "-workDir", "work", "-war", "war");
+
+    List<String> moduleCommandLine = GWTParallelCompileRunner.computeModuleCommandLine(
+        commandLine, "com.example.B", workingDir);
+
+    assertEquals(Arrays.asList("java", "-Dgwt.persistentunitcachedir=cache",
+        "-Dgwt.persistentunitcachedir=" + new File("cache", "com.example.B").getPath(), "-cp",
+        "gwt-dev.jar", COMPILER_NAME, "-workDir", new File("work", "com.example.B").getPath(),
+        "-war", "war", "com.example.B"), moduleCommandLine);
+  }
+}
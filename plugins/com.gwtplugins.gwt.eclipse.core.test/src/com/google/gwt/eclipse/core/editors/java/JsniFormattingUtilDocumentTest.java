@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.editors.java;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.TextUtilities;
+import org.eclipse.jface.text.TypedPosition;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.wst.jsdt.core.JavaScriptCore;
+
+import java.util.Map;
+
+/**
+ * Tests that {@link JsniFormattingUtil} formats every JSNI block of a document
+ * the same way whether it formats the whole document, parsing it once, or each
+ * block on its own.
+ */
+public class JsniFormattingUtilDocumentTest extends TestCase {
+
+  private static final String SOURCE = "package com.hello.client;\n"
+      + "\n"
+      + "public class FormattingTest {\n"
+      + "\n"
+      + "  private static native void first()/*-{\n"
+      + "var x = 1;\n"
+      + "  }-*/;\n"
+      + "\n"
+      + "  private String java() {\n"
+      + "    return \"/*-{ not JSNI }-*/\";\n"
+      + "  }\n"
+      + "\n"
+      + "  static class Inner {\n"
+      + "    private native void nested()/*-{\n"
+      + "if (true) {\n"
+      + "x += 2;\n"
+      + "}\n"
+      + "    }-*/;\n"
+      + "  }\n"
+      + "\n"
+      + "  private native void last(Object o,\n"
+      + "      String s)/*-{\n"
+      + "        o.@com.hello.client.FormattingTest::java()();\n"
+      + "  }-*/;\n"
+      + "}\n";
+
+  private Map<String, String> javaPrefs;
+
+  private Map<String, Object> javaScriptPrefs;
+
+  @SuppressWarnings("unchecked")
+  public void testFormatsEachBlockAsOnItsOwn() throws Exception {
+    IDocument document = createDocument();
+    ITypedRegion[] regions = TextUtilities.computePartitioning(document,
+        GWTPartitions.GWT_PARTITIONING, 0, document.getLength(), false);
+    MultiTextEdit separateEdits = new MultiTextEdit();
+    int jsniBlockCount = 0;
+    for (ITypedRegion region : regions) {
+      if (region.getType().equals(GWTPartitions.JSNI_METHOD)) {
+        jsniBlockCount++;
+        TextEdit edit = JsniFormattingUtil.format(document,
+            new TypedPosition(region), javaPrefs, (Map) javaScriptPrefs, null);
+        if (edit != null) {
+          separateEdits.addChild(edit);
+        }
+      }
+    }
+    assertEquals(3, jsniBlockCount);
+    separateEdits.apply(document);
+
+    IDocument formatted = createDocument();
+    JsniFormattingUtil.format(formatted, javaPrefs, javaScriptPrefs, null).apply(
+        formatted);
+
+    assertEquals(document.get(), formatted.get());
+  }
+
+  public void testIndentsBlocksRelativeToTheirMethods() throws Exception {
+    IDocument document = createDocument();
+    JsniFormattingUtil.format(document, javaPrefs, javaScriptPrefs, null).apply(
+        document);
+    String formatted = document.get();
+
+    assertTrue(formatted, formatted.contains("first()/*-{\n    var x = 1;\n  }-*/;"));
+    assertTrue(formatted, formatted.contains("nested()/*-{\n      if (true) {\n"));
+    assertTrue(formatted, formatted.contains("\n    }-*/;\n  }\n"));
+    assertTrue(formatted, formatted.contains(
+        "String s)/*-{\n    o.@com.hello.client.FormattingTest::java()();\n  }-*/;"));
+    // The Java method is left alone
+    assertTrue(formatted, formatted.contains("return \"/*-{ not JSNI }-*/\";"));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    javaPrefs = JavaCore.getDefaultOptions();
+    javaPrefs.put(
+        org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants.FORMATTER_INDENTATION_SIZE, "2");
+    javaPrefs.put(
+        org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants.FORMATTER_TAB_CHAR, JavaCore.SPACE);
+    javaPrefs.put(
+        org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants.FORMATTER_TAB_SIZE, "2");
+
+    javaScriptPrefs = JavaScriptCore.getDefaultOptions();
+    javaScriptPrefs.put(
+        org.eclipse.wst.jsdt.core.formatter.DefaultCodeFormatterConstants.FORMATTER_INDENTATION_SIZE, "2");
+    javaScriptPrefs.put(
+        org.eclipse.wst.jsdt.core.formatter.DefaultCodeFormatterConstants.FORMATTER_TAB_CHAR, JavaScriptCore.SPACE);
+    javaScriptPrefs.put(
+        org.eclipse.wst.jsdt.core.formatter.DefaultCodeFormatterConstants.FORMATTER_TAB_SIZE, "2");
+  }
+
+  private IDocument createDocument() {
+    IDocument document = new Document(SOURCE);
+    GWTDocumentSetupParticipant.setupGWTPartitioning(document);
+    return document;
+  }
+}
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.editors.java;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jdt.internal.ui.text.FastJavaPartitionScanner;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentPartitioner;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.TextUtilities;
+import org.eclipse.jface.text.rules.FastPartitioner;
+import org.eclipse.jface.text.rules.IPartitionTokenScanner;
+import org.eclipse.jface.text.rules.IToken;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests {@link JsniPartitioner} against the {@link FastPartitioner}, which
+ * re-scans the partitions damaged by every edit.
+ */
+@SuppressWarnings("restriction")
+public class JsniPartitionerTest extends TestCase {
+
+  /**
+   * Records the ranges of the document which the partitioner scans.
+   */
+  private static class RecordingScanner implements IPartitionTokenScanner {
+    private final IPartitionTokenScanner delegate;
+
+    private final List<IRegion> scannedRanges = new ArrayList<IRegion>();
+
+    RecordingScanner(IPartitionTokenScanner delegate) {
+      this.delegate = delegate;
+    }
+
+    public int getTokenLength() {
+      return delegate.getTokenLength();
+    }
+
+    public int getTokenOffset() {
+      return delegate.getTokenOffset();
+    }
+
+    public IToken nextToken() {
+      return delegate.nextToken();
+    }
+
+    public void setPartialRange(IDocument document, int offset, int length,
+        String contentType, int partitionOffset) {
+      scannedRanges.add(new Region(offset, length));
+      delegate.setPartialRange(document, offset, length, contentType,
+          partitionOffset);
+    }
+
+    public void setRange(IDocument document, int offset, int length) {
+      scannedRanges.add(new Region(offset, length));
+      delegate.setRange(document, offset, length);
+    }
+  }
+
+  private static final String[] LEGAL_CONTENT_TYPES = new String[] {
+      IJavaPartitions.JAVA_DOC, IJavaPartitions.JAVA_MULTI_LINE_COMMENT,
+      IJavaPartitions.JAVA_SINGLE_LINE_COMMENT, IJavaPartitions.JAVA_STRING,
+      IJavaPartitions.JAVA_CHARACTER, GWTPartitions.JSNI_METHOD};
+
+  private static String createSource(int jsniLineCount) {
+    StringBuilder source = new StringBuilder();
+    source.append("package com.hello.client;\n\n");
+    source.append("public class PartitionTest {\n\n");
+    source.append("  /* A comment */\n");
+    source.append("  private static native void jsniMethod()/*-{\n");
+    for (int i = 0; i < jsniLineCount; i++) {
+      source.append("    var x").append(i).append(" = \"").append(i).append("\"; // x\n");
+    }
+    source.append("  }-*/;\n\n");
+    source.append("  private String s = \"after\";\n");
+    source.append("}\n");
+    return source.toString();
+  }
+
+  private static IDocument createDocument(String source, boolean incremental) {
+    return createDocument(source, incremental, createScanner());
+  }
+
+  private static IDocument createDocument(String source, boolean incremental,
+      IPartitionTokenScanner scanner) {
+    IDocumentPartitioner partitioner = incremental ? new JsniPartitioner(
+        scanner, LEGAL_CONTENT_TYPES) : new FastPartitioner(scanner,
+        LEGAL_CONTENT_TYPES);
+    IDocument document = new Document(source);
+    ((Document) document).setDocumentPartitioner(
+        GWTPartitions.GWT_PARTITIONING, partitioner);
+    partitioner.connect(document);
+    return document;
+  }
+
+  private static IPartitionTokenScanner createScanner() {
+    return new CompositePartitionScanner(new FastJavaPartitionScanner(),
+        new GWTPartitionScanner());
+  }
+
+  private static ITypedRegion getPartition(IDocument document, int offset)
+      throws BadLocationException {
+    return TextUtilities.getPartition(document,
+        GWTPartitions.GWT_PARTITIONING, offset, false);
+  }
+
+  private static ITypedRegion[] getPartitions(IDocument document)
+      throws BadLocationException {
+    return TextUtilities.computePartitioning(document,
+        GWTPartitions.GWT_PARTITIONING, 0, document.getLength(), false);
+  }
+
+  public void testEditsInJsniBlockKeepPartitioning()
+      throws BadLocationException {
+    String source = createSource(20);
+    IDocument incremental = createDocument(source, true);
+    IDocument full = createDocument(source, false);
+    int offset = source.indexOf("var x10");
+
+    String[] edits = new String[] {"y", "*", "/*", "}-", "\n", "'", "\""};
+    for (String edit : edits) {
+      incremental.replace(offset, 0, edit);
+      full.replace(offset, 0, edit);
+      assertSamePartitioning(full, incremental);
+    }
+
+    // Ending the block's comment early has to be noticed
+    incremental.replace(offset, 0, "*/");
+    full.replace(offset, 0, "*/");
+    assertSamePartitioning(full, incremental);
+    assertFalse(GWTPartitions.JSNI_METHOD.equals(getPartition(incremental,
+        offset + 2).getType()));
+  }
+
+  public void testEditsNextToSlashKeepPartitioning()
+      throws BadLocationException {
+    String source = createSource(5).replace("var x2", "var /x2");
+    IDocument incremental = createDocument(source, true);
+    IDocument full = createDocument(source, false);
+    int offset = source.indexOf("/x2");
+
+    incremental.replace(offset, 0, "*");
+    full.replace(offset, 0, "*");
+    assertSamePartitioning(full, incremental);
+    assertFalse(GWTPartitions.JSNI_METHOD.equals(getPartition(incremental,
+        offset + 3).getType()));
+  }
+
+  public void testEditInJsniBlockOnlyResizesTheBlock()
+      throws BadLocationException {
+    String source = createSource(20);
+    RecordingScanner scanner = new RecordingScanner(createScanner());
+    IDocument document = createDocument(source, true, scanner);
+    ITypedRegion[] before = getPartitions(document);
+    int block = indexOfPartition(before, GWTPartitions.JSNI_METHOD);
+    scanner.scannedRanges.clear();
+
+    document.replace(source.indexOf("var x10"), 0, "y = 1;");
+
+    // Nothing is re-scanned: the partitions before the block are unchanged,
+    // the block grows, and the partitions after it are shifted
+    assertTrue(scanner.scannedRanges.isEmpty());
+    ITypedRegion[] after = getPartitions(document);
+    assertEquals(before.length, after.length);
+    for (int i = 0; i < before.length; i++) {
+      int shift = i > block ? 6 : 0;
+      int growth = i == block ? 6 : 0;
+      assertEquals(before[i].getType(), after[i].getType());
+      assertEquals(before[i].getOffset() + shift, after[i].getOffset());
+      assertEquals(before[i].getLength() + growth, after[i].getLength());
+    }
+  }
+
+  public void testEditEndingJsniBlockIsRescanned()
+      throws BadLocationException {
+    String source = createSource(20);
+    RecordingScanner scanner = new RecordingScanner(createScanner());
+    IDocument document = createDocument(source, true, scanner);
+    ITypedRegion jsniBlock = getPartitions(document)[indexOfPartition(
+        getPartitions(document), GWTPartitions.JSNI_METHOD)];
+    scanner.scannedRanges.clear();
+    int offset = source.indexOf("var x10");
+
+    document.replace(offset, 0, "*/");
+
+    // The damage starts in the block, not before it
+    assertFalse(scanner.scannedRanges.isEmpty());
+    IRegion scanned = scanner.scannedRanges.get(0);
+    assertTrue(scanned.getOffset() >= jsniBlock.getOffset());
+    assertTrue(scanned.getOffset() <= offset);
+    assertFalse(GWTPartitions.JSNI_METHOD.equals(getPartition(document,
+        offset + 2).getType()));
+  }
+
+  private static int indexOfPartition(ITypedRegion[] partitions, String type) {
+    for (int i = 0; i < partitions.length; i++) {
+      if (type.equals(partitions[i].getType())) {
+        return i;
+      }
+    }
+    fail("No " + type + " partition");
+    return -1;
+  }
+
+  private void assertSamePartitioning(IDocument expected, IDocument actual)
+      throws BadLocationException {
+    ITypedRegion[] expectedPartitions = getPartitions(expected);
+    ITypedRegion[] actualPartitions = getPartitions(actual);
+    assertEquals(expectedPartitions.length, actualPartitions.length);
+    for (int i = 0; i < expectedPartitions.length; i++) {
+      assertEquals(expectedPartitions[i], actualPartitions[i]);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.launch;
+
+import com.google.gcp.eclipse.testing.ProjectTestUtil;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
+import org.eclipse.jdt.launching.JavaRuntime;
+
+/**
+ * Tests the {@link ModuleClasspathCache}, which the plugin starts.
+ */
+public class ModuleClasspathCacheTest extends TestCase {
+
+  private static final String KEY = ModuleClasspathCacheTest.class.getName();
+
+  private static final String PROJECT_A = "ModuleClasspathCacheTestA";
+
+  private static final String PROJECT_B = "ModuleClasspathCacheTestB";
+
+  private IJavaProject projectA;
+
+  private IJavaProject projectB;
+
+  private IRuntimeClasspathEntry[] resolvedEntries;
+
+  public void testHitUntilClasspathChanges() throws Exception {
+    ModuleClasspathCache cache = ModuleClasspathCache.INSTANCE;
+    cache.putResolvedClasspath(KEY, cache.getGeneration(), projectA, resolvedEntries);
+
+    long hits = cache.getHits();
+    assertSame(resolvedEntries, cache.getResolvedClasspath(KEY));
+    assertEquals(hits + 1, cache.getHits());
+
+    addLibrary(projectA, "/" + PROJECT_A + "/lib.jar");
+
+    long misses = cache.getMisses();
+    assertNull(cache.getResolvedClasspath(KEY));
+    assertEquals(misses + 1, cache.getMisses());
+  }
+
+  public void testInvalidatedByRequiredProject() throws Exception {
+    addProjectDependency(projectA, projectB);
+    ModuleClasspathCache.INSTANCE.putResolvedClasspath(KEY,
+        ModuleClasspathCache.INSTANCE.getGeneration(), projectA, resolvedEntries);
+
+    // An unrelated project doesn't affect it
+    ModuleClasspathCache.INSTANCE.invalidate("SomeOtherProject");
+    assertNotNull(ModuleClasspathCache.INSTANCE.getResolvedClasspath(KEY));
+
+    addLibrary(projectB, "/" + PROJECT_B + "/lib.jar");
+    assertNull(ModuleClasspathCache.INSTANCE.getResolvedClasspath(KEY));
+  }
+
+  public void testInvalidatedWhenProjectIsClosed() throws Exception {
+    ModuleClasspathCache.INSTANCE.putResolvedClasspath(KEY,
+        ModuleClasspathCache.INSTANCE.getGeneration(), projectA, resolvedEntries);
+
+    projectA.getProject().close(new NullProgressMonitor());
+    assertNull(ModuleClasspathCache.INSTANCE.getResolvedClasspath(KEY));
+  }
+
+  public void testValueComputedDuringInvalidationIsNotStored() throws Exception {
+    ModuleClasspathCache cache = ModuleClasspathCache.INSTANCE;
+    long generation = cache.getGeneration();
+
+    // The classpath changes while the value is being computed
+    addLibrary(projectA, "/" + PROJECT_A + "/lib.jar");
+    cache.putResolvedClasspath(KEY, generation, projectA, resolvedEntries);
+
+    assertNull(cache.getResolvedClasspath(KEY));
+  }
+
+  public void testVMInstallKeyIdentifiesTheJre() throws Exception {
+    assertEquals("", ModuleClasspathCache.getVMInstallKey(null));
+    String key = ModuleClasspathCache.getVMInstallKey(JavaRuntime.getVMInstall(projectA));
+    assertTrue(key, key.contains(JavaRuntime.getVMInstall(projectA).getId()));
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    ModuleClasspathCache.INSTANCE.clear();
+    projectA = ProjectTestUtil.createProject(PROJECT_A);
+    projectB = ProjectTestUtil.createProject(PROJECT_B);
+    resolvedEntries = new IRuntimeClasspathEntry[] {
+        JavaRuntime.newArchiveRuntimeClasspathEntry(new Path("/gwt-user.jar"))};
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    ModuleClasspathCache.INSTANCE.clear();
+    projectA.getProject().delete(true, true, new NullProgressMonitor());
+    projectB.getProject().delete(true, true, new NullProgressMonitor());
+    super.tearDown();
+  }
+
+  private void addClasspathEntry(IJavaProject javaProject, IClasspathEntry entry)
+      throws Exception {
+    IClasspathEntry[] rawClasspath = javaProject.getRawClasspath();
+    IClasspathEntry[] newClasspath = new IClasspathEntry[rawClasspath.length + 1];
+    System.arraycopy(rawClasspath, 0, newClasspath, 0, rawClasspath.length);
+    newClasspath[rawClasspath.length] = entry;
+    javaProject.setRawClasspath(newClasspath, new NullProgressMonitor());
+  }
+
+  private void addLibrary(IJavaProject javaProject, String path) throws Exception {
+    addClasspathEntry(javaProject, JavaCore.newLibraryEntry(new Path(path), null, null));
+  }
+
+  private void addProjectDependency(IJavaProject javaProject, IJavaProject requiredProject)
+      throws Exception {
+    addClasspathEntry(javaProject, JavaCore.newProjectEntry(requiredProject.getPath()));
+  }
+}
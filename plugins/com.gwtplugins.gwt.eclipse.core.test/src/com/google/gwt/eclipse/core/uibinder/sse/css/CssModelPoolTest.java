@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.uibinder.sse.css;
+
+import com.google.gwt.eclipse.core.uibinder.sse.css.CssModelPool.PooledCssModel;
+import com.google.gwt.eclipse.core.uibinder.sse.css.model.CssResourceAwareModelLoader;
+
+import junit.framework.TestCase;
+
+import org.eclipse.wst.css.core.internal.modelhandler.CSSModelLoader;
+
+/**
+ * Tests for the {@link CssModelPool} class. Each test uses its own loader
+ * class, so the tests don't share idle models.
+ */
+@SuppressWarnings("restriction")
+public class CssModelPoolTest extends TestCase {
+
+  private static final CssModelPool POOL = CssModelPool.INSTANCE;
+
+  public void testBoundsIdleModels() {
+    CSSModelLoader loader = new CssResourceAwareModelLoader() {
+    };
+    PooledCssModel[] models = new PooledCssModel[CssModelPool.MAX_IDLE_MODELS_PER_LOADER + 2];
+    for (int i = 0; i < models.length; i++) {
+      models[i] = POOL.acquire(".a" + i + " { color: red; }", loader);
+    }
+    for (PooledCssModel model : models) {
+      POOL.release(model);
+    }
+
+    assertEquals(CssModelPool.MAX_IDLE_MODELS_PER_LOADER,
+        POOL.getIdleModelCount(loader.getClass()));
+  }
+
+  public void testDetectsLeaks() throws InterruptedException {
+    CSSModelLoader loader = new CssResourceAwareModelLoader() {
+    };
+    int leakCount = POOL.getLeakCount();
+
+    POOL.acquire(".a { color: red; }", loader);
+    for (int i = 0; i < 20 && POOL.getLeakCount() == leakCount; i++) {
+      System.gc();
+      Thread.sleep(50);
+    }
+
+    assertEquals(leakCount + 1, POOL.getLeakCount());
+  }
+
+  public void testIgnoresSecondRelease() {
+    CSSModelLoader loader = new CssResourceAwareModelLoader() {
+    };
+    PooledCssModel model = POOL.acquire(".a { color: red; }", loader);
+    POOL.release(model);
+    POOL.release(model);
+
+    assertEquals(1, POOL.getIdleModelCount(loader.getClass()));
+  }
+
+  public void testKeepsModelsPerLoader() {
+    CSSModelLoader loader = new CssResourceAwareModelLoader() {
+    };
+    CSSModelLoader otherLoader = new CssResourceAwareModelLoader() {
+    };
+    PooledCssModel model = POOL.acquire(".a { color: red; }", loader);
+    POOL.release(model);
+
+    PooledCssModel otherModel = POOL.acquire(".a { color: red; }",
+        otherLoader);
+    assertNotSame(model.getModel(), otherModel.getModel());
+    POOL.release(otherModel);
+  }
+
+  public void testReusesReleasedModel() {
+    CSSModelLoader loader = new CssResourceAwareModelLoader() {
+    };
+    PooledCssModel model = POOL.acquire(".a { color: red; }\n@else {\n}\n",
+        loader);
+    POOL.release(model);
+
+    String cssBlock = ".a { color: blue; }\n.b { color: red; }\n@else {\n}\n";
+    PooledCssModel reusedModel = POOL.acquire(cssBlock, loader);
+    assertSame(model.getModel(), reusedModel.getModel());
+    assertEquals(cssBlock, reusedModel.getModel().getStructuredDocument().get());
+    assertEquals(3, reusedModel.getModel().getDocument().getChildNodes().getLength());
+    POOL.release(reusedModel);
+  }
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.uibinder.sse.css.model;
+
+import junit.framework.TestCase;
+
+import org.eclipse.wst.css.core.internal.parser.ICSSTokenizer;
+import org.eclipse.wst.css.core.internal.parserz.CSSRegionContexts;
+import org.eclipse.wst.sse.core.internal.provisional.text.ITextRegion;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests that {@link CssResourceAwareTokenizer}, which the GSS and CSS Resource
+ * editors share, scans the GSS at-rules.
+ */
+@SuppressWarnings("restriction")
+public class CssResourceAwareTokenizerTest extends TestCase {
+
+  /**
+   * A GSS file with the constructs found in real GWT applications.
+   */
+  private static final String GSS_FILE = "@def PADDING 4px;\n"
+      + "@external .gwt-*, .dragdrop-*;\n"
+      + "\n"
+      + ".button {\n"
+      + "  padding: PADDING;\n"
+      + "  background: url(\"images/button.png\") no-repeat 0 0;\n"
+      + "}\n"
+      + "\n"
+      + "@if is(\"user.agent\", \"safari\") {\n"
+      + "  .button:hover > span.label { -webkit-transition: opacity 0.2s; }\n"
+      + "} @elif is(\"user.agent\", \"ie9\") {\n"
+      + "  .button:hover > span.label { filter: alpha(opacity=80); }\n"
+      + "} @else {\n"
+      + "  .button:hover > span.label { opacity: 0.8; }\n"
+      + "}\n"
+      + "\n"
+      + "@noflip {\n"
+      + "  .panel { margin-left: add(PADDING, 2px); }\n"
+      + "}\n"
+      + "\n"
+      + "@media screen {\n"
+      + "  .panel { width: 100%; }\n"
+      + "}\n";
+
+  private static List<String> tokenize(ICSSTokenizer tokenizer, String source)
+      throws IOException {
+    List<String> tokens = new ArrayList<String>();
+    tokenizer.reset(source.toCharArray());
+    while (!tokenizer.isEOF()) {
+      ITextRegion token = tokenizer.getNextToken();
+      if (token == null) {
+        break;
+      }
+      tokens.add(token.getType() + " "
+          + source.substring(token.getStart(), token.getStart() + token.getTextLength()));
+    }
+    return tokens;
+  }
+
+  public void testResetRescansFromTheStart() throws IOException {
+    ICSSTokenizer tokenizer = new CssResourceAwareTokenizer();
+    List<String> tokens = tokenize(tokenizer, GSS_FILE);
+
+    assertFalse(tokens.isEmpty());
+    assertEquals(tokens, tokenize(tokenizer, GSS_FILE));
+  }
+
+  public void testScansConditionalAtRulesAsMediaRules() throws IOException {
+    List<String> mediaRules = new ArrayList<String>();
+    for (String token : tokenize(new CssResourceAwareTokenizer(), GSS_FILE)) {
+      if (token.startsWith(CSSRegionContexts.CSS_MEDIA + " ")) {
+        mediaRules.add(token.substring(CSSRegionContexts.CSS_MEDIA.length() + 1));
+      }
+    }
+
+    assertEquals(5, mediaRules.size());
+    assertEquals("@if", mediaRules.get(0));
+    assertEquals("@elif", mediaRules.get(1));
+    assertEquals("@else", mediaRules.get(2));
+    assertEquals("@noflip", mediaRules.get(3));
+    assertEquals("@media", mediaRules.get(4));
+  }
+}
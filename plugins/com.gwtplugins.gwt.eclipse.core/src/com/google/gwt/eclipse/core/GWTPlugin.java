@@ -22,6 +22,8 @@ import com.google.gdt.eclipse.core.sdk.UpdateWebInfFolderCommand;
 import com.google.gdt.eclipse.core.sdk.WebInfFolderUpdater;
 import com.google.gwt.eclipse.core.clientbundle.ClientBundleResourceChangeListener;
 import com.google.gwt.eclipse.core.clientbundle.ClientBundleResourceDependencyIndex;
+import com.google.gwt.eclipse.core.compile.GWTCompileDaemon;
+import com.google.gwt.eclipse.core.launch.ModuleClasspathCache;
 import com.google.gwt.eclipse.core.markers.ClientBundleProblemType;
 import com.google.gwt.eclipse.core.markers.GWTProblemType;
 import com.google.gwt.eclipse.core.resources.GWTImages;
@@ -112,6 +114,7 @@ public class GWTPlugin extends AbstractGwtPlugin {
 
     ClientBundleResourceChangeListener.addToWorkspace();
     UiBinderReferenceManager.INSTANCE.start();
+    ModuleClasspathCache.INSTANCE.start();
 
     webInfFolderUpdater.start();
   }
@@ -120,6 +123,8 @@ public class GWTPlugin extends AbstractGwtPlugin {
   public void stop(BundleContext context) throws Exception {
     webInfFolderUpdater.stop();
 
+    GWTCompileDaemon.INSTANCE.stop();
+    ModuleClasspathCache.INSTANCE.stop();
     UiBinderReferenceManager.INSTANCE.stop();
     ClientBundleResourceDependencyIndex.save();
     JavaRefIndex.save();
@@ -25,6 +25,11 @@ import org.eclipse.core.runtime.IPath;
 public class ClientBundleResourceDependencyIndex extends
     CompilationUnitResourceDependencyIndex {
 
+  /**
+   * The version of the format of the saved index.
+   */
+  public static final int FORMAT_VERSION = 1;
+
   private static ClientBundleResourceDependencyIndex INSTANCE;
 
   public static ClientBundleResourceDependencyIndex getInstance() {
@@ -42,7 +47,7 @@ public class ClientBundleResourceDependencyIndex extends
   }
 
   public ClientBundleResourceDependencyIndex() {
-    super("clientBundleResources");
+    super("clientBundleResources", FORMAT_VERSION);
   }
 
   @Override
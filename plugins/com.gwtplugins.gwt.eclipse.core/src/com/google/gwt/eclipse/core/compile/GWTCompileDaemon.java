@@ -0,0 +1,366 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.compile;
+
+import com.google.gdt.eclipse.core.ProcessUtilities.IProcessReceiver;
+import com.google.gwt.eclipse.core.GWTPlugin;
+import com.google.gwt.eclipse.core.GWTPluginLog;
+import com.google.gwt.eclipse.core.preferences.GWTPreferences;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps warm GWT compiler processes around between GWT compiles, so repeated
+ * compiles of the same project skip the JVM start-up, class loading and JIT
+ * warm-up.
+ *
+ * There is at most one idle worker per compiler signature (the JVM command
+ * line, which includes the SDK and the classpath, plus the working directory).
+ * A worker is recycled after
+ * {@link GWTPreferences#getCompilerDaemonMaxCompiles()} compiles, or when its
+ * heap usage after a compile exceeds {@link #MAX_HEAP_USAGE_RATIO}. Since a
+ * worker keeps the generators, linkers and other classes it loaded from the
+ * classpath, it is also recycled when a jar or a file in a folder on its
+ * classpath changes (see {@link #computeClasspathStamp(String)}). Workers
+ * exit on their own when Eclipse goes away, since their standard input is
+ * closed.
+ */
+public class GWTCompileDaemon {
+
+  /**
+   * Thrown when a worker could not be started; the caller should fall back to
+   * a regular compiler process.
+   */
+  @SuppressWarnings("serial")
+  public static class WorkerStartException extends IOException {
+    public WorkerStartException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * A running worker process.
+   */
+  private static class Worker {
+    /**
+     * The {@link #computeClasspathStamp(String) stamp} of the classpath when
+     * the worker was started.
+     */
+    private final long classpathStamp;
+
+    private int compileCount;
+
+    private final BufferedReader output;
+
+    private final Process process;
+
+    private final Writer input;
+
+    private boolean recycle;
+
+    private Worker(Process process, long classpathStamp) throws IOException {
+      this.process = process;
+      this.classpathStamp = classpathStamp;
+      this.output = new BufferedReader(new InputStreamReader(process.getInputStream(), "UTF-8"));
+      this.input = new OutputStreamWriter(process.getOutputStream(), "UTF-8");
+    }
+
+    /**
+     * Runs a compile, copying the compiler output to the console, and returns
+     * the compiler exit status.
+     */
+    private int compile(List<String> compilerArgs, OutputStream consoleOutputStream) throws IOException {
+      compileCount++;
+
+      StringBuilder request = new StringBuilder();
+      request.append(GWTCompilerWorker.COMPILE_REQUEST).append(' ').append(compilerArgs.size()).append('\n');
+      for (String arg : compilerArgs) {
+        request.append(arg).append('\n');
+      }
+      input.write(request.toString());
+      input.flush();
+
+      PrintWriter consoleWriter = new PrintWriter(consoleOutputStream, true);
+      String line;
+      while ((line = output.readLine()) != null) {
+        if (line.startsWith(GWTCompilerWorker.MARKER)) {
+          String[] result = line.split(" ");
+          if (result.length == 5 && GWTCompilerWorker.DONE.equals(result[1])) {
+            long usedMemory = Long.parseLong(result[3]);
+            long maxMemory = Long.parseLong(result[4]);
+            recycle = usedMemory > maxMemory * MAX_HEAP_USAGE_RATIO;
+            return Integer.parseInt(result[2]);
+          }
+        }
+        consoleWriter.println(line);
+      }
+
+      // The worker died, most likely because the user terminated the compile
+      recycle = true;
+      return 1;
+    }
+
+    private void destroy() {
+      try {
+        input.write(GWTCompilerWorker.EXIT_REQUEST + "\n");
+        input.flush();
+      } catch (IOException e) {
+        // The process is already gone
+      }
+      process.destroy();
+    }
+
+    /**
+     * Waits for the worker to announce that it is ready to take requests.
+     */
+    private void waitUntilReady() throws IOException {
+      String line = output.readLine();
+      if (line == null || !line.equals(GWTCompilerWorker.MARKER + " " + GWTCompilerWorker.READY)) {
+        process.destroy();
+        throw new WorkerStartException("The GWT compiler worker did not start"
+            + (line != null ? ": " + line : ""));
+      }
+    }
+  }
+
+  public static final GWTCompileDaemon INSTANCE = new GWTCompileDaemon();
+
+  /**
+   * Recycle a worker once its heap usage after a compile goes above this
+   * fraction of its maximum heap.
+   */
+  public static final double MAX_HEAP_USAGE_RATIO = 0.8;
+
+  /**
+   * The number of idle workers kept around; the least recently used worker is
+   * shut down when there are more.
+   */
+  private static final int MAX_IDLE_WORKERS = 2;
+
+  private static final String WORKER_CLASS_FILE = GWTCompilerWorker.class.getSimpleName() + ".class";
+
+  private static final String WORKER_DIR = "compiler-worker";
+
+  private final LinkedHashMap<String, Worker> idleWorkers = new LinkedHashMap<String, Worker>();
+
+  private File workerClasspathEntry;
+
+  /**
+   * Returns a stamp of the contents of the given classpath, combining the path,
+   * size and modification time of its jars and of every file under its
+   * folders. The stamp changes when one of them is added, removed or modified.
+   */
+  static long computeClasspathStamp(String classpath) {
+    long stamp = 0;
+    for (String entry : classpath.split(File.pathSeparator)) {
+      if (entry.length() > 0) {
+        stamp = stamp * 31 + computeFileStamp(new File(entry));
+      }
+    }
+    return stamp;
+  }
+
+  /**
+   * Returns the stamp of a file, or the sum of the stamps of the files under a
+   * folder, which doesn't depend on the order they are listed in.
+   */
+  private static long computeFileStamp(File file) {
+    File[] children = file.listFiles();
+    if (children == null) {
+      // A file, or a folder which doesn't exist
+      return (file.getPath().hashCode() * 31L + file.lastModified()) * 31 + file.length();
+    }
+
+    long stamp = file.getPath().hashCode();
+    for (File child : children) {
+      stamp += computeFileStamp(child);
+    }
+    return stamp;
+  }
+
+  private static String getClasspath(List<String> jvmCommandLine) {
+    int cpFlagIndex = jvmCommandLine.indexOf("-cp");
+    if (cpFlagIndex > -1 && cpFlagIndex < jvmCommandLine.size() - 1) {
+      return jvmCommandLine.get(cpFlagIndex + 1);
+    }
+    return "";
+  }
+
+  private GWTCompileDaemon() {
+  }
+
+  /**
+   * Compiles on a warm worker whose JVM is started with the given command
+   * line, starting a new worker if none is idle.
+   *
+   * @param jvmCommandLine the java executable, the VM arguments and the
+   *          <code>-cp</code> argument of the compiler process
+   * @param compilerArgs the arguments of the GWT compiler
+   * @param processReceiver optional, receives the worker process before the
+   *          compile starts
+   * @return the compiler exit status
+   * @throws WorkerStartException if a new worker could not be started
+   */
+  public int compile(List<String> jvmCommandLine, List<String> compilerArgs, File workingDir,
+      OutputStream consoleOutputStream, IProcessReceiver processReceiver) throws IOException {
+    String signature = workingDir.getAbsolutePath() + '\n' + jvmCommandLine;
+    long classpathStamp = computeClasspathStamp(getClasspath(jvmCommandLine));
+
+    Worker worker;
+    synchronized (this) {
+      worker = idleWorkers.remove(signature);
+    }
+    if (worker != null && worker.classpathStamp != classpathStamp) {
+      // The worker may have loaded classes which have been rebuilt since
+      worker.destroy();
+      worker = null;
+    }
+    if (worker == null || !worker.process.isAlive()) {
+      worker = startWorker(jvmCommandLine, workingDir, classpathStamp);
+    }
+
+    if (processReceiver != null) {
+      processReceiver.setProcess(worker.process);
+    }
+
+    int status;
+    try {
+      status = worker.compile(compilerArgs, consoleOutputStream);
+    } catch (IOException e) {
+      worker.destroy();
+      if (processReceiver != null && processReceiver.hasDestroyedProcess()) {
+        // The user terminated the compile
+        return 1;
+      }
+      throw e;
+    }
+
+    if (worker.recycle || worker.compileCount >= GWTPreferences.getCompilerDaemonMaxCompiles()) {
+      worker.destroy();
+    } else {
+      release(signature, worker);
+    }
+
+    return status;
+  }
+
+  /**
+   * Shuts down all idle workers.
+   */
+  public synchronized void stop() {
+    for (Worker worker : idleWorkers.values()) {
+      worker.destroy();
+    }
+    idleWorkers.clear();
+  }
+
+  /**
+   * Copies the worker class out of the plugin into a directory of its own, so
+   * it can be put on the compiler classpath without the rest of the plugin.
+   */
+  private synchronized File getWorkerClasspathEntry() throws IOException {
+    if (workerClasspathEntry != null) {
+      return workerClasspathEntry;
+    }
+
+    File dir = GWTPlugin.getDefault().getStateLocation().append(WORKER_DIR).toFile();
+    File classFile = new File(dir, GWTCompilerWorker.class.getName().replace('.', File.separatorChar)
+        + ".class");
+    classFile.getParentFile().mkdirs();
+
+    InputStream in = GWTCompilerWorker.class.getResourceAsStream(WORKER_CLASS_FILE);
+    if (in == null) {
+      throw new WorkerStartException("Could not find " + WORKER_CLASS_FILE);
+    }
+    try {
+      OutputStream out = new FileOutputStream(classFile);
+      try {
+        byte[] buffer = new byte[8192];
+        int bytesRead;
+        while ((bytesRead = in.read(buffer)) != -1) {
+          out.write(buffer, 0, bytesRead);
+        }
+      } finally {
+        out.close();
+      }
+    } finally {
+      in.close();
+    }
+
+    workerClasspathEntry = dir;
+    return workerClasspathEntry;
+  }
+
+  private void release(String signature, Worker worker) {
+    List<Worker> evicted = new ArrayList<Worker>();
+    synchronized (this) {
+      Worker previous = idleWorkers.put(signature, worker);
+      if (previous != null) {
+        evicted.add(previous);
+      }
+      for (Iterator<Map.Entry<String, Worker>> it = idleWorkers.entrySet().iterator(); it.hasNext()
+          && idleWorkers.size() > MAX_IDLE_WORKERS;) {
+        evicted.add(it.next().getValue());
+        it.remove();
+      }
+    }
+
+    for (Worker evictedWorker : evicted) {
+      evictedWorker.destroy();
+    }
+  }
+
+  private Worker startWorker(List<String> jvmCommandLine, File workingDir, long classpathStamp)
+      throws IOException {
+    List<String> commandLine = new ArrayList<String>(jvmCommandLine);
+    String workerClasspath = getWorkerClasspathEntry().getAbsolutePath();
+
+    ProcessBuilder pb = new ProcessBuilder();
+    pb.directory(workingDir);
+    pb.redirectErrorStream(true);
+
+    // Pass the classpath through the environment, as ProcessUtilities does, to
+    // avoid overflowing the command line on Windows
+    int cpFlagIndex = commandLine.indexOf("-cp");
+    if (cpFlagIndex > -1 && cpFlagIndex < commandLine.size() - 1) {
+      pb.environment().put("CLASSPATH", commandLine.get(cpFlagIndex + 1) + File.pathSeparator + workerClasspath);
+      commandLine.remove(cpFlagIndex);
+      commandLine.remove(cpFlagIndex);
+    } else {
+      pb.environment().put("CLASSPATH", workerClasspath);
+    }
+    commandLine.add(GWTCompilerWorker.class.getName());
+    pb.command(commandLine);
+
+    Worker worker = new Worker(pb.start(), classpathStamp);
+    worker.waitUntilReady();
+    GWTPluginLog.logInfo("Started GWT compiler worker in " + workingDir.getAbsolutePath());
+    return worker;
+  }
+}
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package com.google.gwt.eclipse.core.compile;
 
+import com.google.common.base.Joiner;
 import com.google.gdt.eclipse.core.ClasspathUtilities;
 import com.google.gdt.eclipse.core.ProcessUtilities;
 import com.google.gdt.eclipse.core.ProcessUtilities.IProcessReceiver;
@@ -23,13 +24,11 @@ import com.google.gwt.eclipse.core.GWTPlugin;
 import com.google.gwt.eclipse.core.GWTPluginLog;
 import com.google.gwt.eclipse.core.GWTProjectUtilities;
 import com.google.gwt.eclipse.core.launch.GWTLaunchConfiguration;
+import com.google.gwt.eclipse.core.launch.ModuleClasspathCache;
+import com.google.gwt.eclipse.core.preferences.GWTPreferences;
 import com.google.gwt.eclipse.core.runtime.GwtSdk;
 
-import org.eclipse.core.filesystem.URIUtil;
-import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.IResource;
-import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -77,22 +76,46 @@ public class GWTCompileRunner {
       return;
     }
 
-    int processStatus = ProcessUtilities.launchProcessAndWaitFor(
-        computeCompilerCommandLine(javaProject, warLocation, settings),
-        project.getLocation().toFile(), consoleOutputStream, processReceiver);
+    List<String> modules = settings.getEntryPointModules();
+    List<String> commandLine = computeCompilerCommandLine(javaProject, warLocation, settings);
+    File workingDir = project.getLocation().toFile();
+    int maxParallelProcesses = GWTPreferences.getCompilerMaxParallelProcesses();
 
-    /*
-     * Do a refresh on the war folder if it's in the workspace. This ensures
-     * that Eclipse sees the generated artifacts from the GWT compile, and
-     * doesn't complain about stale resources during subsequent file searches.
-     */
+    WarOutputSnapshot warOutputSnapshot = null;
     if (warLocation != null) {
-       for (IContainer warFolder : ResourcesPlugin.getWorkspace().getRoot()
-          .findContainersForLocationURI(URIUtil.toURI(warLocation))) {
-        warFolder.refreshLocal(IResource.DEPTH_INFINITE, null);
+      warOutputSnapshot = WarOutputSnapshot.take(javaProject, warLocation, modules);
+    }
+
+    int processStatus;
+    List<String> failedModules = null;
+    if (maxParallelProcesses > 1 && modules.size() > 1) {
+      // Each module is compiled in a new process, even if the compile daemon
+      // is enabled
+      failedModules = GWTParallelCompileRunner.compile(commandLine, modules,
+          maxParallelProcesses, workingDir, consoleOutputStream, processReceiver);
+      processStatus = failedModules.isEmpty() ? 0 : 1;
+    } else {
+      // add the startup modules
+      commandLine.addAll(modules);
+
+      if (GWTPreferences.getCompilerDaemonEnabled()) {
+        processStatus = compileWithDaemon(commandLine, workingDir, consoleOutputStream, processReceiver);
+      } else {
+        processStatus = ProcessUtilities.launchProcessAndWaitFor(commandLine, workingDir,
+            consoleOutputStream, processReceiver);
       }
     }
 
+    /*
+     * Refresh what the compiler wrote to the war folder if it's in the
+     * workspace. This ensures that Eclipse sees the generated artifacts from
+     * the GWT compile, and doesn't complain about stale resources during
+     * subsequent file searches.
+     */
+    if (warOutputSnapshot != null) {
+      warOutputSnapshot.refreshChanges(null);
+    }
+
     if (processStatus != 0) {
       if (processReceiver != null && processReceiver.hasDestroyedProcess()) {
         PrintWriter printWriter = new PrintWriter(consoleOutputStream);
@@ -100,8 +123,11 @@ public class GWTCompileRunner {
         printWriter.flush();
         throw new OperationCanceledException();
       } else {
-        throw new CoreException(new Status(IStatus.ERROR, GWTPlugin.PLUGIN_ID,
-            "GWT compilation failed"));
+        String message = "GWT compilation failed";
+        if (failedModules != null) {
+          message += " for " + Joiner.on(", ").join(failedModules);
+        }
+        throw new CoreException(new Status(IStatus.ERROR, GWTPlugin.PLUGIN_ID, message));
       }
     }
   }
@@ -208,9 +234,50 @@ public class GWTCompileRunner {
     return resolvedRuntimeClasspath;
   }
 
+  /**
+   * Runs the compile on a warm compiler process, falling back to a new
+   * compiler process if the warm one cannot be started (for instance, when the
+   * project's JVM is too old to run it).
+   */
+  private static int compileWithDaemon(List<String> commandLine, File workingDir,
+      OutputStream consoleOutputStream, IProcessReceiver processReceiver)
+      throws IOException, InterruptedException {
+    int compilerNameIndex = commandLine.indexOf(COMPILER_NAME);
+    try {
+      return GWTCompileDaemon.INSTANCE.compile(commandLine.subList(0, compilerNameIndex),
+          commandLine.subList(compilerNameIndex + 1, commandLine.size()), workingDir,
+          consoleOutputStream, processReceiver);
+    } catch (GWTCompileDaemon.WorkerStartException e) {
+      GWTPluginLog.logWarning(e, "Unable to start a warm GWT compiler, starting a new compiler process instead.");
+      return ProcessUtilities.launchProcessAndWaitFor(commandLine, workingDir,
+          consoleOutputStream, processReceiver);
+    }
+  }
+
+  /**
+   * Returns {@link #computeClasspath(IJavaProject)}, reusing the result of a
+   * previous compile until the classpath of the project or one of its required
+   * projects changes, or the project is built against another JRE.
+   */
+  private static List<IRuntimeClasspathEntry> computeCachedClasspath(
+      IJavaProject javaProject) throws CoreException {
+    String cacheKey = COMPILER_NAME + '/' + javaProject.getElementName() + '\n'
+        + ModuleClasspathCache.getVMInstallKey(JavaRuntime.getVMInstall(javaProject));
+    IRuntimeClasspathEntry[] cachedClasspath = ModuleClasspathCache.INSTANCE.getResolvedClasspath(cacheKey);
+    if (cachedClasspath != null) {
+      return Arrays.asList(cachedClasspath);
+    }
+
+    long cacheGeneration = ModuleClasspathCache.INSTANCE.getGeneration();
+    List<IRuntimeClasspathEntry> classpath = computeClasspath(javaProject);
+    ModuleClasspathCache.INSTANCE.putResolvedClasspath(cacheKey, cacheGeneration, javaProject,
+        classpath.toArray(new IRuntimeClasspathEntry[classpath.size()]));
+    return classpath;
+  }
+
   /**
    * Computes the command line arguments required to invoke the GWT compiler for
-   * this project.
+   * this project, up to but excluding the modules to compile.
    */
   private static List<String> computeCompilerCommandLine(
       IJavaProject javaProject, IPath warLocation, GWTCompileSettings settings)
@@ -228,7 +295,7 @@ public class GWTCompileRunner {
 
     // add the classpath
     commandLine.add("-cp");
-    commandLine.add(ClasspathUtilities.flattenToClasspathString(computeClasspath(javaProject)));
+    commandLine.add(ClasspathUtilities.flattenToClasspathString(computeCachedClasspath(javaProject)));
 
     // add the GWT compiler class name
     commandLine.add(COMPILER_NAME);
@@ -236,9 +303,6 @@ public class GWTCompileRunner {
     // add the GWT compiler options
     commandLine.addAll(computeCompilerOptions(warLocation, settings));
 
-    // add the startup modules
-    commandLine.addAll(settings.getEntryPointModules());
-
     return commandLine;
   }
 
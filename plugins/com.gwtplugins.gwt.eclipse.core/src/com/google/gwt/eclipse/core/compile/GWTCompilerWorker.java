@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.compile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Entry point of a long-lived GWT compiler process, driven by
+ * {@link GWTCompileDaemon} through the process' standard input and output.
+ *
+ * A request is a {@link #COMPILE_REQUEST} line holding the number of compiler
+ * arguments, followed by one argument per line. The compiler output is written
+ * to standard output as usual, and is followed by a {@link #MARKER} line with
+ * the result and the heap usage after the compile, measured after a garbage
+ * collection. An {@link #EXIT_REQUEST}
+ * line, or the end of the input, stops the process.
+ *
+ * This class runs on the project's classpath rather than inside Eclipse, so it
+ * must only depend on the JDK and must not have nested or anonymous classes
+ * (it is copied out of the plugin as a single class file). The GWT compiler is
+ * driven reflectively, mirroring what <code>Compiler.main</code> does minus the
+ * call to <code>System.exit</code>.
+ */
+public class GWTCompilerWorker implements InvocationHandler {
+
+  public static final String COMPILE_REQUEST = "COMPILE";
+
+  public static final String DONE = "DONE";
+
+  public static final String EXIT_REQUEST = "EXIT";
+
+  public static final String MARKER = "@@gwt-compiler-worker@@";
+
+  public static final String READY = "READY";
+
+  public static void main(String[] args) throws IOException {
+    BufferedReader in = new BufferedReader(new InputStreamReader(System.in, "UTF-8"));
+    GWTCompilerWorker worker = new GWTCompilerWorker();
+
+    System.out.println(MARKER + " " + READY);
+    System.out.flush();
+
+    String line;
+    while ((line = in.readLine()) != null) {
+      if (!line.startsWith(COMPILE_REQUEST)) {
+        // EXIT_REQUEST, or something we don't understand
+        break;
+      }
+
+      String[] compilerArgs = new String[Integer.parseInt(line.substring(COMPILE_REQUEST.length()).trim())];
+      for (int i = 0; i < compilerArgs.length; i++) {
+        compilerArgs[i] = in.readLine();
+      }
+
+      boolean success = false;
+      try {
+        success = worker.compile(compilerArgs);
+      } catch (Throwable e) {
+        e.printStackTrace(System.out);
+      }
+
+      // Don't count the garbage left by the compile
+      System.gc();
+      Runtime runtime = Runtime.getRuntime();
+      long usedMemory = runtime.totalMemory() - runtime.freeMemory();
+      System.out.println(MARKER + " " + DONE + " " + (success ? 0 : 1) + " " + usedMemory + " "
+          + runtime.maxMemory());
+      System.out.flush();
+    }
+  }
+
+  private static Throwable unwrap(InvocationTargetException e) {
+    return e.getCause() != null ? e.getCause() : e;
+  }
+
+  /**
+   * The options of the compile in progress, read by the compile task.
+   */
+  private Object options;
+
+  /**
+   * Implements <code>CompileTaskRunner.CompileTask</code>.
+   */
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    if (!"run".equals(method.getName())) {
+      // equals, hashCode and toString
+      return method.invoke(this, args);
+    }
+
+    Method compile = Class.forName("com.google.gwt.dev.Compiler").getMethod("compile",
+        Class.forName("com.google.gwt.core.ext.TreeLogger"),
+        Class.forName("com.google.gwt.dev.CompilerOptions"));
+    try {
+      return compile.invoke(null, args[0], options);
+    } catch (InvocationTargetException e) {
+      throw unwrap(e);
+    }
+  }
+
+  private boolean compile(String[] compilerArgs) throws Throwable {
+    Class<?> optionsInterface = Class.forName("com.google.gwt.dev.CompilerOptions");
+    Object compilerOptions = Class.forName("com.google.gwt.dev.CompilerOptionsImpl").getConstructor().newInstance();
+
+    Constructor<?> argProcessorConstructor =
+        Class.forName("com.google.gwt.dev.Compiler$ArgProcessor").getDeclaredConstructor(optionsInterface);
+    argProcessorConstructor.setAccessible(true);
+    Object argProcessor = argProcessorConstructor.newInstance(compilerOptions);
+
+    Method processArgs = argProcessor.getClass().getMethod("processArgs", String[].class);
+    processArgs.setAccessible(true);
+    if (!((Boolean) processArgs.invoke(argProcessor, (Object) compilerArgs)).booleanValue()) {
+      return false;
+    }
+
+    Class<?> compileTaskInterface = Class.forName("com.google.gwt.dev.CompileTaskRunner$CompileTask");
+    Object compileTask = Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[] {compileTaskInterface}, this);
+
+    Method runWithAppropriateLogger = Class.forName("com.google.gwt.dev.CompileTaskRunner").getMethod(
+        "runWithAppropriateLogger", Class.forName("com.google.gwt.dev.CompileTaskOptions"),
+        compileTaskInterface);
+
+    options = compilerOptions;
+    try {
+      return ((Boolean) runWithAppropriateLogger.invoke(null, compilerOptions, compileTask)).booleanValue();
+    } catch (InvocationTargetException e) {
+      throw unwrap(e);
+    } finally {
+      options = null;
+    }
+  }
+}
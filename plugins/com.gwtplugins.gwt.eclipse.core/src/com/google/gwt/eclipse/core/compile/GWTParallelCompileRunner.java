@@ -0,0 +1,490 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.compile;
+
+import com.google.gdt.eclipse.core.ProcessUtilities;
+import com.google.gdt.eclipse.core.ProcessUtilities.IProcessReceiver;
+import com.google.gwt.eclipse.core.GWTPluginLog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import javax.management.ObjectName;
+
+/**
+ * Compiles each entry point module in its own compiler process, running up to
+ * a bounded number of processes at once.
+ *
+ * The number of processes, their heap and their <code>-localWorkers</code>
+ * setting are derived from the available processors and physical memory. The
+ * output of each process is prefixed with its module name. Results are
+ * collected and reported in the order the modules were given, regardless of
+ * the order in which the processes finish.
+ *
+ * Each process writes its module's output under the shared <code>-war</code>
+ * directory, which doesn't overlap with the other modules' output, but is
+ * given its own persistent unit cache, and its own work directory if one is
+ * set, so the processes don't write the same files. The processes are always
+ * started afresh: the compile daemon (see {@link GWTCompileDaemon}) is not
+ * used for parallel compiles.
+ */
+class GWTParallelCompileRunner {
+
+  /**
+   * A {@link Process} handed to the caller's {@link IProcessReceiver}, which
+   * stands for all of the compiler processes: destroying it destroys every
+   * running process and prevents new ones from starting.
+   */
+  static class CompositeProcess extends Process {
+    private boolean destroyed;
+
+    private int exitValue;
+
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private final Set<Process> processes = new HashSet<Process>();
+
+    @Override
+    public synchronized void destroy() {
+      destroyed = true;
+      for (Process process : processes) {
+        process.destroy();
+      }
+      processes.clear();
+    }
+
+    /**
+     * Returns the exit value of the first module which failed to compile, in
+     * the order they were given, or 0.
+     */
+    @Override
+    public synchronized int exitValue() {
+      if (finished.getCount() > 0) {
+        throw new IllegalThreadStateException();
+      }
+      return exitValue;
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+      return new ByteArrayInputStream(new byte[0]);
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return new ByteArrayInputStream(new byte[0]);
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+      return new ByteArrayOutputStream();
+    }
+
+    /**
+     * Waits for every compiler process to finish, and returns the exit value
+     * of the first module which failed to compile, or 0.
+     */
+    @Override
+    public int waitFor() throws InterruptedException {
+      finished.await();
+      return exitValue();
+    }
+
+    private synchronized void add(Process process) {
+      if (destroyed) {
+        process.destroy();
+      } else {
+        processes.add(process);
+      }
+    }
+
+    /**
+     * Records the exit value of the compile, and releases the callers of
+     * {@link #waitFor()}. Only the first call has an effect.
+     */
+    synchronized void finish(int exitValue) {
+      if (finished.getCount() > 0) {
+        this.exitValue = exitValue;
+        finished.countDown();
+      }
+    }
+
+    private synchronized boolean isDestroyed() {
+      return destroyed;
+    }
+
+    private synchronized void remove(Process process) {
+      processes.remove(process);
+    }
+  }
+
+  /**
+   * The outcome of compiling one module.
+   */
+  private static class ModuleResult {
+    private final long millis;
+
+    private final String module;
+
+    private final int status;
+
+    private ModuleResult(String module, int status, long millis) {
+      this.module = module;
+      this.status = status;
+      this.millis = millis;
+    }
+  }
+
+  /**
+   * Prefixes each line written to it, and writes whole lines to the shared
+   * stream so the output of concurrent processes does not interleave within a
+   * line.
+   */
+  private static class PrefixingOutputStream extends OutputStream {
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+    private final OutputStream out;
+
+    private final byte[] prefix;
+
+    private PrefixingOutputStream(OutputStream out, String prefix) throws UnsupportedEncodingException {
+      this.out = out;
+      this.prefix = prefix.getBytes("UTF-8");
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (line.size() > 0) {
+        line.write('\n');
+        writeLine();
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      int start = off;
+      for (int i = off; i < off + len; i++) {
+        if (b[i] == '\n') {
+          line.write(b, start, i + 1 - start);
+          writeLine();
+          start = i + 1;
+        }
+      }
+      line.write(b, start, off + len - start);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      line.write(b);
+      if (b == '\n') {
+        writeLine();
+      }
+    }
+
+    private void writeLine() throws IOException {
+      synchronized (out) {
+        out.write(prefix);
+        line.writeTo(out);
+        out.flush();
+      }
+      line.reset();
+    }
+  }
+
+  private static final String COMPILER_NAME = "com.google.gwt.dev.Compiler";
+
+  /**
+   * The directory GWT keeps its persistent unit cache in when the
+   * {@link #UNIT_CACHE_DIR_PROPERTY} is not set, relative to the working
+   * directory.
+   */
+  private static final String DEFAULT_UNIT_CACHE_DIR = "gwt-unitCache";
+
+  private static final long MB = 1024 * 1024;
+
+  /**
+   * The smallest heap a compiler process is given; fewer processes are run if
+   * the available memory cannot accommodate this much per process.
+   */
+  private static final long MIN_HEAP_MB = 512;
+
+  /**
+   * The fraction of the physical memory that the compiler processes (and
+   * Eclipse itself) may use.
+   */
+  private static final double USABLE_MEMORY_RATIO = 0.75;
+
+  private static final String UNIT_CACHE_DIR_PROPERTY = "gwt.persistentunitcachedir";
+
+  private static final String WORK_DIR_FLAG = "-workDir";
+
+  /**
+   * Compiles each module in its own process.
+   *
+   * @param commandLine the compiler command line, without the modules
+   * @param modules the entry point modules, at least two
+   * @param maxProcesses the maximum number of concurrent processes
+   * @param processReceiver optional, receives a process standing for all of
+   *          the compiler processes
+   * @return the modules which failed to compile, in the order they were given
+   */
+  static List<String> compile(List<String> commandLine, List<String> modules, int maxProcesses,
+      File workingDir, OutputStream consoleOutputStream, IProcessReceiver processReceiver)
+      throws InterruptedException, IOException {
+    int availableProcessors = Runtime.getRuntime().availableProcessors();
+    int processes = Math.max(1, Math.min(maxProcesses, Math.min(modules.size(), availableProcessors)));
+
+    long memoryBudgetMb = computeMemoryBudgetMb();
+    if (memoryBudgetMb > 0) {
+      while (processes > 1 && memoryBudgetMb / processes < MIN_HEAP_MB) {
+        processes--;
+      }
+    }
+
+    final List<String> processCommandLine = new ArrayList<String>(commandLine);
+    long configuredHeapMb = findConfiguredHeapMb(commandLine);
+    long heapMb = memoryBudgetMb > 0 ? memoryBudgetMb / processes : -1;
+    if (heapMb > 0 && (configuredHeapMb <= 0 || heapMb < configuredHeapMb)) {
+      // The last -Xmx wins, so this overrides the one in the user's VM args
+      int cpFlagIndex = processCommandLine.indexOf("-cp");
+      processCommandLine.add(cpFlagIndex, "-Xmx" + heapMb + "m");
+    }
+    if (!processCommandLine.contains("-localWorkers")) {
+      processCommandLine.add("-localWorkers");
+      processCommandLine.add(String.valueOf(Math.max(1, availableProcessors / processes)));
+    }
+
+    PrintWriter consoleWriter = new PrintWriter(consoleOutputStream, true);
+    consoleWriter.println("Compiling " + modules.size() + " modules in up to " + processes
+        + " parallel processes");
+
+    final CompositeProcess compositeProcess = new CompositeProcess();
+    if (processReceiver != null) {
+      processReceiver.setProcess(compositeProcess);
+    }
+    // Released with a failure if the compile is interrupted
+    int exitValue = -1;
+
+    long startTime = System.currentTimeMillis();
+    ExecutorService executor = Executors.newFixedThreadPool(processes, new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        return new Thread(r, "GWT Parallel Compile");
+      }
+    });
+
+    List<Future<ModuleResult>> futures = new ArrayList<Future<ModuleResult>>();
+    List<ModuleResult> results = new ArrayList<ModuleResult>();
+    try {
+      for (String module : modules) {
+        futures.add(executor.submit(newModuleCompile(processCommandLine, module, workingDir,
+            consoleOutputStream, compositeProcess)));
+      }
+
+      for (int i = 0; i < futures.size(); i++) {
+        try {
+          results.add(futures.get(i).get());
+        } catch (ExecutionException e) {
+          GWTPluginLog.logError(e.getCause(), "Could not compile " + modules.get(i));
+          results.add(new ModuleResult(modules.get(i), -1, 0));
+        }
+      }
+
+      exitValue = 0;
+      for (ModuleResult result : results) {
+        if (result.status != 0) {
+          exitValue = result.status;
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      compositeProcess.destroy();
+      throw e;
+    } finally {
+      executor.shutdownNow();
+      compositeProcess.finish(exitValue);
+    }
+
+    List<String> failedModules = new ArrayList<String>();
+    consoleWriter.println(String.format(Locale.ENGLISH, "GWT compile of %d modules finished in %.1fs:",
+        modules.size(), (System.currentTimeMillis() - startTime) / 1000.0));
+    for (ModuleResult result : results) {
+      consoleWriter.println(String.format(Locale.ENGLISH, "   %s: %s in %.1fs", result.module,
+          result.status == 0 ? "succeeded" : "FAILED", result.millis / 1000.0));
+      if (result.status != 0) {
+        failedModules.add(result.module);
+      }
+    }
+
+    return failedModules;
+  }
+
+  /**
+   * Returns the command line compiling the module, with its own persistent
+   * unit cache directory, and its own work directory if the command line sets
+   * one.
+   */
+  static List<String> computeModuleCommandLine(List<String> commandLine, String module,
+      File workingDir) {
+    List<String> moduleCommandLine = new ArrayList<String>(commandLine);
+
+    int compilerNameIndex = moduleCommandLine.indexOf(COMPILER_NAME);
+    String unitCacheDir = new File(workingDir, DEFAULT_UNIT_CACHE_DIR).getPath();
+    String unitCacheDirArg = "-D" + UNIT_CACHE_DIR_PROPERTY + "=";
+    for (int i = 0; i < compilerNameIndex; i++) {
+      if (moduleCommandLine.get(i).startsWith(unitCacheDirArg)) {
+        unitCacheDir = moduleCommandLine.get(i).substring(unitCacheDirArg.length());
+      }
+    }
+    // The last definition of the property wins
+    int cpFlagIndex = moduleCommandLine.indexOf("-cp");
+    moduleCommandLine.add(cpFlagIndex, unitCacheDirArg + new File(unitCacheDir, module).getPath());
+
+    int workDirFlagIndex = moduleCommandLine.lastIndexOf(WORK_DIR_FLAG);
+    if (workDirFlagIndex > cpFlagIndex && workDirFlagIndex + 1 < moduleCommandLine.size()) {
+      String workDir = moduleCommandLine.get(workDirFlagIndex + 1);
+      moduleCommandLine.set(workDirFlagIndex + 1, new File(workDir, module).getPath());
+    }
+
+    moduleCommandLine.add(module);
+    return moduleCommandLine;
+  }
+
+  /**
+   * Returns the memory, in MB, that the compiler processes may share, or -1 if
+   * the physical memory size cannot be determined.
+   */
+  private static long computeMemoryBudgetMb() {
+    try {
+      Object totalPhysicalMemory = ManagementFactory.getPlatformMBeanServer().getAttribute(
+          new ObjectName("java.lang:type=OperatingSystem"), "TotalPhysicalMemorySize");
+      if (totalPhysicalMemory instanceof Number) {
+        long budget = (long) (((Number) totalPhysicalMemory).longValue() * USABLE_MEMORY_RATIO)
+            - Runtime.getRuntime().maxMemory();
+        return budget > 0 ? budget / MB : -1;
+      }
+    } catch (Exception e) {
+      // Not available on this JVM
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the heap size, in MB, set by the last <code>-Xmx</code> argument
+   * of the command line, or -1.
+   */
+  private static long findConfiguredHeapMb(List<String> commandLine) {
+    long heapMb = -1;
+    for (String arg : commandLine) {
+      if (arg.equals(COMPILER_NAME)) {
+        break;
+      }
+      if (arg.startsWith("-Xmx") && arg.length() > 4) {
+        heapMb = parseMemorySizeMb(arg.substring(4));
+      }
+    }
+    return heapMb;
+  }
+
+  private static Callable<ModuleResult> newModuleCompile(final List<String> commandLine,
+      final String module, final File workingDir, final OutputStream consoleOutputStream,
+      final CompositeProcess compositeProcess) {
+    return new Callable<ModuleResult>() {
+      @Override
+      public ModuleResult call() throws Exception {
+        if (compositeProcess.isDestroyed()) {
+          return new ModuleResult(module, -1, 0);
+        }
+
+        List<String> moduleCommandLine = computeModuleCommandLine(commandLine, module,
+            workingDir);
+
+        final Process[] moduleProcess = new Process[1];
+        IProcessReceiver moduleProcessReceiver = new IProcessReceiver() {
+          @Override
+          public boolean hasDestroyedProcess() {
+            return compositeProcess.isDestroyed();
+          }
+
+          @Override
+          public void setProcess(Process process) {
+            moduleProcess[0] = process;
+            compositeProcess.add(process);
+          }
+        };
+
+        PrefixingOutputStream moduleOutputStream = new PrefixingOutputStream(consoleOutputStream,
+            "[" + module + "] ");
+        long startTime = System.currentTimeMillis();
+        try {
+          int status = ProcessUtilities.launchProcessAndWaitFor(moduleCommandLine, workingDir,
+              moduleOutputStream, moduleProcessReceiver);
+          return new ModuleResult(module, status, System.currentTimeMillis() - startTime);
+        } finally {
+          moduleOutputStream.close();
+          if (moduleProcess[0] != null) {
+            compositeProcess.remove(moduleProcess[0]);
+          }
+        }
+      }
+    };
+  }
+
+  /**
+   * Parses a JVM memory size such as <code>1g</code>, <code>512m</code> or
+   * <code>524288k</code> into MB, or returns -1.
+   */
+  private static long parseMemorySizeMb(String size) {
+    try {
+      char unit = Character.toLowerCase(size.charAt(size.length() - 1));
+      String digits = Character.isDigit(unit) ? size : size.substring(0, size.length() - 1);
+      long value = Long.parseLong(digits);
+      switch (unit) {
+        case 'g':
+          return value * 1024;
+        case 'm':
+          return value;
+        case 'k':
+          return value / 1024;
+        default:
+          return value / MB;
+      }
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private GWTParallelCompileRunner() {
+  }
+}
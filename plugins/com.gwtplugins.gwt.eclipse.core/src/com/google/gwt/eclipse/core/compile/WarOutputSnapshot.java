@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.compile;
+
+import com.google.gwt.eclipse.core.modules.IModule;
+import com.google.gwt.eclipse.core.modules.ModuleUtils;
+
+import org.eclipse.core.filesystem.URIUtil;
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records the state of the directories the GWT compiler writes to inside a WAR
+ * folder, so that after a compile only what the compiler actually wrote is
+ * refreshed, rather than the whole WAR folder.
+ *
+ * The recorded directories are the output directory of each module
+ * (<code>war/&lt;compiled module name&gt;</code>), its deploy directory
+ * (<code>war/WEB-INF/deploy/&lt;compiled module name&gt;</code>), and the
+ * names of the WAR folder's children, to catch any other output created at the
+ * top of the WAR folder.
+ */
+class WarOutputSnapshot {
+
+  /**
+   * Takes a snapshot of the output directories of the given modules.
+   */
+  static WarOutputSnapshot take(IJavaProject javaProject, IPath warLocation, List<String> modules) {
+    File warDir = warLocation.toFile();
+    List<File> outputDirs = new ArrayList<File>();
+    for (String module : modules) {
+      String compiledName = computeCompiledName(javaProject, module);
+      outputDirs.add(new File(warDir, compiledName));
+      outputDirs.add(new File(new File(new File(warDir, "WEB-INF"), "deploy"), compiledName));
+    }
+
+    WarOutputSnapshot snapshot = new WarOutputSnapshot(warDir, outputDirs);
+    snapshot.record();
+    return snapshot;
+  }
+
+  private static String computeCompiledName(IJavaProject javaProject, String module) {
+    IModule moduleFile = ModuleUtils.findModule(javaProject, module, true);
+    String compiledName = moduleFile != null ? moduleFile.getCompiledName() : null;
+    return compiledName != null && compiledName.length() > 0 ? compiledName : module;
+  }
+
+  /**
+   * The directories that existed when the snapshot was taken.
+   */
+  private final Set<File> directories = new HashSet<File>();
+
+  /**
+   * The last modification time and length of each file.
+   */
+  private final Map<File, List<Long>> files = new HashMap<File, List<Long>>();
+
+  private final List<File> outputDirs;
+
+  private final Set<String> topLevelNames = new HashSet<String>();
+
+  private final File warDir;
+
+  private WarOutputSnapshot(File warDir, List<File> outputDirs) {
+    this.warDir = warDir;
+    this.outputDirs = outputDirs;
+  }
+
+  /**
+   * Takes a new snapshot of the same directories, and refreshes what changed
+   * since this snapshot was taken in a single workspace operation.
+   */
+  void refreshChanges(IProgressMonitor monitor) throws CoreException {
+    WarOutputSnapshot after = new WarOutputSnapshot(warDir, outputDirs);
+    after.record();
+
+    final Map<File, Integer> refreshes = computeRefreshes(after);
+    if (refreshes.isEmpty()) {
+      return;
+    }
+
+    IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    final IWorkspaceRoot root = workspace.getRoot();
+    workspace.run(new IWorkspaceRunnable() {
+      @Override
+      public void run(IProgressMonitor monitor) throws CoreException {
+        for (Map.Entry<File, Integer> refresh : refreshes.entrySet()) {
+          for (IContainer container : root.findContainersForLocationURI(URIUtil.toURI(
+              Path.fromOSString(refresh.getKey().getAbsolutePath())))) {
+            container.refreshLocal(refresh.getValue(), monitor);
+          }
+        }
+      }
+    }, null, IWorkspace.AVOID_UPDATE, monitor);
+  }
+
+  /**
+   * Adds a refresh of the given directory, unless an ancestor is already
+   * refreshed in depth.
+   */
+  private void addRefresh(Map<File, Integer> refreshes, File dir, int depth) {
+    for (File ancestor = dir; ancestor != null; ancestor = ancestor.getParentFile()) {
+      Integer ancestorDepth = refreshes.get(ancestor);
+      if (ancestorDepth != null && (ancestorDepth == IResource.DEPTH_INFINITE || ancestor.equals(dir)
+          && ancestorDepth >= depth)) {
+        return;
+      }
+    }
+    refreshes.put(dir, depth);
+  }
+
+  /**
+   * Computes the directories to refresh, and the depth to refresh each of them
+   * at, to pick up the differences between this snapshot and a later one.
+   */
+  private Map<File, Integer> computeRefreshes(WarOutputSnapshot after) {
+    // New directories are refreshed in depth, from the topmost new directory
+    Map<File, Integer> refreshes = new LinkedHashMap<File, Integer>();
+    for (File dir : after.directories) {
+      if (!directories.contains(dir)) {
+        File topmostNewDir = dir;
+        while (!topmostNewDir.getParentFile().equals(warDir)
+            && !directories.contains(topmostNewDir.getParentFile())) {
+          topmostNewDir = topmostNewDir.getParentFile();
+        }
+        addRefresh(refreshes, topmostNewDir, IResource.DEPTH_INFINITE);
+      }
+    }
+
+    // Directories whose files or subdirectories were added, changed or removed
+    Set<File> changedDirs = new HashSet<File>();
+    for (Map.Entry<File, List<Long>> file : after.files.entrySet()) {
+      if (!file.getValue().equals(files.get(file.getKey()))) {
+        changedDirs.add(file.getKey().getParentFile());
+      }
+    }
+    for (File file : files.keySet()) {
+      if (!after.files.containsKey(file)) {
+        changedDirs.add(file.getParentFile());
+      }
+    }
+    for (File dir : directories) {
+      if (!after.directories.contains(dir)) {
+        changedDirs.add(dir.getParentFile());
+      }
+    }
+
+    // Other changes at the top of the WAR folder
+    Set<String> topLevelChanges = new HashSet<String>(after.topLevelNames);
+    topLevelChanges.addAll(topLevelNames);
+    topLevelChanges.removeAll(intersection(topLevelNames, after.topLevelNames));
+    for (String name : topLevelChanges) {
+      File child = new File(warDir, name);
+      if (child.isDirectory()) {
+        addRefresh(refreshes, child, IResource.DEPTH_INFINITE);
+      } else {
+        changedDirs.add(warDir);
+      }
+    }
+
+    for (File dir : changedDirs) {
+      addRefresh(refreshes, dir, IResource.DEPTH_ONE);
+    }
+
+    return refreshes;
+  }
+
+  private Set<String> intersection(Set<String> a, Set<String> b) {
+    Set<String> intersection = new HashSet<String>(a);
+    intersection.retainAll(b);
+    return intersection;
+  }
+
+  private void record() {
+    String[] names = warDir.list();
+    if (names != null) {
+      topLevelNames.addAll(Arrays.asList(names));
+    }
+
+    for (File outputDir : outputDirs) {
+      // Record the existing ancestors, so new output directories can be
+      // refreshed from the topmost one that was created
+      for (File ancestor = outputDir.getParentFile(); ancestor != null && !ancestor.equals(warDir); ancestor =
+          ancestor.getParentFile()) {
+        if (ancestor.isDirectory()) {
+          directories.add(ancestor);
+        }
+      }
+      recordDirectory(outputDir);
+    }
+  }
+
+  private void recordDirectory(File dir) {
+    File[] children = dir.listFiles();
+    if (children == null) {
+      return;
+    }
+
+    directories.add(dir);
+    for (File child : children) {
+      if (child.isDirectory()) {
+        recordDirectory(child);
+      } else {
+        files.put(child, Arrays.asList(child.lastModified(), child.length()));
+      }
+    }
+  }
+}
@@ -15,6 +15,7 @@
 package com.google.gwt.eclipse.core.editors.java;
 
 import org.eclipse.jdt.ui.text.IJavaPartitions;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.rules.IPartitionTokenScanner;
 import org.eclipse.jface.text.rules.IToken;
@@ -25,6 +26,10 @@ import org.eclipse.jface.text.rules.IToken;
 public class CompositePartitionScanner implements IPartitionTokenScanner,
     IJavaPartitions {
 
+  private static final String JSNI_END = "}-*/";
+
+  private static final String JSNI_START = "/*-{";
+
   private IDocument document;
 
   private final IPartitionTokenScanner javaScanner;
@@ -48,7 +53,9 @@ public class CompositePartitionScanner implements IPartitionTokenScanner,
   public IToken nextToken() {
     IToken token = javaScanner.nextToken();
     Object data = token.getData();
-    if (JAVA_MULTI_LINE_COMMENT.equals(data)) {
+    if (JAVA_MULTI_LINE_COMMENT.equals(data)
+        && hasJsniDelimiters(javaScanner.getTokenOffset(),
+            javaScanner.getTokenLength())) {
       jsniScanner.setRange(document, javaScanner.getTokenOffset(),
           javaScanner.getTokenLength());
       IToken jsniToken = jsniScanner.nextToken();
@@ -78,4 +85,22 @@ public class CompositePartitionScanner implements IPartitionTokenScanner,
     javaScanner.setRange(document, offset, length);
     jsniScanner.setRange(document, offset, length);
   }
+
+  /**
+   * Returns whether the comment starts and ends like a JSNI block, so comments
+   * which aren't JSNI blocks aren't scanned a second time.
+   */
+  private boolean hasJsniDelimiters(int offset, int length) {
+    if (length < JSNI_START.length() + JSNI_END.length()) {
+      return false;
+    }
+
+    try {
+      return JSNI_START.equals(document.get(offset, JSNI_START.length()))
+          && JSNI_END.equals(document.get(offset + length - JSNI_END.length(),
+              JSNI_END.length()));
+    } catch (BadLocationException e) {
+      return false;
+    }
+  }
 }
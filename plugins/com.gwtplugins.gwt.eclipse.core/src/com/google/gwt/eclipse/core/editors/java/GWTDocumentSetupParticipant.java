@@ -22,7 +22,6 @@ import org.eclipse.jdt.ui.text.IJavaPartitions;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentExtension3;
 import org.eclipse.jface.text.IDocumentPartitioner;
-import org.eclipse.jface.text.rules.FastPartitioner;
 import org.eclipse.jface.text.rules.IPartitionTokenScanner;
 
 /**
@@ -40,7 +39,7 @@ public class GWTDocumentSetupParticipant extends JavaDocumentSetupParticipant {
     assert document instanceof IDocumentExtension3;
     IPartitionTokenScanner javaScanner = JavaPlugin.getDefault().getJavaTextTools().getPartitionScanner();
     IPartitionTokenScanner jsniScanner = new GWTPartitionScanner();
-    IDocumentPartitioner partitioner = new FastPartitioner(
+    IDocumentPartitioner partitioner = new JsniPartitioner(
         new CompositePartitionScanner(javaScanner, jsniScanner),
         LEGAL_CONTENT_TYPES);
     IDocumentExtension3 extension3 = (IDocumentExtension3) document;
@@ -38,6 +38,7 @@ import org.eclipse.wst.jsdt.core.JavaScriptCore;
 import org.eclipse.wst.jsdt.core.formatter.CodeFormatter;
 import org.eclipse.wst.jsdt.internal.corext.util.CodeFormatterUtil;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -74,43 +75,96 @@ public class JsniFormattingUtil {
   }
 
   /**
-   * Walks the AST for the CompilationUnit we're formatting to figure out the
-   * offset of the method declaration containing a particular JSNI block. There
-   * doesn't seem to be any built in equivalent of ICompilationUnit's
-   * getElementAt() method, and we can't convert the CompilationUnit to an
-   * ICompilationUnit here since the Compilation is unattached (not part of the
-   * Java Model).
+   * Walks the AST for the CompilationUnit we're formatting to collect the
+   * method declarations, so we can figure out the offset of the method
+   * declaration containing each JSNI block. There doesn't seem to be any built
+   * in equivalent of ICompilationUnit's getElementAt() method, and we can't
+   * convert the CompilationUnit to an ICompilationUnit here since the
+   * Compilation is unattached (not part of the Java Model).
    */
-  private static class JsniMethodFinder extends ASTVisitor {
-
-    private final int jsniBlockOffset;
-
-    private int jsniMethodDeclarationOffset = 0;
+  private static class MethodDeclarationCollector extends ASTVisitor {
+
+    /**
+     * The method declarations, in the order they appear in the document. Methods
+     * of local and anonymous classes are not included, so these don't overlap.
+     */
+    private final List<MethodDeclaration> methods = new ArrayList<MethodDeclaration>();
+
+    /**
+     * Index of the method declaration tried first by
+     * {@link #getMethodDeclarationOffset(int)}.
+     */
+    private int nextMethod;
+
+    /**
+     * Returns the offset of the method declaration containing the JSNI block at
+     * the given offset, or the offset of the JSNI block itself if it isn't in a
+     * method. Finding the blocks in document order takes a single pass over the
+     * method declarations.
+     */
+    public int getMethodDeclarationOffset(int jsniBlockOffset) {
+      if (nextMethod >= methods.size()
+          || methods.get(nextMethod).getStartPosition() >= jsniBlockOffset) {
+        nextMethod = 0;
+      }
 
-    public JsniMethodFinder(int jsniBlockOffset) {
-      super();
-      this.jsniBlockOffset = jsniBlockOffset;
-      this.jsniMethodDeclarationOffset = jsniBlockOffset;
-    }
+      for (; nextMethod < methods.size(); nextMethod++) {
+        MethodDeclaration method = methods.get(nextMethod);
+        int offset = method.getStartPosition();
+        if (offset >= jsniBlockOffset) {
+          break;
+        }
 
-    public int getJsniMethodDeclarationOffset() {
-      return jsniMethodDeclarationOffset;
+        // Test if the JSNI block starts within this native method
+        if (jsniBlockOffset < offset + method.getLength()) {
+          return offset;
+        }
+      }
+      return jsniBlockOffset;
     }
 
     @Override
     public boolean visit(MethodDeclaration method) {
-      int offset = method.getStartPosition();
-      int length = method.getLength();
+      methods.add(method);
+      return false;
+    }
+  }
 
-      // Test if the JSNI block starts within this native method
-      if (jsniBlockOffset > offset && jsniBlockOffset < (offset + length)) {
-        jsniMethodDeclarationOffset = offset;
-      }
+  /**
+   * The settings shared by all the JSNI blocks formatted in a document.
+   */
+  private static class FormattingContext {
 
-      return false;
+    private final Map<String, String> javaScriptFormattingPrefs;
+
+    private final String lineDelimiter;
+
+    private final MethodDeclarationCollector methods;
+
+    private final int tabWidth;
+
+    private final int indentWidth;
+
+    private final DefaultCodeFormatter defaultCodeFormatter;
+
+    public FormattingContext(IDocument document,
+        Map<String, String> javaFormattingPrefs,
+        Map<String, String> javaScriptFormattingPrefs) {
+      this.javaScriptFormattingPrefs = javaScriptFormattingPrefs;
+      this.lineDelimiter = TextUtilities.getDefaultLineDelimiter(document);
+      this.tabWidth = IndentManipulation.getTabWidth(javaFormattingPrefs);
+      this.indentWidth = IndentManipulation.getIndentWidth(javaFormattingPrefs);
+      this.defaultCodeFormatter = new DefaultCodeFormatter(javaFormattingPrefs);
+      this.methods = collectMethodDeclarations(document);
     }
   }
 
+  /**
+   * Matches the JSNI references to Java members.
+   */
+  private static final Pattern JSNI_JAVA_REF_PATTERN =
+      Pattern.compile("@[a-zA-Z0-9._$]+::[a-zA-Z0-9_$]+(\\(.*?\\)\\(.*?\\))?");
+
   /**
    * Same as format(IDocument, Map, String[]), except the formatting options
    * are taken from the given project.
@@ -154,6 +208,9 @@ public class JsniFormattingUtil {
       ITypedRegion[] regions = TextUtilities.computePartitioning(document,
           GWTPartitions.GWT_PARTITIONING, 0, document.getLength(), false);
 
+      // Parse the document once for all of its JSNI blocks
+      FormattingContext context = null;
+
       // Format all JSNI blocks in the document
       int i = 0;
       for (ITypedRegion region : regions) {
@@ -162,9 +219,12 @@ public class JsniFormattingUtil {
           if (originalJsniMethods != null && i < originalJsniMethods.length) {
             originalJsniMethod = originalJsniMethods[i];
           }
-          TextEdit edit = format(document, new TypedPosition(region),
-              javaFormattingPrefs, javaScriptFormattingPrefs,
-              originalJsniMethod);
+          if (context == null) {
+            context = new FormattingContext(document, javaFormattingPrefs,
+                javaScriptFormattingPrefs);
+          }
+          TextEdit edit = format(document, region.getOffset(),
+              region.getLength(), context, originalJsniMethod);
           if (edit != null) {
             combinedEdit.addChild(edit);
           }
@@ -182,25 +242,23 @@ public class JsniFormattingUtil {
   public static TextEdit format(IDocument document, TypedPosition partition,
       Map<String, String> javaFormattingPrefs,
       Map<String, String> javaScriptFormattingPrefs, String original) {
-    try {
-      // Extract the JSNI block out of the document
-      int offset = partition.getOffset();
-      int length = partition.getLength();
+    return format(document, partition.getOffset(), partition.getLength(),
+        new FormattingContext(document, javaFormattingPrefs,
+            javaScriptFormattingPrefs), original);
+  }
 
-      // Determine the line delimiter, indent string, and tab/indent widths
-      String lineDelimiter = TextUtilities.getDefaultLineDelimiter(document);
-      int tabWidth = IndentManipulation.getTabWidth(javaFormattingPrefs);
-      int indentWidth = IndentManipulation.getIndentWidth(javaFormattingPrefs);
+  private static TextEdit format(IDocument document, int offset, int length,
+      FormattingContext context, String original) {
+    try {
+      String lineDelimiter = context.lineDelimiter;
 
       // Get indentation level of the first line of the JSNI block (this should
       // be the line containing the JSNI method declaration)
-      int methodDeclarationOffset = getMethodDeclarationOffset(document, offset);
+      int methodDeclarationOffset = context.methods.getMethodDeclarationOffset(offset);
       int jsniLine1 = document.getLineOfOffset(methodDeclarationOffset);
-      int methodIndentLevel = getLineIndentLevel(document, jsniLine1, tabWidth,
-          indentWidth);
-      DefaultCodeFormatter defaultCodeFormatter = new DefaultCodeFormatter(
-          javaFormattingPrefs);
-      String indentLine = defaultCodeFormatter.createIndentationString(methodIndentLevel);
+      int methodIndentLevel = getLineIndentLevel(document, jsniLine1,
+          context.tabWidth, context.indentWidth);
+      String indentLine = context.defaultCodeFormatter.createIndentationString(methodIndentLevel);
 
       // Extract the JSNI body out of the block and split it up by line
       String jsniSource = document.get(offset, length);
@@ -215,7 +273,7 @@ public class JsniFormattingUtil {
 
       TextEdit formatEdit = CodeFormatterUtil.format2(
           CodeFormatter.K_STATEMENTS, body, methodIndentLevel + 1,
-          lineDelimiter, javaScriptFormattingPrefs);
+          lineDelimiter, context.javaScriptFormattingPrefs);
 
       if (formatEdit != null) {
 
@@ -290,7 +348,8 @@ public class JsniFormattingUtil {
     return IndentManipulation.measureIndentUnits(line, tabWidth, indentWidth);
   }
 
-  private static int getMethodDeclarationOffset(IDocument document, int offset) {
+  private static MethodDeclarationCollector collectMethodDeclarations(
+      IDocument document) {
     // Have JDT parse the compilation unit
     // AST.JLS4 is a superset of earlier version including AST.JLS3
     ASTParser parser = ASTParser.newParser(AST.JLS4);
@@ -298,10 +357,9 @@ public class JsniFormattingUtil {
     parser.setSource(document.get().toCharArray());
     ASTNode ast = parser.createAST(null);
 
-    // Figure out the offset of the containing method declaration
-    JsniMethodFinder finder = new JsniMethodFinder(offset);
-    ast.accept(finder);
-    return finder.getJsniMethodDeclarationOffset();
+    MethodDeclarationCollector collector = new MethodDeclarationCollector();
+    ast.accept(collector);
+    return collector;
   }
 
   private static String makeJsToken(String s) {
@@ -321,9 +379,7 @@ public class JsniFormattingUtil {
 
     Map<String, String> replacements = new HashMap<String, String>();
 
-    Pattern p = Pattern.compile("@[a-zA-Z0-9._$]+::[a-zA-Z0-9_$]+(\\(.*?\\)\\(.*?\\))?");
-
-    Matcher m = p.matcher(jsni);
+    Matcher m = JSNI_JAVA_REF_PATTERN.matcher(jsni);
 
     while (m.find()) {
       int start = m.start();
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.editors.java;
+
+import com.google.gwt.eclipse.core.GWTPluginLog;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.TypedPosition;
+import org.eclipse.jface.text.rules.FastPartitioner;
+import org.eclipse.jface.text.rules.IPartitionTokenScanner;
+
+/**
+ * A partitioner which handles edits inside JSNI blocks without re-scanning the
+ * block.
+ * <p>
+ * The {@link FastPartitioner} re-scans the partition containing an edit from
+ * the start of the edited line to its end, and then the whole JSNI block once
+ * more to find its delimiters, so every keystroke in a large JSNI block costs
+ * time proportional to the size of the block. But an edit strictly between the
+ * "/*-{" and "}-*&#47;" delimiters of a block can only change the partitioning
+ * if it creates a "*&#47;" which ends the block's comment early. When it
+ * doesn't, the partitions after the edit are just shifted, and only the text
+ * around the edit has to be looked at.
+ */
+public class JsniPartitioner extends FastPartitioner {
+
+  private static final int JSNI_END_LENGTH = "}-*/".length();
+
+  private static final int JSNI_START_LENGTH = "/*-{".length();
+
+  private boolean initialized;
+
+  public JsniPartitioner(IPartitionTokenScanner scanner,
+      String[] legalContentTypes) {
+    super(scanner, legalContentTypes);
+  }
+
+  @Override
+  public void connect(IDocument document, boolean delayInitialization) {
+    initialized = false;
+    super.connect(document, delayInitialization);
+  }
+
+  @Override
+  public void disconnect() {
+    super.disconnect();
+    initialized = false;
+  }
+
+  @Override
+  public IRegion documentChanged2(DocumentEvent e) {
+    if (initialized && getActiveRewriteSession() == null
+        && isInsideJsniBlock(e)) {
+      // Shift the positions after the edit, and grow or shrink the JSNI block
+      fPositionUpdater.update(e);
+      clearPositionCache();
+      return null;
+    }
+
+    return super.documentChanged2(e);
+  }
+
+  @Override
+  protected void initialize() {
+    super.initialize();
+    initialized = true;
+  }
+
+  /**
+   * Returns whether the change is strictly inside a JSNI block, and leaves it
+   * a single JSNI block. The document has been changed, but the partitions
+   * haven't been updated yet.
+   */
+  private boolean isInsideJsniBlock(DocumentEvent e) {
+    TypedPosition partition = findClosestPosition(e.getOffset());
+    if (partition == null
+        || !GWTPartitions.JSNI_METHOD.equals(partition.getType())) {
+      return false;
+    }
+
+    int offset = e.getOffset();
+    if (offset < partition.getOffset() + JSNI_START_LENGTH
+        || offset + e.getLength() > partition.getOffset()
+            + partition.getLength() - JSNI_END_LENGTH) {
+      return false;
+    }
+
+    // Look for a "*/" in the inserted text, or made of the inserted text and
+    // the characters next to it. The characters next to the change are inside
+    // the block, or its delimiters.
+    int newLength = e.getText() == null ? 0 : e.getText().length();
+    try {
+      char previous = fDocument.getChar(offset - 1);
+      for (int i = offset; i <= offset + newLength; i++) {
+        char c = fDocument.getChar(i);
+        if (previous == '*' && c == '/') {
+          return false;
+        }
+        previous = c;
+      }
+    } catch (BadLocationException ex) {
+      GWTPluginLog.logWarning(ex,
+          "Unexpected bad location while updating JSNI partitions.");
+      return false;
+    }
+
+    return true;
+  }
+}
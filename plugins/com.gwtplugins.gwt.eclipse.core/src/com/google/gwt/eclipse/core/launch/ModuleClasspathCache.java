@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.launch;
+
+import com.google.gdt.eclipse.core.JavaProjectUtilities;
+import com.google.gwt.eclipse.core.GWTPluginLog;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
+import org.eclipse.jdt.launching.IVMInstall;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the classpath computations performed by
+ * {@link ModuleClasspathProvider}, so repeated launches (and launch
+ * configuration refreshes) do not walk the transitively required projects
+ * again.
+ *
+ * Each cached value remembers the set of projects it was computed from. A
+ * value is dropped as soon as the classpath of one of those projects changes,
+ * one of those projects is opened, closed, added or removed, or a folder is
+ * added to or removed from one of them (which may change the set of existing
+ * source folders).
+ *
+ * The resolved classpaths also depend on the JRE they are resolved against,
+ * which callers include in their keys with {@link #getVMInstallKey(IVMInstall)}.
+ *
+ * Values are computed outside of the cache, so callers read the
+ * {@link #getGeneration() generation} before computing a value and pass it
+ * when storing it; a value computed while an invalidation arrived is not
+ * stored.
+ */
+public class ModuleClasspathCache {
+
+  public static final ModuleClasspathCache INSTANCE = new ModuleClasspathCache();
+
+  private static final int CLASSPATH_CHANGED_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED
+      | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_OPENED
+      | IJavaElementDelta.F_CLOSED;
+
+  /**
+   * A cached value along with the names of the projects it depends on.
+   */
+  private static class CacheEntry<T> {
+    private final Set<String> projectNames;
+    private final T value;
+
+    private CacheEntry(Set<String> projectNames, T value) {
+      this.projectNames = projectNames;
+      this.value = value;
+    }
+  }
+
+  /**
+   * Returns a string identifying the given JRE and its location, for use in
+   * the keys of resolved classpaths.
+   */
+  public static String getVMInstallKey(IVMInstall vmInstall) {
+    if (vmInstall == null) {
+      return "";
+    }
+    return vmInstall.getVMInstallType().getId() + '/' + vmInstall.getId() + '/'
+        + vmInstall.getInstallLocation();
+  }
+
+  private final IElementChangedListener classpathListener = new IElementChangedListener() {
+    public void elementChanged(ElementChangedEvent event) {
+      for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+        IJavaElement element = delta.getElement();
+        if (element.getElementType() != IJavaElement.JAVA_PROJECT) {
+          continue;
+        }
+
+        if (delta.getKind() != IJavaElementDelta.CHANGED
+            || (delta.getFlags() & CLASSPATH_CHANGED_FLAGS) != 0) {
+          invalidate(element.getElementName());
+        }
+      }
+    }
+  };
+
+  private final IResourceChangeListener resourceListener = new IResourceChangeListener() {
+    private final IResourceDeltaVisitor visitor = new IResourceDeltaVisitor() {
+      public boolean visit(IResourceDelta delta) throws CoreException {
+        IResource resource = delta.getResource();
+        switch (resource.getType()) {
+          case IResource.ROOT:
+            return true;
+
+          case IResource.PROJECT:
+            if (delta.getKind() != IResourceDelta.CHANGED
+                || (delta.getFlags() & (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION)) != 0) {
+              invalidate(resource.getName());
+              return false;
+            }
+            return true;
+
+          case IResource.FOLDER:
+            if (delta.getKind() == IResourceDelta.ADDED || delta.getKind() == IResourceDelta.REMOVED) {
+              invalidate(resource.getProject().getName());
+              return false;
+            }
+            return true;
+
+          default:
+            // File content changes never affect the computed classpath
+            return false;
+        }
+      }
+    };
+
+    public void resourceChanged(IResourceChangeEvent event) {
+      if (event.getDelta() != null) {
+        try {
+          event.getDelta().accept(visitor);
+        } catch (CoreException e) {
+          GWTPluginLog.logError(e);
+        }
+      }
+    }
+  };
+
+  private final Map<String, CacheEntry<List<IRuntimeClasspathEntry>>> sourceFolderPaths =
+      new HashMap<String, CacheEntry<List<IRuntimeClasspathEntry>>>();
+
+  private final Map<String, CacheEntry<IRuntimeClasspathEntry[]>> resolvedClasspaths =
+      new HashMap<String, CacheEntry<IRuntimeClasspathEntry[]>>();
+
+  /**
+   * Incremented on every invalidation, so values computed while the projects
+   * they depend on changed are not stored.
+   */
+  private final AtomicLong generation = new AtomicLong();
+
+  private long hits;
+
+  private long misses;
+
+  private ModuleClasspathCache() {
+  }
+
+  /**
+   * Discards every cached value.
+   */
+  public synchronized void clear() {
+    generation.incrementAndGet();
+    sourceFolderPaths.clear();
+    resolvedClasspaths.clear();
+  }
+
+  /**
+   * Returns the fraction of lookups that were answered from the cache, or 0 if
+   * there have been no lookups yet.
+   */
+  /**
+   * Returns the current generation, to be read before computing a value which
+   * is then stored with it.
+   */
+  public long getGeneration() {
+    return generation.get();
+  }
+
+  public synchronized double getHitRatio() {
+    long lookups = hits + misses;
+    return lookups == 0 ? 0 : (double) hits / lookups;
+  }
+
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Returns the cached resolved classpath for the given key, or
+   * <code>null</code>.
+   */
+  public synchronized IRuntimeClasspathEntry[] getResolvedClasspath(String key) {
+    return lookup(resolvedClasspaths, key);
+  }
+
+  /**
+   * Returns the cached GWT source folder paths for the given project, or
+   * <code>null</code>.
+   */
+  public synchronized List<IRuntimeClasspathEntry> getSourceFolderPaths(IJavaProject javaProject,
+      boolean includeTestSourceEntries) {
+    return lookup(sourceFolderPaths, getSourceFolderPathsKey(javaProject, includeTestSourceEntries));
+  }
+
+  /**
+   * Drops every cached value that depends on the given project.
+   */
+  public synchronized void invalidate(String projectName) {
+    generation.incrementAndGet();
+    invalidate(sourceFolderPaths, projectName);
+    invalidate(resolvedClasspaths, projectName);
+  }
+
+  /**
+   * Stores the resolved classpath for the given key, unless a value was
+   * invalidated since the given generation was read.
+   */
+  public void putResolvedClasspath(String key, long computedGeneration, IJavaProject javaProject,
+      IRuntimeClasspathEntry[] resolvedEntries) throws JavaModelException {
+    // Walk the required projects outside of the lock
+    Set<String> projectNames = computeProjectNames(javaProject);
+    synchronized (this) {
+      if (computedGeneration != generation.get()) {
+        return;
+      }
+      resolvedClasspaths.put(key, new CacheEntry<IRuntimeClasspathEntry[]>(projectNames, resolvedEntries));
+    }
+  }
+
+  /**
+   * Stores the GWT source folder paths for the given project, unless a value
+   * was invalidated since the given generation was read.
+   */
+  public void putSourceFolderPaths(IJavaProject javaProject, boolean includeTestSourceEntries,
+      long computedGeneration, List<IRuntimeClasspathEntry> sourceEntries) throws JavaModelException {
+    Set<String> projectNames = computeProjectNames(javaProject);
+    synchronized (this) {
+      if (computedGeneration != generation.get()) {
+        return;
+      }
+      sourceFolderPaths.put(getSourceFolderPathsKey(javaProject, includeTestSourceEntries),
+          new CacheEntry<List<IRuntimeClasspathEntry>>(projectNames,
+              Collections.unmodifiableList(sourceEntries)));
+    }
+  }
+
+  /**
+   * Starts listening for changes that invalidate cached values.
+   */
+  public void start() {
+    JavaCore.addElementChangedListener(classpathListener, ElementChangedEvent.POST_CHANGE);
+    ResourcesPlugin.getWorkspace().addResourceChangeListener(resourceListener,
+        IResourceChangeEvent.POST_CHANGE);
+  }
+
+  /**
+   * Stops listening for changes and discards every cached value.
+   */
+  public void stop() {
+    ResourcesPlugin.getWorkspace().removeResourceChangeListener(resourceListener);
+    JavaCore.removeElementChangedListener(classpathListener);
+    clear();
+  }
+
+  private Set<String> computeProjectNames(IJavaProject javaProject) throws JavaModelException {
+    Set<String> projectNames = new HashSet<String>();
+    projectNames.add(javaProject.getElementName());
+    for (IJavaProject requiredProject : JavaProjectUtilities.getTransitivelyRequiredProjects(javaProject)) {
+      projectNames.add(requiredProject.getElementName());
+    }
+    return projectNames;
+  }
+
+  private String getSourceFolderPathsKey(IJavaProject javaProject, boolean includeTestSourceEntries) {
+    return javaProject.getElementName() + (includeTestSourceEntries ? "/test" : "");
+  }
+
+  private <T> void invalidate(Map<String, CacheEntry<T>> cache, String projectName) {
+    for (Iterator<CacheEntry<T>> it = cache.values().iterator(); it.hasNext();) {
+      if (it.next().projectNames.contains(projectName)) {
+        it.remove();
+      }
+    }
+  }
+
+  private <T> T lookup(Map<String, CacheEntry<T>> cache, String key) {
+    CacheEntry<T> entry = cache.get(key);
+    if (entry == null) {
+      misses++;
+      return null;
+    }
+    hits++;
+    return entry.value;
+  }
+}
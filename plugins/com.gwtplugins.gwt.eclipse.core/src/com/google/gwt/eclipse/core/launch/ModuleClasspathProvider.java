@@ -172,10 +172,17 @@ public class ModuleClasspathProvider extends StandardClasspathProvider {
     int srcPathsInsertionIndex = findIndexOfFirstUserEntry(defaultRuntimeClasspathEntries);
 
     try {
-      defaultRuntimeClasspathEntries.addAll(
-          srcPathsInsertionIndex,
-          GWTProjectUtilities.getGWTSourceFolderPathsFromProjectAndDependencies(proj,
-              GWTJUnitLaunchDelegate.isJUnitLaunchConfig(config.getType())));
+      boolean includeTestSourceEntries = GWTJUnitLaunchDelegate.isJUnitLaunchConfig(config.getType());
+      List<IRuntimeClasspathEntry> sourceEntries =
+          ModuleClasspathCache.INSTANCE.getSourceFolderPaths(proj, includeTestSourceEntries);
+      if (sourceEntries == null) {
+        long generation = ModuleClasspathCache.INSTANCE.getGeneration();
+        sourceEntries =
+            GWTProjectUtilities.getGWTSourceFolderPathsFromProjectAndDependencies(proj, includeTestSourceEntries);
+        ModuleClasspathCache.INSTANCE.putSourceFolderPaths(proj, includeTestSourceEntries, generation,
+            sourceEntries);
+      }
+      defaultRuntimeClasspathEntries.addAll(srcPathsInsertionIndex, sourceEntries);
     } catch (SdkException e) {
       GWTPluginLog.logError(e);
     }
@@ -187,6 +194,24 @@ public class ModuleClasspathProvider extends StandardClasspathProvider {
   public IRuntimeClasspathEntry[] resolveClasspath(IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration)
       throws CoreException {
 
+    IJavaProject proj = JavaRuntime.getJavaProject(configuration);
+
+    /*
+     * The resolved classpath only depends on the unresolved entries, the JRE and the projects they
+     * are computed from, so reuse the result of a previous resolution until one of those projects
+     * changes. This also skips the duplicate jar logging below, which has already been done for
+     * this classpath. The war out directory may have been deleted since, so it is still created.
+     */
+    String cacheKey = proj == null ? null : computeResolvedClasspathCacheKey(entries, configuration);
+    long cacheGeneration = ModuleClasspathCache.INSTANCE.getGeneration();
+    if (cacheKey != null) {
+      IRuntimeClasspathEntry[] cachedEntries = ModuleClasspathCache.INSTANCE.getResolvedClasspath(cacheKey);
+      if (cachedEntries != null) {
+        createWarOutDirectory(proj);
+        return cachedEntries.clone();
+      }
+    }
+
     // ******** Runs the RunTimeClasspathEntryResolver resolveClasspath
     IRuntimeClasspathEntry[] resolvedEntries = super.resolveClasspath(entries, configuration);
     // ******** Runs the RunTimeClasspathEntryResolver resolveClasspath
@@ -196,7 +221,6 @@ public class ModuleClasspathProvider extends StandardClasspathProvider {
      * associated with one of the GWT Runtime projects, we need to manually call our
      * RuntimeClasspathEntryResolver, because such projects do not have a GWT SDK on the classpath.
      */
-    IJavaProject proj = JavaRuntime.getJavaProject(configuration);
     if (GWTProjectsRuntime.isGWTRuntimeProject(proj)) {
 
       // Use a LinkedHashSet to prevent dupes
@@ -225,9 +249,29 @@ public class ModuleClasspathProvider extends StandardClasspathProvider {
 
     createWarOutDirectory(proj);
 
+    if (cacheKey != null) {
+      ModuleClasspathCache.INSTANCE.putResolvedClasspath(cacheKey, cacheGeneration, proj,
+          resolvedEntries.clone());
+    }
+
     return resolvedEntries;
   }
 
+  /**
+   * Computes the key under which the resolved form of the given entries is cached for the launch
+   * configuration.
+   */
+  private String computeResolvedClasspathCacheKey(IRuntimeClasspathEntry[] entries,
+      ILaunchConfiguration configuration) throws CoreException {
+    StringBuilder key = new StringBuilder();
+    key.append(configuration.getType().getIdentifier()).append('/').append(configuration.getName());
+    key.append('\n').append(ModuleClasspathCache.getVMInstallKey(JavaRuntime.computeVMInstall(configuration)));
+    for (IRuntimeClasspathEntry entry : entries) {
+      key.append('\n').append(entry.getMemento());
+    }
+    return key.toString();
+  }
+
   /**
    * Ensure that the war out directory is created. This may be a bit agressive.
    * @param project
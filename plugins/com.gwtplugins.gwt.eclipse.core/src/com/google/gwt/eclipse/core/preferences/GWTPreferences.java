@@ -49,6 +49,22 @@ import java.io.FileNotFoundException;
 @SuppressWarnings("restriction")
 public class GWTPreferences {
 
+  /**
+   * The key for storing whether GWT compiles run on warm, long-lived compiler processes.
+   */
+  private static final String COMPILER_DAEMON_ENABLED = "compilerDaemonEnabled";
+
+  /**
+   * The key for storing the number of compiles after which a warm compiler process is recycled.
+   */
+  private static final String COMPILER_DAEMON_MAX_COMPILES = "compilerDaemonMaxCompiles";
+
+  /**
+   * The key for storing the maximum number of compiler processes a multi-module GWT compile may run
+   * at once.
+   */
+  private static final String COMPILER_MAX_PARALLEL_PROCESSES = "compilerMaxParallelProcesses";
+
   /**
    * The key for storing the preference for removing terminated launches when a new launch is
    * launched.
@@ -96,6 +112,30 @@ public class GWTPreferences {
     });
   }
 
+  /**
+   * @return If GWT compiles should reuse warm, long-lived compiler processes. Compiles of several
+   *         modules in parallel processes (see {@link #getCompilerMaxParallelProcesses()}) don't.
+   */
+  public static boolean getCompilerDaemonEnabled() {
+    return getEclipsePreferences().getBoolean(COMPILER_DAEMON_ENABLED, false);
+  }
+
+  /**
+   * @return The number of compiles after which a warm compiler process is recycled.
+   */
+  public static int getCompilerDaemonMaxCompiles() {
+    return getEclipsePreferences().getInt(COMPILER_DAEMON_MAX_COMPILES, 20);
+  }
+
+  /**
+   * @return The maximum number of compiler processes a multi-module GWT compile may run at once; 1
+   *         compiles all of the modules in a single process. The parallel processes are started
+   *         afresh for each compile, without the compile daemon.
+   */
+  public static int getCompilerMaxParallelProcesses() {
+    return getEclipsePreferences().getInt(COMPILER_MAX_PARALLEL_PROCESSES, 1);
+  }
+
   public static GwtSdk getDefaultRuntime() {
     SdkSet<GwtSdk> sdkSet = getSdks();
     return sdkSet.getDefault();
@@ -165,6 +205,45 @@ public class GWTPreferences {
     return (getRuntime(name) != null);
   }
 
+  /**
+   * Sets whether GWT compiles should reuse warm, long-lived compiler processes.
+   */
+  public static void setCompilerDaemonEnabled(boolean enabled) {
+    IEclipsePreferences workspacePreferences = getEclipsePreferences();
+    workspacePreferences.putBoolean(COMPILER_DAEMON_ENABLED, enabled);
+    try {
+      workspacePreferences.flush();
+    } catch (BackingStoreException e) {
+      CorePluginLog.logError(e);
+    }
+  }
+
+  /**
+   * Sets the number of compiles after which a warm compiler process is recycled.
+   */
+  public static void setCompilerDaemonMaxCompiles(int maxCompiles) {
+    IEclipsePreferences workspacePreferences = getEclipsePreferences();
+    workspacePreferences.putInt(COMPILER_DAEMON_MAX_COMPILES, maxCompiles);
+    try {
+      workspacePreferences.flush();
+    } catch (BackingStoreException e) {
+      CorePluginLog.logError(e);
+    }
+  }
+
+  /**
+   * Sets the maximum number of compiler processes a multi-module GWT compile may run at once.
+   */
+  public static void setCompilerMaxParallelProcesses(int maxProcesses) {
+    IEclipsePreferences workspacePreferences = getEclipsePreferences();
+    workspacePreferences.putInt(COMPILER_MAX_PARALLEL_PROCESSES, maxProcesses);
+    try {
+      workspacePreferences.flush();
+    } catch (BackingStoreException e) {
+      CorePluginLog.logError(e);
+    }
+  }
+
   /**
    * updates the JSO detail formatter for the current workspace.
    */
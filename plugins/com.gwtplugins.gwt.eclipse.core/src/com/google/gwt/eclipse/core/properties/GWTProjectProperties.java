@@ -45,11 +45,11 @@ public final class GWTProjectProperties {
 
   private static final String ENTRY_POINT_MODULES = "entryPointModules";
 
-  private static final String FILES_COPIED_TO_WEB_INF_LIB = "filesCopiedToWebInfLib";
+  public static final String FILES_COPIED_TO_WEB_INF_LIB = "filesCopiedToWebInfLib";
 
-  private static final String GWT_COMPILE_SETTINGS_XML = "gwtCompileSettings";
+  public static final String GWT_COMPILE_SETTINGS_XML = "gwtCompileSettings";
 
-  private static final String SYNC_CODESERVER_RUNNING =  "gwtSyncCodeServer";
+  public static final String SYNC_CODESERVER_RUNNING = "gwtSyncCodeServer";
 
   /**
    * Returns the default set of entry point modules for a project. This set
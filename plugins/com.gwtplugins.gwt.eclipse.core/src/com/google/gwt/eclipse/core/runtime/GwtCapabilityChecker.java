@@ -14,11 +14,18 @@
  *******************************************************************************/
 package com.google.gwt.eclipse.core.runtime;
 
+import com.google.gdt.eclipse.core.java.ClassPresenceIndex;
 import com.google.gdt.eclipse.core.sdk.Sdk.SdkException;
 import com.google.gwt.eclipse.core.GWTPluginLog;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Checks GWT SDKs for specific capabilities.
@@ -38,19 +45,33 @@ public class GwtCapabilityChecker {
    * @return whether the fully-qualified class name exists in the GWT SDK
    */
   private static boolean doesGwtClassExist(GwtSdk gwtRuntime, String qualifiedClassName) {
+    URLClassLoader cl = null;
     try {
-      URLClassLoader cl = gwtRuntime.createClassLoader();
-      cl.loadClass(qualifiedClassName);
-      return true;
-    } catch (ClassNotFoundException e) {
-      /*
-       * No need for logging an exception here; we're just checking to see if this runtime contains the
-       * given class or not.
-       */
+      cl = gwtRuntime.createClassLoader();
+      // Look for the class file in the class loader's jars and folders, so the
+      // jars aren't opened again for every check
+      List<File> classpath = new ArrayList<File>();
+      for (URL url : cl.getURLs()) {
+        if (!"file".equals(url.getProtocol())) {
+          return cl.findResource(qualifiedClassName.replace('.', '/') + ".class") != null;
+        }
+        classpath.add(new File(url.toURI()));
+      }
+      return ClassPresenceIndex.INSTANCE.exists(classpath, qualifiedClassName);
+    } catch (URISyntaxException e) {
+      GWTPluginLog.logError(e);
     } catch (MalformedURLException e) {
       GWTPluginLog.logError(e);
     } catch (SdkException e) {
       GWTPluginLog.logError(e);
+    } finally {
+      if (cl != null) {
+        try {
+          cl.close();
+        } catch (IOException e) {
+          // Ignore
+        }
+      }
     }
 
     return false;
@@ -46,11 +46,24 @@ import java.util.Map.Entry;
 
 /**
  * Stores the workspace references to particular Java elements.
+ * <p>
+ * The index is saved with the version of its format. An index saved with
+ * another version is discarded when it is loaded, see
+ * {@link #wasDiscardedOnLoad()}.
  */
 public final class JavaRefIndex {
 
+  /**
+   * The version of the format of the saved index, which must be changed
+   * whenever the format changes, including the way the {@link IIndexedJavaRef}
+   * implementations save themselves.
+   */
+  public static final int FORMAT_VERSION = 1;
+
   private static JavaRefIndex INSTANCE;
 
+  private static final String ATTR_VERSION = "version";
+
   private static final String JAVA_REF_LOAD_METHOD = "load";
 
   private static final String MEMBER_KEY_PREFIX = "::";
@@ -65,6 +78,11 @@ public final class JavaRefIndex {
 
   private static final String TAG_JAVA_REFS = "JavaRefs";
 
+  /**
+   * The version of the indexes saved before the format was versioned.
+   */
+  private static final int UNVERSIONED_FORMAT_VERSION = 1;
+
   public static JavaRefIndex getInstance() {
     // Lazily load the search index
     if (INSTANCE == null) {
@@ -117,6 +135,8 @@ public final class JavaRefIndex {
    */
   private final Map<IPath, Set<IIndexedJavaRef>> fileIndex = new HashMap<IPath, Set<IIndexedJavaRef>>();
 
+  private boolean discardedOnLoad;
+
   private JavaRefIndex() {
     loadIndex();
   }
@@ -306,6 +326,14 @@ public final class JavaRefIndex {
     return size;
   }
 
+  /**
+   * Returns whether the saved index had another format, and was discarded, so
+   * the references have to be indexed again.
+   */
+  public boolean wasDiscardedOnLoad() {
+    return discardedOnLoad;
+  }
+
   /**
    * For debugging purposes only.
    */
@@ -436,6 +464,16 @@ public final class JavaRefIndex {
   }
 
   private void loadIndex(XMLMemento memento) {
+    Integer version = memento.getInteger(ATTR_VERSION);
+    int savedFormatVersion = version != null ? version
+        : UNVERSIONED_FORMAT_VERSION;
+    if (savedFormatVersion != FORMAT_VERSION) {
+      GWTPluginLog.logInfo("Discarding search index saved in format "
+          + savedFormatVersion + " (current format: " + FORMAT_VERSION + ")");
+      discardedOnLoad = true;
+      return;
+    }
+
     for (IMemento refNode : memento.getChildren(TAG_JAVA_REF)) {
       IIndexedJavaRef ref = loadJavaRef(refNode);
       if (ref != null) {
@@ -520,6 +558,7 @@ public final class JavaRefIndex {
 
   private void saveIndex() {
     XMLMemento memento = XMLMemento.createWriteRoot(TAG_JAVA_REFS);
+    memento.putInteger(ATTR_VERSION, FORMAT_VERSION);
     saveIndex(memento);
 
     FileWriter writer = null;
@@ -76,7 +76,7 @@ public final class UiBinderXmlModelUtilities {
    * 
    * @param styleElement the style element that contains CSS inline, a src
    *          attribute pointing to an external CSS file, or both
-   * @return a CSS extractor for the CSS, or null
+   * @return a CSS extractor for the CSS, which must be released, or null
    */
   public static CssExtractor createCssExtractorForStyleElement(
       IDOMElement styleElement, IJavaProject javaProject) {
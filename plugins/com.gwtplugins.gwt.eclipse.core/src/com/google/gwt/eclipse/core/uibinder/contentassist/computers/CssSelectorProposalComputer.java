@@ -26,6 +26,7 @@ import org.eclipse.wst.css.core.internal.provisional.document.ICSSModel;
 import org.eclipse.wst.xml.core.internal.provisional.document.IDOMElement;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * A proposal computer that generates completion proposals from CSS selector
@@ -43,24 +44,32 @@ public class CssSelectorProposalComputer implements IProposalComputer {
       return null;
     }
 
-    return new CssSelectorProposalComputer(extractor.getCssModel(), classText,
-        classTextOffset);
+    try {
+      return new CssSelectorProposalComputer(extractor.getCssModel(),
+          classText, classTextOffset);
+    } finally {
+      extractor.release();
+    }
   }
 
-  private final ICSSModel cssModel;
+  private final Set<String> selectorNames;
   private final String enteredSelectorText;
   private final int enteredSelectorTextOffset;
 
+  /**
+   * The selector names are collected right away, so the model doesn't need to
+   * be kept.
+   */
   public CssSelectorProposalComputer(ICSSModel cssModel,
       String enteredSelectorText, int enteredSelectorTextOffset) {
-    this.cssModel = cssModel;
+    this.selectorNames = CssSelectorNameCollector.getLiteralSelectorNames(cssModel.getDocument());
     this.enteredSelectorText = enteredSelectorText;
     this.enteredSelectorTextOffset = enteredSelectorTextOffset;
   }
 
   public void computeProposals(final List<ICompletionProposal> proposals)
       throws UiBinderException {
-    for (String selectorName : CssSelectorNameCollector.getLiteralSelectorNames(cssModel.getDocument())) {
+    for (String selectorName : selectorNames) {
       if (!selectorName.startsWith(enteredSelectorText)) {
         continue;
       }
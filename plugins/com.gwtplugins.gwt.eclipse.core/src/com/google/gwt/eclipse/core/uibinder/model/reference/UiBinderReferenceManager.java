@@ -68,10 +68,22 @@ import java.util.Set;
 
 /**
  * Tracks references within the UiBinder domain.
+ * <p>
+ * The indices are saved with the version of their format. Indices saved with
+ * another version are discarded when they are loaded, see
+ * {@link #wasDiscardedOnLoad()}.
  */
 public enum UiBinderReferenceManager {
   INSTANCE;
 
+  /**
+   * The version of the format of the saved indices, which must be changed
+   * whenever the format of any of them changes.
+   */
+  public static final int FORMAT_VERSION = 1;
+
+  private static final String ATTR_VERSION = "version";
+
   private static final String KEY_REFERENCE_MANAGER = "referenceManager";
 
   private static final String KEY_ROOT = "uiBinderReferences";
@@ -82,6 +94,11 @@ public enum UiBinderReferenceManager {
 
   private static final String KEY_UIBINDER_SUBTYPE_UI_XML = "uiBinderSubtypeToUiXml";
 
+  /**
+   * The version of the indices saved before the format was versioned.
+   */
+  private static final int UNVERSIONED_FORMAT_VERSION = 1;
+
   private static IMemento getChild(IMemento parentMemento,
       String childMementoType) throws PersistenceException {
     IMemento childMemento = parentMemento.getChild(childMementoType);
@@ -171,6 +188,8 @@ public enum UiBinderReferenceManager {
    */
   private ReferenceManager referenceManager;
 
+  private boolean discardedOnLoad;
+
   /**
    * Knows how to refresh references.
    */
@@ -323,6 +342,7 @@ public enum UiBinderReferenceManager {
 
   public void persist() {
     XMLMemento memento = XMLMemento.createWriteRoot(KEY_ROOT);
+    memento.putInteger(ATTR_VERSION, FORMAT_VERSION);
     persist(memento);
 
     File file = getPersistenceFile();
@@ -363,6 +383,14 @@ public enum UiBinderReferenceManager {
     }
   }
 
+  /**
+   * Returns whether the saved indices had another format, and were discarded,
+   * so the UiBinder subtypes have to be validated again.
+   */
+  public boolean wasDiscardedOnLoad() {
+    return discardedOnLoad;
+  }
+
   /**
    * Stops the reference manager.
    */
@@ -420,6 +448,16 @@ public enum UiBinderReferenceManager {
   }
 
   private void load(IMemento memento) throws PersistenceException {
+    Integer version = memento.getInteger(ATTR_VERSION);
+    int savedFormatVersion = version != null ? version
+        : UNVERSIONED_FORMAT_VERSION;
+    if (savedFormatVersion != FORMAT_VERSION) {
+      GWTPluginLog.logInfo("Discarding UiBinder indices saved in format "
+          + savedFormatVersion + " (current format: " + FORMAT_VERSION + ")");
+      discardedOnLoad = true;
+      return;
+    }
+
     IMemento refManagerMemento = getChild(memento, KEY_REFERENCE_MANAGER);
     referenceManager = ReferenceManager.load(refManagerMemento);
     referenceRefresher = new ReferenceRefresher(referenceManager);
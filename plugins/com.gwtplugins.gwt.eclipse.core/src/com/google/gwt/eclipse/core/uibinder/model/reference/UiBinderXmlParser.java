@@ -209,23 +209,27 @@ public class UiBinderXmlParser {
           xmlFile, EnumSet.of(ReferenceLocationType.SOURCE)));
     }
     problemMarkerManager.clear();
+    try {
+      // the ElExpressionFirstFragmentComputer marks problems as it finds first
+      // fragments,
+      // so this must be placed after problemMarkerManager.clear() so that its
+      // markers
+      // don't get cleared.
+      firstFragmentComputer = ElExpressionFirstFragmentComputer.compute(
+          xmlModel.getDocument(), xmlFile, javaProject, problemMarkerManager);
 
-    // the ElExpressionFirstFragmentComputer marks problems as it finds first
-    // fragments,
-    // so this must be placed after problemMarkerManager.clear() so that its
-    // markers
-    // don't get cleared.
-    firstFragmentComputer = ElExpressionFirstFragmentComputer.compute(
-        xmlModel.getDocument(), xmlFile, javaProject, problemMarkerManager);
-
-    // Add self-reference so when the user saves the ui.xml file, this parser
-    // gets called
-    addReference(xmlReferenceLocation, xmlReferenceLocation);
+      // Add self-reference so when the user saves the ui.xml file, this parser
+      // gets called
+      addReference(xmlReferenceLocation, xmlReferenceLocation);
 
-    XmlUtilities.visitNodes(xmlModel.getDocument().getDocumentElement(),
-        parseNodesVisitor);
+      XmlUtilities.visitNodes(xmlModel.getDocument().getDocumentElement(),
+          parseNodesVisitor);
 
-    markDuplicateFieldErrors();
+      markDuplicateFieldErrors();
+    } finally {
+      // Replace the previous problems with the ones found
+      problemMarkerManager.apply();
+    }
 
     return new ParseResults(getFieldNames(), javaTypeReferences);
   }
@@ -318,10 +322,14 @@ public class UiBinderXmlParser {
     CssExtractor extractor = UiBinderXmlModelUtilities.createCssExtractorForStyleElement(
         styleElement, javaProject);
     if (extractor != null) {
-      for (String selector : CssSelectorNameCollector.getValidSelectorNames(extractor.getCssDocument())) {
-        if (selector.equals(remainingFragments)) {
-          return;
+      try {
+        for (String selector : CssSelectorNameCollector.getValidSelectorNames(extractor.getCssDocument())) {
+          if (selector.equals(remainingFragments)) {
+            return;
+          }
         }
+      } finally {
+        extractor.release();
       }
     }
 
@@ -474,7 +482,12 @@ public class UiBinderXmlParser {
     CssExtractor extractor = UiBinderXmlModelUtilities.createCssExtractorForStyleElement(
         element, javaProject);
     if (extractor != null) {
-      String errorMessage = CssSelectorNameCollector.getDuplicateSelectorNamesErrorMessage(extractor.getCssDocument());
+      String errorMessage;
+      try {
+        errorMessage = CssSelectorNameCollector.getDuplicateSelectorNamesErrorMessage(extractor.getCssDocument());
+      } finally {
+        extractor.release();
+      }
       if (errorMessage != null) {
         List<IRegion> elementTagRegions = XmlUtilities.getElementTagRegions(
             element, true);
@@ -26,6 +26,14 @@ import org.eclipse.jface.text.IRegion;
  */
 public interface IValidationResultPlacementStrategy<M> {
 
+  /**
+   * Makes the validation results placed on a resource since it was last
+   * cleared visible, for strategies which don't place them immediately.
+   * 
+   * @param resource the resource which was validated
+   */
+  void applyValidationResults(IResource resource);
+
   /**
    * Clears the implementor's validation results on a resource.
    * 
@@ -42,6 +50,8 @@ public interface IValidationResultPlacementStrategy<M> {
    * @param message the message for the validation result
    * @param severity the severity level, one of the
    *          {@link org.eclipse.core.resources.IMarker} constants
+   * @return the validation result, or <code>null</code> if it is only placed
+   *         by {@link #applyValidationResults(IResource)}
    */
   M placeValidationResult(IResource resource, IDocument document,
       IRegion position, String message, int severity);
@@ -14,78 +14,69 @@
  *******************************************************************************/
 package com.google.gwt.eclipse.core.uibinder.problems;
 
-import com.google.gdt.eclipse.core.MarkerUtilities;
 import com.google.gwt.eclipse.core.GWTPluginLog;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Strategy to place validation results as markers on a resource.
+ *
+ * Validation results are collected until
+ * {@link #applyValidationResults(IResource)}, which then only deletes the
+ * markers of problems that went away and creates markers for new problems.
  */
 public class MarkerPlacementStrategy implements
     IValidationResultPlacementStrategy<IMarker> {
 
   private final String markerId;
 
+  private final Map<IResource, MarkerReconciler> reconcilers = new HashMap<IResource, MarkerReconciler>();
+
   public MarkerPlacementStrategy(String markerId) {
     this.markerId = markerId;
   }
 
-  public void clearValidationResults(IResource resource) {
-    try {
-      resource.deleteMarkers(markerId, true, IResource.DEPTH_INFINITE);
-    } catch (CoreException e) {
-      GWTPluginLog.logError(e, "Could not clear problem markers.");
+  public void applyValidationResults(IResource resource) {
+    MarkerReconciler reconciler = reconcilers.remove(resource);
+    if (reconciler == null) {
+      return;
     }
-  }
 
-  public IMarker placeValidationResult(IResource resource, IDocument document,
-      IRegion position, String message, int severity) {
     try {
-      return createMarker(resource, document, position, message, severity);
+      reconciler.reconcile();
     } catch (CoreException e) {
-      GWTPluginLog.logError(e, "Could not create marker: {0} (on {1})",
-          message, resource.getLocation());
+      GWTPluginLog.logError(e, "Could not update problem markers on {0}.",
+          resource.getLocation());
     }
-
-    return null;
   }
 
-  private IMarker createMarker(IResource resource, IDocument document, IRegion position,
-      String msg, int severity) throws CoreException {
-
-    if (isDuplicate(resource, position, msg)) {
-      return null;
-    }
-
-    IMarker marker = MarkerUtilities.createMarker(markerId, resource, msg,
-        severity);
-    marker.setAttribute(IMarker.CHAR_START, position.getOffset());
-    marker.setAttribute(IMarker.CHAR_END, position.getOffset()
-        + position.getLength());
-    try {
-      // +1 since the attribute is 1-relative but document.getLineOfOffset is
-      // 0-relative
-      marker.setAttribute(IMarker.LINE_NUMBER,
-          document.getLineOfOffset(position.getOffset()) + 1);
-    } catch (BadLocationException e) {
-      GWTPluginLog.logWarning(e,
-          "Unexpected bad location when getting line number for marker.");
-    }
-    return marker;
+  public void clearValidationResults(IResource resource) {
+    // The existing markers are deleted when the results are applied, unless
+    // they are placed again
+    reconcilers.put(resource, new MarkerReconciler(markerId, resource, true));
   }
 
-  private boolean isDuplicate(IResource resource, IRegion position, String msg)
-      throws CoreException {
-    int start = position.getOffset();
-    int end = position.getOffset() + position.getLength();
-
-    return MarkerUtilities.findMarker(markerId, start, end, resource, msg, true) != null;
+  /**
+   * Returns <code>null</code>, since the marker is only created by
+   * {@link #applyValidationResults(IResource)}.
+   */
+  public IMarker placeValidationResult(IResource resource, IDocument document,
+      IRegion position, String message, int severity) {
+    MarkerReconciler reconciler = reconcilers.get(resource);
+    if (reconciler == null) {
+      // Not cleared, so add to the existing markers
+      reconciler = new MarkerReconciler(markerId, resource, false);
+      reconcilers.put(resource, reconciler);
+    }
+    reconciler.addProblem(document, position, message, severity);
+    return null;
   }
 
 }
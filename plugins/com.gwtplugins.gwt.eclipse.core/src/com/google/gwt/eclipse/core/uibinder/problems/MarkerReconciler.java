@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.uibinder.problems;
+
+import com.google.gwt.eclipse.core.GWTPluginLog;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the problems found on a resource during a validation pass, and then
+ * brings the resource's markers in line with them: markers for problems which
+ * are still there are left alone, markers for problems which went away are
+ * deleted, and markers are created for new problems. All of this happens in a
+ * single workspace operation, so unchanged problems don't cause any marker
+ * churn.
+ */
+class MarkerReconciler {
+
+  private static final String[] ATTRIBUTE_NAMES = {
+      IMarker.SEVERITY, IMarker.MESSAGE, IMarker.CHAR_START, IMarker.CHAR_END,
+      IMarker.LINE_NUMBER};
+
+  private static String computeKey(Object severity, Object message,
+      Object charStart, Object charEnd, Object lineNumber) {
+    return severity + ":" + charStart + ":" + charEnd + ":" + lineNumber + ":"
+        + message;
+  }
+
+  private final boolean deleteStaleMarkers;
+
+  private final String markerId;
+
+  /**
+   * The attribute values of the markers for the problems found so far, keyed
+   * by {@link #computeKey}. Identical problems are only reported once.
+   */
+  private final Map<String, Object[]> problems = new LinkedHashMap<String, Object[]>();
+
+  private final IResource resource;
+
+  /**
+   * @param deleteStaleMarkers whether to delete the existing markers which
+   *          don't correspond to any of the problems found, or to leave them
+   */
+  MarkerReconciler(String markerId, IResource resource,
+      boolean deleteStaleMarkers) {
+    this.markerId = markerId;
+    this.resource = resource;
+    this.deleteStaleMarkers = deleteStaleMarkers;
+  }
+
+  void addProblem(IDocument document, IRegion position, String message,
+      int severity) {
+    int lineNumber = -1;
+    try {
+      // +1 since the attribute is 1-relative but document.getLineOfOffset is
+      // 0-relative
+      lineNumber = document.getLineOfOffset(position.getOffset()) + 1;
+    } catch (BadLocationException e) {
+      GWTPluginLog.logWarning(e,
+          "Unexpected bad location when getting line number for marker.");
+    }
+
+    Object[] values = {
+        severity, message, position.getOffset(),
+        position.getOffset() + position.getLength(), lineNumber};
+    String key = computeKey(values[0], values[1], values[2], values[3],
+        values[4]);
+    if (!problems.containsKey(key)) {
+      problems.put(key, values);
+    }
+  }
+
+  /**
+   * Updates the resource's markers to match the problems found.
+   */
+  void reconcile() throws CoreException {
+    if (!resource.exists()) {
+      return;
+    }
+
+    // Index the existing markers by their problem
+    Map<String, IMarker> existingMarkers = new HashMap<String, IMarker>();
+    final List<IMarker> staleMarkers = new ArrayList<IMarker>();
+    for (IMarker marker : resource.findMarkers(markerId, true,
+        IResource.DEPTH_INFINITE)) {
+      Object[] values = marker.getAttributes(ATTRIBUTE_NAMES);
+      String key = computeKey(values[0], values[1], values[2], values[3],
+          values[4] != null ? values[4] : -1);
+      if (existingMarkers.containsKey(key)) {
+        // A duplicate left over from before problems were reconciled
+        staleMarkers.add(marker);
+      } else {
+        existingMarkers.put(key, marker);
+      }
+    }
+
+    final List<Object[]> newProblems = new ArrayList<Object[]>();
+    for (Map.Entry<String, Object[]> problem : problems.entrySet()) {
+      if (existingMarkers.remove(problem.getKey()) == null) {
+        newProblems.add(problem.getValue());
+      }
+    }
+    if (deleteStaleMarkers) {
+      staleMarkers.addAll(existingMarkers.values());
+    }
+
+    if (staleMarkers.isEmpty() && newProblems.isEmpty()) {
+      return;
+    }
+
+    final IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    workspace.run(new IWorkspaceRunnable() {
+      public void run(IProgressMonitor monitor) throws CoreException {
+        if (!staleMarkers.isEmpty()) {
+          workspace.deleteMarkers(staleMarkers.toArray(new IMarker[staleMarkers.size()]));
+        }
+        for (Object[] values : newProblems) {
+          IMarker marker = resource.createMarker(markerId);
+          marker.setAttributes(ATTRIBUTE_NAMES, values);
+        }
+      }
+    }, workspace.getRuleFactory().markerRule(resource), 0, null);
+  }
+}
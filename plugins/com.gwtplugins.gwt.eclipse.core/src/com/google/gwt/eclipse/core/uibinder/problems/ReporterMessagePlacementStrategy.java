@@ -59,6 +59,10 @@ public class ReporterMessagePlacementStrategy implements
     this.reporter = reporter;
   }
 
+  public void applyValidationResults(IResource resource) {
+    // Messages are added to the reporter as they are placed
+  }
+
   public void clearValidationResults(IResource resource) {
     if (isClearAllowed) {
       reporter.removeAllMessages(validator);
@@ -25,8 +25,9 @@ import org.eclipse.jface.text.IRegion;
 import java.text.MessageFormat;
 
 /**
- * Creates/sets UiBinder problem markers on the given resource. Before setting a
- * marker, it ensures an existing similar marker does not exist.
+ * Creates/sets UiBinder problem markers on the given resource. Problems are
+ * set between {@link #clear()} and {@link #apply()}; the placement strategy
+ * ensures that similar problems are only reported once.
  */
 public class UiBinderProblemMarkerManager {
 
@@ -44,6 +45,13 @@ public class UiBinderProblemMarkerManager {
     this.strategy = strategy;
   }
 
+  /**
+   * Makes the problems set since {@link #clear()} visible.
+   */
+  public void apply() {
+    strategy.applyValidationResults(resource);
+  }
+
   public void clear() {
     strategy.clearValidationResults(resource);
   }
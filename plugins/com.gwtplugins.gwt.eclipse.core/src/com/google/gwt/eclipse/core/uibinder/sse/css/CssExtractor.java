@@ -14,7 +14,7 @@
  *******************************************************************************/
 package com.google.gwt.eclipse.core.uibinder.sse.css;
 
-import com.google.gwt.eclipse.core.uibinder.sse.css.model.CssResourceAwareModelRepairer;
+import com.google.gwt.eclipse.core.uibinder.sse.css.CssModelPool.PooledCssModel;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
@@ -26,6 +26,9 @@ import org.eclipse.wst.sse.core.internal.provisional.text.IStructuredDocument;
 /**
  * Extracts a block of CSS from a document (can be any {@link IDocument}
  * implementation) and generates a CSS model and its associated documents.
+ * <p>
+ * The model comes from the {@link CssModelPool}, so {@link #release()} must be
+ * called once the extractor is no longer used.
  */
 @SuppressWarnings("restriction")
 public class CssExtractor {
@@ -62,42 +65,34 @@ public class CssExtractor {
    */
   public static CssExtractor extract(String cssBlock,
       CSSModelLoader cssModelLoader) {
-    // Create an empty model, and its associated documents
-    ICSSModel model = (ICSSModel) cssModelLoader.createModel();
-    ICSSDocument cssDocument = model.getDocument();
-    IStructuredDocument structuredDocument = model.getStructuredDocument();
-
-    // Copy the contents
-    structuredDocument.set(cssBlock);
-
-    // Fix CSS Resource custom at-rules
-    CssResourceAwareModelRepairer modelRepairer = new CssResourceAwareModelRepairer(
-        structuredDocument, model);
-    modelRepairer.repair();
-
-    return new CssExtractor(cssDocument, structuredDocument, model);
+    PooledCssModel pooledModel = CssModelPool.INSTANCE.acquire(cssBlock,
+        cssModelLoader);
+    return new CssExtractor(pooledModel);
   }
 
-  private final ICSSDocument cssDocument;
-  private final IStructuredDocument structuredDocument;
-  private final ICSSModel cssModel;
+  private final PooledCssModel pooledModel;
 
-  private CssExtractor(ICSSDocument cssDocument,
-      IStructuredDocument structuredDocument, ICSSModel cssModel) {
-    this.cssDocument = cssDocument;
-    this.structuredDocument = structuredDocument;
-    this.cssModel = cssModel;
+  private CssExtractor(PooledCssModel pooledModel) {
+    this.pooledModel = pooledModel;
   }
 
   public ICSSDocument getCssDocument() {
-    return cssDocument;
+    return pooledModel.getModel().getDocument();
   }
 
   public ICSSModel getCssModel() {
-    return cssModel;
+    return pooledModel.getModel();
   }
 
   public IStructuredDocument getStructuredDocument() {
-    return structuredDocument;
+    return pooledModel.getModel().getStructuredDocument();
+  }
+
+  /**
+   * Returns the model to the pool. Neither the extractor nor its model or
+   * documents may be used afterwards.
+   */
+  public void release() {
+    CssModelPool.INSTANCE.release(pooledModel);
   }
 }
@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.uibinder.sse.css;
+
+import com.google.gwt.eclipse.core.GWTPluginLog;
+import com.google.gwt.eclipse.core.uibinder.sse.css.model.CssResourceAwareModelRepairer;
+
+import org.eclipse.wst.css.core.internal.modelhandler.CSSModelLoader;
+import org.eclipse.wst.css.core.internal.provisional.document.ICSSModel;
+import org.eclipse.wst.sse.core.internal.provisional.text.IStructuredDocument;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A pool of CSS models used to extract CSS blocks, so extracting the same block
+ * over and over (e.g. when formatting or computing proposals in an editor)
+ * doesn't set up a new model every time.
+ * <p>
+ * Idle models are kept per model loader, since each loader creates models of
+ * a single content type, with at most {@link #MAX_IDLE_MODELS_PER_LOADER} of
+ * them. When a model is acquired, an idle model which already has the
+ * requested contents is preferred. Otherwise the most recently released one
+ * is reset to the requested contents by replacing only the text that differs,
+ * so WST re-parses just that part.
+ * <p>
+ * Every acquired model must be released exactly once, and must not be used
+ * afterwards. Models which are garbage collected without having been released
+ * are reported in the log.
+ */
+@SuppressWarnings("restriction")
+public enum CssModelPool {
+  INSTANCE;
+
+  /**
+   * A CSS model acquired from the pool.
+   */
+  public static final class PooledCssModel {
+    private final ICSSModel model;
+    private final Class<?> loaderClass;
+    private final CssResourceAwareModelRepairer repairer;
+
+    /**
+     * Tracks the pooled model while it is acquired, null while it is idle.
+     */
+    private LeakReference leakReference;
+
+    private PooledCssModel(Class<?> loaderClass, ICSSModel model) {
+      this.loaderClass = loaderClass;
+      this.model = model;
+      this.repairer = new CssResourceAwareModelRepairer(
+          model.getStructuredDocument(), model);
+    }
+
+    public ICSSModel getModel() {
+      return model;
+    }
+  }
+
+  private static final class LeakReference extends WeakReference<PooledCssModel> {
+    private final Class<?> loaderClass;
+
+    private LeakReference(PooledCssModel pooledModel,
+        ReferenceQueue<PooledCssModel> queue) {
+      super(pooledModel, queue);
+      this.loaderClass = pooledModel.loaderClass;
+    }
+  }
+
+  static final int MAX_IDLE_MODELS_PER_LOADER = 4;
+
+  /**
+   * The references to the acquired models, which are enqueued if the models
+   * are garbage collected before being released.
+   */
+  private final Set<LeakReference> acquiredModels = new HashSet<LeakReference>();
+
+  private final Map<Class<?>, Deque<PooledCssModel>> idleModels = new HashMap<Class<?>, Deque<PooledCssModel>>();
+
+  private int leakCount;
+
+  private final ReferenceQueue<PooledCssModel> leakQueue = new ReferenceQueue<PooledCssModel>();
+
+  /**
+   * Returns a model holding the given CSS block, with the CSS Resource custom
+   * at-rules repaired.
+   *
+   * @param cssModelLoader the loader used to create the model if no idle model
+   *          created by the same kind of loader is available
+   */
+  public PooledCssModel acquire(String cssBlock, CSSModelLoader cssModelLoader) {
+    Class<?> loaderClass = cssModelLoader.getClass();
+    PooledCssModel pooledModel;
+    synchronized (this) {
+      reportLeaks();
+      pooledModel = takeIdleModel(loaderClass, cssBlock);
+      if (pooledModel != null) {
+        pooledModel.leakReference = new LeakReference(pooledModel, leakQueue);
+        acquiredModels.add(pooledModel.leakReference);
+      }
+    }
+
+    if (pooledModel == null) {
+      // Create an empty model, and its associated documents
+      ICSSModel model = (ICSSModel) cssModelLoader.createModel();
+      // The pool changes the contents over and over, don't keep the history
+      model.getStructuredDocument().getUndoManager().disableUndoManagement();
+      pooledModel = new PooledCssModel(loaderClass, model);
+      synchronized (this) {
+        pooledModel.leakReference = new LeakReference(pooledModel, leakQueue);
+        acquiredModels.add(pooledModel.leakReference);
+      }
+    }
+
+    setContents(pooledModel.model.getStructuredDocument(), cssBlock);
+
+    // Fix CSS Resource custom at-rules
+    pooledModel.repairer.repair();
+
+    return pooledModel;
+  }
+
+  /**
+   * Returns the model to the pool. Releasing a model more than once has no
+   * effect.
+   */
+  public synchronized void release(PooledCssModel pooledModel) {
+    if (pooledModel.leakReference == null
+        || !acquiredModels.remove(pooledModel.leakReference)) {
+      GWTPluginLog.logWarning(new Exception(),
+          "A pooled CSS model was released more than once.");
+      return;
+    }
+    pooledModel.leakReference.clear();
+    pooledModel.leakReference = null;
+
+    Deque<PooledCssModel> models = idleModels.get(pooledModel.loaderClass);
+    if (models == null) {
+      models = new ArrayDeque<PooledCssModel>();
+      idleModels.put(pooledModel.loaderClass, models);
+    }
+    models.addFirst(pooledModel);
+    if (models.size() > MAX_IDLE_MODELS_PER_LOADER) {
+      models.removeLast();
+    }
+  }
+
+  /**
+   * Returns the number of models which were garbage collected without having
+   * been released.
+   */
+  synchronized int getLeakCount() {
+    reportLeaks();
+    return leakCount;
+  }
+
+  synchronized int getIdleModelCount(Class<?> loaderClass) {
+    Deque<PooledCssModel> models = idleModels.get(loaderClass);
+    return models != null ? models.size() : 0;
+  }
+
+  private void reportLeaks() {
+    Reference<? extends PooledCssModel> reference;
+    while ((reference = leakQueue.poll()) != null) {
+      if (acquiredModels.remove(reference)) {
+        leakCount++;
+        GWTPluginLog.logWarning("A pooled CSS model created by "
+            + ((LeakReference) reference).loaderClass.getSimpleName()
+            + " was not released.");
+      }
+    }
+  }
+
+  /**
+   * Changes the contents of the document by replacing only the text between
+   * the common prefix and suffix of the current and new contents.
+   */
+  private void setContents(IStructuredDocument document, String contents) {
+    String currentContents = document.get();
+    if (currentContents.length() == 0) {
+      document.set(contents);
+      return;
+    }
+    if (currentContents.equals(contents)) {
+      return;
+    }
+
+    int maxLength = Math.min(currentContents.length(), contents.length());
+    int prefixLength = 0;
+    while (prefixLength < maxLength
+        && currentContents.charAt(prefixLength) == contents.charAt(prefixLength)) {
+      prefixLength++;
+    }
+
+    int suffixLength = 0;
+    while (suffixLength < maxLength - prefixLength
+        && currentContents.charAt(currentContents.length() - 1 - suffixLength) == contents.charAt(contents.length()
+            - 1 - suffixLength)) {
+      suffixLength++;
+    }
+
+    document.replaceText(this, prefixLength, currentContents.length()
+        - prefixLength - suffixLength, contents.substring(prefixLength,
+        contents.length() - suffixLength));
+  }
+
+  private PooledCssModel takeIdleModel(Class<?> loaderClass, String cssBlock) {
+    Deque<PooledCssModel> models = idleModels.get(loaderClass);
+    if (models == null || models.isEmpty()) {
+      return null;
+    }
+
+    // Prefer a model which already holds the block
+    for (Iterator<PooledCssModel> it = models.iterator(); it.hasNext();) {
+      PooledCssModel pooledModel = it.next();
+      IStructuredDocument document = pooledModel.model.getStructuredDocument();
+      if (document.getLength() == cssBlock.length()
+          && document.get().equals(cssBlock)) {
+        it.remove();
+        return pooledModel;
+      }
+    }
+
+    return models.removeFirst();
+  }
+}
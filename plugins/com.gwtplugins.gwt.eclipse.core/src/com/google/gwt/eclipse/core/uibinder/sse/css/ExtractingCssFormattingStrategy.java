@@ -65,11 +65,16 @@ public class ExtractingCssFormattingStrategy extends AbstractFormattingStrategy
       return;
     }
 
-    ICSSDocument cssDocument = extractor.getCssDocument();
-    String formattedCssBlock = formatCss(cssDocument);
+    String formattedCssBlock;
+    try {
+      ICSSDocument cssDocument = extractor.getCssDocument();
+      formattedCssBlock = formatCss(cssDocument);
 
-    formattedCssBlock = adjustFormattedCssWhitespace(formattedCssBlock,
-        document, partition, extractor);
+      formattedCssBlock = adjustFormattedCssWhitespace(formattedCssBlock,
+          document, partition, extractor);
+    } finally {
+      extractor.release();
+    }
     if (formattedCssBlock == null) {
       return;
     }
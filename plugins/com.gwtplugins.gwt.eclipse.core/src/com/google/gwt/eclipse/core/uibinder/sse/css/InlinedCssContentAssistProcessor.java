@@ -67,28 +67,32 @@ public class InlinedCssContentAssistProcessor implements
       return null;
     }
 
-    IndexedRegion indexedNode = extractor.getCssModel().getIndexedRegion(
-        offsetInExtractedDoc);
-    if (indexedNode == null) {
-      indexedNode = (IndexedRegion) extractor.getCssDocument();
-    }
-
-    ICompletionProposal[] proposals;
     try {
-      proposals = CssProposalArrangerCaller.getProposals(offsetInExtractedDoc,
-          (ICSSNode) indexedNode, partition.getOffset(), (char) 0);
-
-      List<ICompletionProposal> newProposals = new ArrayList<ICompletionProposal>();
-      for (ICompletionProposal proposal : proposals) {
-        newProposals.add(new IndentationFixingCompletionProposal(proposal));
+      IndexedRegion indexedNode = extractor.getCssModel().getIndexedRegion(
+          offsetInExtractedDoc);
+      if (indexedNode == null) {
+        indexedNode = (IndexedRegion) extractor.getCssDocument();
       }
 
-      return newProposals.toArray(new ICompletionProposal[newProposals.size()]);
+      ICompletionProposal[] proposals;
+      try {
+        proposals = CssProposalArrangerCaller.getProposals(offsetInExtractedDoc,
+            (ICSSNode) indexedNode, partition.getOffset(), (char) 0);
 
-    } catch (Throwable e) {
-      GWTPluginLog.logWarning(e,
-          "Could not generate CSS proposals due to failed call to CSS proposal arranger.");
-      return null;
+        List<ICompletionProposal> newProposals = new ArrayList<ICompletionProposal>();
+        for (ICompletionProposal proposal : proposals) {
+          newProposals.add(new IndentationFixingCompletionProposal(proposal));
+        }
+
+        return newProposals.toArray(new ICompletionProposal[newProposals.size()]);
+
+      } catch (Throwable e) {
+        GWTPluginLog.logWarning(e,
+            "Could not generate CSS proposals due to failed call to CSS proposal arranger.");
+        return null;
+      }
+    } finally {
+      extractor.release();
     }
   }
 
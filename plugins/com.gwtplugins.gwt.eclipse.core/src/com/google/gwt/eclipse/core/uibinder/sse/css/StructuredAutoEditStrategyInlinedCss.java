@@ -71,8 +71,12 @@ public class StructuredAutoEditStrategyInlinedCss implements IAutoEditStrategy {
     SimpleDocumentCommand.copyFields(command, commandForExtractedCss,
         region.getOffset());
 
-    originalCssAutoEditStrategy.customizeDocumentCommand(
-        extractor.getStructuredDocument(), commandForExtractedCss);
+    try {
+      originalCssAutoEditStrategy.customizeDocumentCommand(
+          extractor.getStructuredDocument(), commandForExtractedCss);
+    } finally {
+      extractor.release();
+    }
 
     // Ensure only whitespace changes were made
     if (!StringUtilities.equalsIgnoreWhitespace(command.text,
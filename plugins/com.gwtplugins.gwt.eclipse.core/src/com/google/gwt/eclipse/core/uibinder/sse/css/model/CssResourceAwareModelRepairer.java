@@ -21,7 +21,6 @@ import org.eclipse.wst.css.core.internal.formatter.CSSSourceFormatter;
 import org.eclipse.wst.css.core.internal.parserz.CSSRegionContexts;
 import org.eclipse.wst.css.core.internal.provisional.document.ICSSModel;
 import org.eclipse.wst.css.core.internal.provisional.document.ICSSNode;
-import org.eclipse.wst.css.core.internal.util.AbstractCssTraverser;
 import org.eclipse.wst.sse.core.internal.parser.ContextRegion;
 import org.eclipse.wst.sse.core.internal.provisional.IndexedRegion;
 import org.eclipse.wst.sse.core.internal.provisional.text.IStructuredDocument;
@@ -30,6 +29,8 @@ import org.eclipse.wst.sse.core.internal.provisional.text.ITextRegion;
 import org.w3c.dom.css.CSSMediaRule;
 import org.w3c.dom.stylesheets.MediaList;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 
 /**
@@ -44,19 +45,35 @@ import java.lang.reflect.Method;
  * object that isn't properly initialized with a valid range. This class repairs
  * that range to allow the WST CSS implementation to deal with these rules.</li>
  * </ul>
+ * Only media rules are visited, since no other rule can contain one.
  */
 @SuppressWarnings("restriction")
 public class CssResourceAwareModelRepairer {
 
-  private class MyCssTraverser extends AbstractCssTraverser {
+  /**
+   * Holds the handle of the MediaList <code>setRangeRegion</code> method,
+   * which is looked up once.
+   */
+  private static class SetRangeRegionHandle {
+    private static final MethodHandle HANDLE;
+    private static final Throwable LOOKUP_FAILURE;
 
-    @Override
-    protected short preNode(ICSSNode node) {
-      if (node.getNodeType() == ICSSNode.MEDIARULE_NODE) {
-        fixPotentialEmptyMaskedMediaRule(node);
+    static {
+      MethodHandle handle = null;
+      Throwable lookupFailure = null;
+      try {
+        ClassLoader classLoader = CSSSourceFormatter.class.getClassLoader();
+        Class<?> cssRegionContainerClass = classLoader.loadClass("org.eclipse.wst.css.core.internal.document.CSSRegionContainer");
+        Method declaredMethod = cssRegionContainerClass.getDeclaredMethod(
+            "setRangeRegion", IStructuredDocumentRegion.class,
+            ITextRegion.class, ITextRegion.class);
+        declaredMethod.setAccessible(true);
+        handle = MethodHandles.lookup().unreflect(declaredMethod);
+      } catch (Throwable e) {
+        lookupFailure = e;
       }
-
-      return TRAV_CONT;
+      HANDLE = handle;
+      LOOKUP_FAILURE = lookupFailure;
     }
   }
 
@@ -67,6 +84,8 @@ public class CssResourceAwareModelRepairer {
   private static final String[] EMPTY_MASKED_MEDIA_RULES = {
       "@if", "@elif", "@else", "@noflip"};
 
+  private static final int MAX_EMPTY_MASKED_MEDIA_RULE_LENGTH = "@noflip".length();
+
   /**
    * Calls the {@link MediaList} <code>setRangeRegion</code> method.
    * 
@@ -80,14 +99,11 @@ public class CssResourceAwareModelRepairer {
   private static void callSetRangeRegion(MediaList mediaList,
       IStructuredDocumentRegion[] structuredDocumentRegions,
       ITextRegion textRegion) throws Throwable {
-    ClassLoader classLoader = CSSSourceFormatter.class.getClassLoader();
-    Class<?> cssRegionContainerClass = classLoader.loadClass("org.eclipse.wst.css.core.internal.document.CSSRegionContainer");
-    Method declaredMethod = cssRegionContainerClass.getDeclaredMethod(
-        "setRangeRegion", IStructuredDocumentRegion.class, ITextRegion.class,
-        ITextRegion.class);
-    declaredMethod.setAccessible(true);
-    declaredMethod.invoke(mediaList, structuredDocumentRegions[0], textRegion,
-        textRegion);
+    if (SetRangeRegionHandle.HANDLE == null) {
+      throw SetRangeRegionHandle.LOOKUP_FAILURE;
+    }
+    SetRangeRegionHandle.HANDLE.invoke(mediaList, structuredDocumentRegions[0],
+        textRegion, textRegion);
   }
 
   private final IStructuredDocument structuredDocument;
@@ -101,29 +117,29 @@ public class CssResourceAwareModelRepairer {
   }
 
   public void repair() {
-    new MyCssTraverser().apply(cssModel);
+    repairMediaRules(cssModel.getDocument());
   }
 
   private boolean containsEmptyMaskedMediaRule(CSSMediaRule mediaRule,
       IndexedRegion mediaRuleRegion) {
-    for (String rule : EMPTY_MASKED_MEDIA_RULES) {
-      try {
-        if (structuredDocument.getLength() < rule.length()) {
-          continue;
-        }
-
-        if (!rule.equalsIgnoreCase(structuredDocument.get(
-            mediaRuleRegion.getStartOffset(), rule.length()))) {
-          continue;
-        }
+    if (mediaRule.getMedia().getLength() > 0) {
+      return false;
+    }
 
-        if (mediaRule.getMedia().getLength() > 0) {
-          continue;
-        }
+    String ruleStart;
+    try {
+      int start = mediaRuleRegion.getStartOffset();
+      ruleStart = structuredDocument.get(start, Math.min(
+          MAX_EMPTY_MASKED_MEDIA_RULE_LENGTH,
+          structuredDocument.getLength() - start));
+    } catch (BadLocationException e1) {
+      // Shouldn't happen
+      return false;
+    }
 
+    for (String rule : EMPTY_MASKED_MEDIA_RULES) {
+      if (ruleStart.regionMatches(true, 0, rule, 0, rule.length())) {
         return true;
-      } catch (BadLocationException e1) {
-        // Shouldn't happen, continue on
       }
     }
 
@@ -157,4 +173,17 @@ public class CssResourceAwareModelRepairer {
     }
   }
 
+  /**
+   * Repairs the media rules among the children of the given node, and the
+   * media rules nested in them. Other rules can't contain media rules, so they
+   * are not descended into.
+   */
+  private void repairMediaRules(ICSSNode parent) {
+    for (ICSSNode node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+      if (node.getNodeType() == ICSSNode.MEDIARULE_NODE) {
+        fixPotentialEmptyMaskedMediaRule(node);
+        repairMediaRules(node);
+      }
+    }
+  }
 }
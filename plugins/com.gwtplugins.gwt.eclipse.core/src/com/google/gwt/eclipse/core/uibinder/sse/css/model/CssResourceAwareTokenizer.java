@@ -19,6 +19,7 @@
  * 
  * This contains modifications to allow scanning CSS Resource custom at-rules, which
  * the built-in Eclipse flex file fails at.
+ * The GSS editor uses the same tokenizer, so rules for GSS at-rules belong here too.
  * 
  * To generate the java source code, download JFlex and run it with the default options.
  * The generated java file has some comments before the "// CHECKSTYLE_OFF", make sure
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.core.validators.java;
+
+import com.google.gwt.eclipse.core.clientbundle.ClientBundleResourceDependencyIndex;
+import com.google.gwt.eclipse.core.clientbundle.ClientBundleUtilities;
+import com.google.gwt.eclipse.core.markers.ClientBundleProblem;
+import com.google.gwt.eclipse.core.markers.GWTJavaProblem;
+import com.google.gwt.eclipse.core.search.JavaRefIndex;
+import com.google.gwt.eclipse.core.uibinder.UiBinderConstants;
+import com.google.gwt.eclipse.core.uibinder.model.reference.UiBinderReferenceManager;
+import com.google.gwt.eclipse.core.uibinder.problems.java.UiBinderJavaProblem;
+import com.google.gwt.eclipse.core.validators.rpc.RemoteServiceProblem;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import java.util.Set;
+
+/**
+ * The artifacts which the GWT validation of compilation units persists across
+ * sessions, each with the version of its format.
+ * <p>
+ * When the format of an artifact changes, the artifact only has to be
+ * generated again for the compilation units which contribute to it, by
+ * re-validating them, instead of rebuilding the whole project.
+ */
+public enum GWTBuildArtifact {
+
+  /**
+   * The Java references in JSNI blocks.
+   */
+  JSNI_REFERENCE_INDEX("jsniReferenceIndex", JavaRefIndex.FORMAT_VERSION) {
+    @Override
+    public boolean wasDiscardedOnLoad() {
+      return JavaRefIndex.getInstance().wasDiscardedOnLoad();
+    }
+
+    @Override
+    void addContributingCompilationUnits(IJavaProject javaProject,
+        Set<ICompilationUnit> cus) throws CoreException {
+      // Only the compilation units with native methods have JSNI blocks
+      for (IPackageFragmentRoot root : javaProject.getPackageFragmentRoots()) {
+        if (root.getKind() != IPackageFragmentRoot.K_SOURCE) {
+          continue;
+        }
+        for (IJavaElement element : root.getChildren()) {
+          for (ICompilationUnit cu : ((IPackageFragment) element).getCompilationUnits()) {
+            if (hasNativeMethod(cu)) {
+              cus.add(cu);
+            }
+          }
+        }
+      }
+    }
+  },
+
+  /**
+   * The resources the ClientBundle subtypes depend on.
+   */
+  CLIENT_BUNDLE_RESOURCE_INDEX("clientBundleResourceIndex",
+      ClientBundleResourceDependencyIndex.FORMAT_VERSION) {
+    @Override
+    public boolean wasDiscardedOnLoad() {
+      return ClientBundleResourceDependencyIndex.getInstance().wasDiscardedOnLoad();
+    }
+
+    @Override
+    void addContributingCompilationUnits(IJavaProject javaProject,
+        Set<ICompilationUnit> cus) throws CoreException {
+      addSourceSubtypes(javaProject,
+          ClientBundleUtilities.CLIENT_BUNDLE_TYPE_NAME, cus);
+    }
+  },
+
+  /**
+   * The UiBinder subtypes, their owner classes and ui.xml files, and the
+   * references between them.
+   */
+  UI_BINDER_INDICES("uiBinderIndices", UiBinderReferenceManager.FORMAT_VERSION) {
+    @Override
+    public boolean wasDiscardedOnLoad() {
+      return UiBinderReferenceManager.INSTANCE.wasDiscardedOnLoad();
+    }
+
+    @Override
+    void addContributingCompilationUnits(IJavaProject javaProject,
+        Set<ICompilationUnit> cus) throws CoreException {
+      // The owner classes are re-validated along with their UiBinder subtypes
+      addSourceSubtypes(javaProject, UiBinderConstants.UI_BINDER_TYPE_NAME,
+          cus);
+    }
+  },
+
+  /**
+   * The problem markers the validators create on compilation units. The
+   * version must be changed whenever the attributes of the markers change.
+   */
+  PROBLEM_MARKERS("problemMarkers", 1) {
+    private final String[] markerIds = new String[] {
+        GWTJavaProblem.MARKER_ID, RemoteServiceProblem.MARKER_ID,
+        ClientBundleProblem.MARKER_ID, UiBinderJavaProblem.MARKER_ID};
+
+    @Override
+    public boolean wasDiscardedOnLoad() {
+      // Markers are persisted by the workspace
+      return false;
+    }
+
+    @Override
+    void addContributingCompilationUnits(IJavaProject javaProject,
+        Set<ICompilationUnit> cus) throws CoreException {
+      // Only the compilation units with markers have markers to update
+      for (String markerId : markerIds) {
+        for (IMarker marker : javaProject.getProject().findMarkers(markerId,
+            true, IResource.DEPTH_INFINITE)) {
+          IJavaElement element = JavaCore.create(marker.getResource());
+          if (element instanceof ICompilationUnit) {
+            cus.add((ICompilationUnit) element);
+          }
+        }
+      }
+    }
+  };
+
+  /**
+   * Adds the source compilation units of the project which contribute to any of
+   * the artifacts.
+   */
+  public static void addContributingCompilationUnits(IJavaProject javaProject,
+      Iterable<GWTBuildArtifact> artifacts, Set<ICompilationUnit> cus)
+      throws CoreException {
+    for (GWTBuildArtifact artifact : artifacts) {
+      artifact.addContributingCompilationUnits(javaProject, cus);
+    }
+  }
+
+  private static void addSourceSubtypes(IJavaProject javaProject,
+      String typeName, Set<ICompilationUnit> cus) throws JavaModelException {
+    IType type = javaProject.findType(typeName);
+    if (type == null) {
+      return;
+    }
+
+    for (IType subtype : type.newTypeHierarchy(javaProject, null).getAllSubtypes(
+        type)) {
+      ICompilationUnit cu = subtype.getCompilationUnit();
+      if (cu != null && javaProject.equals(cu.getJavaProject())) {
+        cus.add(cu);
+      }
+    }
+  }
+
+  private static boolean hasNativeMethod(ICompilationUnit cu)
+      throws JavaModelException {
+    for (IType type : cu.getAllTypes()) {
+      for (IMethod method : type.getMethods()) {
+        if (Flags.isNative(method.getFlags())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private final String id;
+
+  private final int formatVersion;
+
+  private GWTBuildArtifact(String id, int formatVersion) {
+    this.id = id;
+    this.formatVersion = formatVersion;
+  }
+
+  /**
+   * Returns the version of the current format of the artifact.
+   */
+  public int getFormatVersion() {
+    return formatVersion;
+  }
+
+  /**
+   * Returns a stable identifier for the artifact, suitable for persisting.
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Returns whether the artifact was saved in another format, and was
+   * discarded when it was loaded, so it has to be generated again for all the
+   * projects.
+   */
+  public abstract boolean wasDiscardedOnLoad();
+
+  /**
+   * Returns whether the artifact has to be generated again for a project, whose
+   * artifact was last generated in the given format.
+   */
+  public boolean isOutOfDate(int projectFormatVersion) {
+    return projectFormatVersion != formatVersion || wasDiscardedOnLoad();
+  }
+
+  /**
+   * Adds the source compilation units of the project which contribute to the
+   * artifact, i.e. which have to be re-validated to generate it again.
+   */
+  abstract void addContributingCompilationUnits(IJavaProject javaProject,
+      Set<ICompilationUnit> cus) throws CoreException;
+}
@@ -14,6 +14,9 @@
  *******************************************************************************/
 package com.gwtplugins.gwt.eclipse.gss;
 
+import com.google.gwt.eclipse.core.uibinder.sse.css.CssModelPool;
+import com.google.gwt.eclipse.core.uibinder.sse.css.CssModelPool.PooledCssModel;
+
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.wst.css.core.internal.modelhandler.CSSModelLoader;
@@ -21,12 +24,12 @@ import org.eclipse.wst.css.core.internal.provisional.document.ICSSDocument;
 import org.eclipse.wst.css.core.internal.provisional.document.ICSSModel;
 import org.eclipse.wst.sse.core.internal.provisional.text.IStructuredDocument;
 
-import com.gwtplugins.gwt.eclipse.gss.model.GssResourceAwareModelRepairer;
-
-
 /**
  * Extracts a block of CSS from a document (can be any {@link IDocument}
  * implementation) and generates a CSS model and its associated documents.
+ * <p>
+ * The model comes from the {@link CssModelPool}, so {@link #release()} must be
+ * called once the extractor is no longer used.
  */
 @SuppressWarnings("restriction")
 public class GssExtractor {
@@ -63,42 +66,34 @@ public class GssExtractor {
    */
   public static GssExtractor extract(String cssBlock,
       CSSModelLoader cssModelLoader) {
-    // Create an empty model, and its associated documents
-    ICSSModel model = (ICSSModel) cssModelLoader.createModel();
-    ICSSDocument cssDocument = model.getDocument();
-    IStructuredDocument structuredDocument = model.getStructuredDocument();
-
-    // Copy the contents
-    structuredDocument.set(cssBlock);
-
-    // Fix CSS Resource custom at-rules
-    GssResourceAwareModelRepairer modelRepairer = new GssResourceAwareModelRepairer(
-        structuredDocument, model);
-    modelRepairer.repair();
-
-    return new GssExtractor(cssDocument, structuredDocument, model);
+    PooledCssModel pooledModel = CssModelPool.INSTANCE.acquire(cssBlock,
+        cssModelLoader);
+    return new GssExtractor(pooledModel);
   }
 
-  private final ICSSDocument cssDocument;
-  private final IStructuredDocument structuredDocument;
-  private final ICSSModel cssModel;
+  private final PooledCssModel pooledModel;
 
-  private GssExtractor(ICSSDocument cssDocument,
-      IStructuredDocument structuredDocument, ICSSModel cssModel) {
-    this.cssDocument = cssDocument;
-    this.structuredDocument = structuredDocument;
-    this.cssModel = cssModel;
+  private GssExtractor(PooledCssModel pooledModel) {
+    this.pooledModel = pooledModel;
   }
 
   public ICSSDocument getCssDocument() {
-    return cssDocument;
+    return pooledModel.getModel().getDocument();
   }
 
   public ICSSModel getCssModel() {
-    return cssModel;
+    return pooledModel.getModel();
   }
 
   public IStructuredDocument getStructuredDocument() {
-    return structuredDocument;
+    return pooledModel.getModel().getStructuredDocument();
+  }
+
+  /**
+   * Returns the model to the pool. Neither the extractor nor its model or
+   * documents may be used afterwards.
+   */
+  public void release() {
+    CssModelPool.INSTANCE.release(pooledModel);
   }
 }
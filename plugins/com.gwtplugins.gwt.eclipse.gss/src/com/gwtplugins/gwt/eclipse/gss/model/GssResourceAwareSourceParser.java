@@ -1,5 +1,7 @@
 package com.gwtplugins.gwt.eclipse.gss.model;
 
+import com.google.gwt.eclipse.core.uibinder.sse.css.model.CssResourceAwareTokenizer;
+
 import org.eclipse.wst.css.core.internal.parser.CSSSourceParser;
 import org.eclipse.wst.css.core.internal.parser.ICSSTokenizer;
 import org.eclipse.wst.sse.core.internal.ltk.parser.RegionParser;
@@ -9,7 +11,9 @@ import org.eclipse.wst.sse.core.internal.ltk.parser.RegionParser;
  * version is CSS Resource-aware, meaning it can handle the custom CSS Resource
  * at-rules.
  * <p>
- * This is required for the {@link GssResourceAwareTokenizer} to be used.
+ * This is required for the {@link CssResourceAwareTokenizer} to be used. GSS
+ * shares the tokenizer with CSS Resource, which already scans the GSS at-rules
+ * ("@def", "@if", "@elif", "@else", ...).
  */
 @SuppressWarnings("restriction")
 public class GssResourceAwareSourceParser extends CSSSourceParser {
@@ -21,7 +25,7 @@ public class GssResourceAwareSourceParser extends CSSSourceParser {
   @Override
   public ICSSTokenizer getTokenizer() {
     if (tokenizer == null) {
-      tokenizer = new GssResourceAwareTokenizer();
+      tokenizer = new CssResourceAwareTokenizer();
     }
 
     return tokenizer;
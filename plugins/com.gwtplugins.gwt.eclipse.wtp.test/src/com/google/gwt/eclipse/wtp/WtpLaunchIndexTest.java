@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright 2011 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.wtp;
+
+import com.google.gwt.eclipse.core.launch.GWTLaunchConstants;
+import com.google.gwt.eclipse.core.launch.GwtSuperDevModeLaunchConfiguration;
+
+import junit.framework.TestCase;
+
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.Launch;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * Tests the {@link WtpLaunchIndex}. The launches are only handed to the index,
+ * so their configurations don't need to be saved.
+ */
+public class WtpLaunchIndexTest extends TestCase {
+
+  private WtpLaunchIndex index;
+
+  public void testIndexesEveryCodeServerLaunchWithLauncherId() throws Exception {
+    ILaunch first = createCodeServerLaunch("shared");
+    ILaunch second = createCodeServerLaunch("shared");
+    ILaunch other = createCodeServerLaunch("other");
+    index.launchesAdded(new ILaunch[] {first, second, other});
+
+    assertEquals(new HashSet<ILaunch>(Arrays.asList(first, second)),
+        new HashSet<ILaunch>(index.getCodeServerLaunches("shared")));
+    assertEquals(Arrays.asList(other), index.getCodeServerLaunches("other"));
+    assertTrue(index.getCodeServerLaunches("missing").isEmpty());
+    assertTrue(index.getCodeServerLaunches(null).isEmpty());
+  }
+
+  public void testUnindexesRemovedLaunches() throws Exception {
+    ILaunch first = createCodeServerLaunch("shared");
+    ILaunch second = createCodeServerLaunch("shared");
+    index.launchesAdded(new ILaunch[] {first, second});
+
+    index.launchesRemoved(new ILaunch[] {first});
+    assertEquals(Arrays.asList(second), index.getCodeServerLaunches("shared"));
+
+    // Terminated launches stay indexed until they are removed
+    index.launchesTerminated(new ILaunch[] {second});
+    assertEquals(Arrays.asList(second), index.getCodeServerLaunches("shared"));
+
+    index.launchesRemoved(new ILaunch[] {second});
+    assertTrue(index.getCodeServerLaunches("shared").isEmpty());
+  }
+
+  public void testReindexesChangedLaunches() throws Exception {
+    ILaunch launch = createCodeServerLaunch("before");
+    index.launchesAdded(new ILaunch[] {launch});
+
+    ((ILaunchConfigurationWorkingCopy) launch.getLaunchConfiguration()).setAttribute(
+        GWTLaunchConstants.SUPERDEVMODE_LAUNCH_ID, "after");
+    index.launchesChanged(new ILaunch[] {launch});
+
+    assertTrue(index.getCodeServerLaunches("before").isEmpty());
+    assertEquals(Arrays.asList(launch), index.getCodeServerLaunches("after"));
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    index = new WtpLaunchIndex();
+  }
+
+  private ILaunch createCodeServerLaunch(String launcherId) throws Exception {
+    ILaunchConfigurationType type = DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurationType(
+        GwtSuperDevModeLaunchConfiguration.TYPE_ID);
+    ILaunchConfigurationWorkingCopy workingCopy = type.newInstance(null,
+        DebugPlugin.getDefault().getLaunchManager().generateLaunchConfigurationName(getName()));
+    workingCopy.setAttribute(GWTLaunchConstants.SUPERDEVMODE_LAUNCH_ID, launcherId);
+    return new Launch(workingCopy, ILaunchManager.RUN_MODE, null);
+  }
+}
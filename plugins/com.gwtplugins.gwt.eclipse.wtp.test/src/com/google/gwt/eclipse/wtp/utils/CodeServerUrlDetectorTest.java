@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright 2014 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.wtp.utils;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Tests for the {@link CodeServerUrlDetector} class.
+ */
+public class CodeServerUrlDetectorTest extends TestCase {
+
+  private CodeServerUrlDetector detector;
+
+  private Set<String> urls;
+
+  public void testFindsUrlInLine() {
+    assertTrue(detector.append("The code server is ready at http://127.0.0.1:9876/\n", urls));
+    assertEquals(Arrays.asList("http://127.0.0.1:9876"), Arrays.asList(urls.toArray()));
+  }
+
+  public void testFindsUrlSplitAcrossChunks() {
+    assertFalse(detector.append("[INFO] Compiling\nThe code server is ready at ht", urls));
+    assertFalse(detector.append("tp://127.0.0.1:98", urls));
+    assertTrue(detector.append("76/\r\n[INFO] Done\n", urls));
+    assertEquals(Arrays.asList("http://127.0.0.1:9876"), Arrays.asList(urls.toArray()));
+  }
+
+  public void testIgnoresUrlsWithoutTrailingSlash() {
+    assertFalse(detector.append("See http://www.gwtproject.org/doc for help\n", urls));
+    assertTrue(urls.isEmpty());
+  }
+
+  public void testReportsOnlyNewUrls() {
+    assertTrue(detector.append("Ready at http://127.0.0.1:9876/\n", urls));
+    assertFalse(detector.append("Ready at http://127.0.0.1:9876/\n", urls));
+    assertTrue(detector.append("Ready at https://localhost:9876/\n", urls));
+    assertEquals(Arrays.asList("http://127.0.0.1:9876", "https://localhost:9876"),
+        Arrays.asList(urls.toArray()));
+  }
+
+  public void testWaitsForEndOfLine() {
+    assertFalse(detector.append("Ready at http://127.0.0.1:9876/", urls));
+    assertTrue(urls.isEmpty());
+    assertTrue(detector.append("\n", urls));
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    detector = new CodeServerUrlDetector();
+    urls = new LinkedHashSet<String>();
+  }
+}
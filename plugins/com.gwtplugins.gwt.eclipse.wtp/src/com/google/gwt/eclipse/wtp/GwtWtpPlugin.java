@@ -19,7 +19,9 @@ import java.io.InputStreamReader;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
@@ -32,7 +34,6 @@ import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationType;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
-import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.debug.core.IStreamListener;
 import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.debug.core.model.IStreamMonitor;
@@ -43,7 +44,6 @@ import org.eclipse.wst.server.core.IModule;
 import org.eclipse.wst.server.core.IServer;
 import org.eclipse.wst.server.core.IServerListener;
 import org.eclipse.wst.server.core.ServerEvent;
-import org.eclipse.wst.server.core.ServerUtil;
 import org.eclipse.wst.server.core.internal.IModulePublishHelper;
 import org.eclipse.wst.server.core.model.IURLProvider;
 import org.osgi.framework.BundleContext;
@@ -54,6 +54,7 @@ import com.google.gwt.eclipse.core.launch.util.GwtSuperDevModeCodeServerLaunchUt
 import com.google.gwt.eclipse.core.properties.GWTProjectProperties;
 import com.google.gwt.eclipse.oophm.model.LaunchConfiguration;
 import com.google.gwt.eclipse.oophm.model.WebAppDebugModel;
+import com.google.gwt.eclipse.wtp.utils.CodeServerUrlDetector;
 import com.google.gwt.eclipse.wtp.utils.GwtFacetUtils;
 
 /**
@@ -69,7 +70,10 @@ public final class GwtWtpPlugin extends AbstractUIPlugin {
 
   private static GwtWtpPlugin INSTANCE;
   private static HashSet<String[]> commandsToExecuteAtExit = new HashSet<String[]>();
-  private static List<String> launchUrls = new ArrayList<String>();
+  /**
+   * The urls shown in the Development Mode view, guarded by itself.
+   */
+  private static Set<String> launchUrls = new LinkedHashSet<String>();
 
   public static IStatus createErrorStatus(String mess, Exception e) {
     return new Status(IStatus.ERROR, PLUGIN_ID, -1, mess, e);
@@ -100,6 +104,7 @@ public final class GwtWtpPlugin extends AbstractUIPlugin {
   }
 
   private IDebugEventSetListener serverProcessListener;
+  private final WtpLaunchIndex launchIndex = new WtpLaunchIndex();
 
   /**
    * Observe the CodeServer console output
@@ -123,6 +128,8 @@ public final class GwtWtpPlugin extends AbstractUIPlugin {
   public void start(BundleContext context) throws Exception {
     super.start(context);
 
+    launchIndex.start();
+
     // Observe launch events that are from the WTP server
     serverProcessListener = new IDebugEventSetListener() {
       @Override
@@ -156,17 +163,19 @@ public final class GwtWtpPlugin extends AbstractUIPlugin {
 
     IProcess runtimeProcess = (IProcess) event.getSource();
     ILaunch launch = runtimeProcess.getLaunch();
-    ILaunchConfiguration launchConfig = launch.getLaunchConfiguration();
-    if (launchConfig == null) {
+    if (launch == null || launch.getLaunchConfiguration() == null) {
       return;
     }
 
-    IServer server = getServerFromLaunchConfig(launch);
-    ILaunchManager launchManager = DebugPlugin.getDefault().getLaunchManager();
-    ILaunchConfigurationType sdmCodeServerType = launchManager
-        .getLaunchConfigurationType(GwtSuperDevModeLaunchConfiguration.TYPE_ID);
+    // Neither a WTP server nor the CodeServer
+    WtpLaunchIndex.LaunchInfo launchInfo = launchIndex.getLaunchInfo(launch);
+    if (launchInfo.isIgnored()) {
+      return;
+    }
+
+    IServer server = launchInfo.server;
 
-    if (launchConfig.getType().equals(sdmCodeServerType)) {
+    if (launchInfo.codeServer) {
       if (event.getKind() == DebugEvent.CREATE) {
         onAfterCodeServerStarted(event);
       } else if (event.getKind() == DebugEvent.TERMINATE) {
@@ -223,10 +232,12 @@ public final class GwtWtpPlugin extends AbstractUIPlugin {
     final IProcess process = processes[0];
 
     // Look for the links in the sdm console output
+    final CodeServerUrlDetector urlDetector = new CodeServerUrlDetector();
+    final Set<String> detectedUrls = new LinkedHashSet<String>();
     consoleStreamListenerCodeServer = new IStreamListener() {
       @Override
       public void streamAppended(String text, IStreamMonitor monitor) {
-        displayCodeServerUrlInDevMode(launch, text);
+        displayCodeServerUrlInDevMode(launch, urlDetector, detectedUrls, text);
       }
     };
 
@@ -247,21 +258,32 @@ public final class GwtWtpPlugin extends AbstractUIPlugin {
     // nothing at the moment
   }
 
-  private void displayCodeServerUrlInDevMode(final ILaunch launch, String text) {
-    if (!text.contains("http")) {
-      return;
+  /**
+   * Shows the urls found in the code server's console output in the launch's
+   * Development Mode view entry. The urls found so far are tracked per launch,
+   * so a relaunched code server printing the same urls as before still gets
+   * them.
+   */
+  private void displayCodeServerUrlInDevMode(final ILaunch launch, CodeServerUrlDetector urlDetector,
+      Set<String> detectedUrls, String text) {
+    // Extract URL http://localhost:9876/
+    List<String> found;
+    synchronized (urlDetector) {
+      if (!urlDetector.append(text, detectedUrls)) {
+        return;
+      }
+      found = new ArrayList<String>(detectedUrls);
     }
 
-    // Extract URL http://localhost:9876/
-    String url = text.replaceAll(".*(http.*).*?", "$1").trim();
-    if (url.matches(".*/")) {
-      url = url.substring(0, url.length() - 1);
-      launchUrls.add(url);
+    List<String> urls;
+    synchronized (launchUrls) {
+      launchUrls.addAll(found);
+      urls = new ArrayList<String>(launchUrls);
     }
 
     // Dev Mode View, add url
     LaunchConfiguration lc = WebAppDebugModel.getInstance().addOrReturnExistingLaunchConfiguration(launch, "", null);
-    lc.setLaunchUrls(launchUrls);
+    lc.setLaunchUrls(urls);
   }
 
   private IServer getServerFromLaunchConfig(ILaunch launch) {
@@ -270,14 +292,7 @@ public final class GwtWtpPlugin extends AbstractUIPlugin {
       return null;
     }
 
-    IServer server = null;
-    try {
-      server = ServerUtil.getServer(launchConfig);
-    } catch (CoreException e) {
-      logError("getServerFromLaunchConfig: Getting the WTP server error.", e);
-      return null;
-    }
-    return server;
+    return launchIndex.getLaunchInfo(launch).server;
   }
 
   private void addServerUrlsToDevModeView(ILaunch launch) {
@@ -297,12 +312,13 @@ public final class GwtWtpPlugin extends AbstractUIPlugin {
       return;
     }
 
-    // First clear the previous urls, before adding new ones
-    launchUrls.clear();
-
     String url = getServerUrl(server, rootMod);
-    if (url != null) {
-      launchUrls.add(url);
+    synchronized (launchUrls) {
+      // First clear the previous urls, before adding new ones
+      launchUrls.clear();
+      if (url != null) {
+        launchUrls.add(url);
+      }
     }
   }
 
@@ -334,14 +350,7 @@ public final class GwtWtpPlugin extends AbstractUIPlugin {
     ILaunch serverLaunch = runtimeProcess.getLaunch();
     ILaunchConfiguration launchConfig = serverLaunch.getLaunchConfiguration();
 
-    IServer server = null;
-    try {
-      server = ServerUtil.getServer(launchConfig);
-    } catch (CoreException e) {
-      logError("posiblyLaunchGwtSuperDevModeCodeServer: Could get the WTP server.", e);
-      return;
-    }
-
+    IServer server = getServerFromLaunchConfig(serverLaunch);
     if (server == null) {
       logMessage("posiblyLaunchGwtSuperDevModeCodeServer: No WTP server found.");
       return;
@@ -382,34 +391,25 @@ public final class GwtWtpPlugin extends AbstractUIPlugin {
       return;
     }
 
-    try {
-      ILaunchManager launchManager = DebugPlugin.getDefault().getLaunchManager();
-      ILaunchConfigurationType sdmcodeServerType = launchManager
-          .getLaunchConfigurationType(GwtSuperDevModeLaunchConfiguration.TYPE_ID);
-      ILaunch[] launches = launchManager.getLaunches();
-
-      if (launches == null || launches.length == 0) {
-        logMessage(
-            "possiblyRemoveLaunchConfiguration: Launches is empty or null. Can't find the GWT sdm launch config");
-        return;
-      }
+    if (GwtSuperDevModeLaunchConfiguration.TYPE_ID.equals(serverType.getIdentifier())) {
+      // Skip if it's the Super Dev Mode Code Server terminating
+      // TODO ? remove listener on console
+      return;
+    }
 
-      for (ILaunch launch : launches) {
-        launchConfig = launch.getLaunchConfiguration();
-        String launcherId = launchConfig.getAttribute(GWTLaunchConstants.SUPERDEVMODE_LAUNCH_ID, (String) null);
-        // If its the sdm code server
-        if (sdmcodeServerType.equals(serverType)) {
-          // TODO ? remove listener on console
-        } else if (!sdmcodeServerType.equals(serverType)
-            && sdmcodeServerType.equals(launch.getLaunchConfiguration().getType())
-            && serverLaunchId.equals(launcherId)) {
-          // Skip if it's the Super Dev Mode Code Server terminating, so it doesn't
-          // Terminate if the server terminated and they both have the same launcher id.
-          launch.terminate();
-        }
+    // Terminate the Code Servers if the server terminated and they have the same launcher id.
+    List<ILaunch> codeServerLaunches = launchIndex.getCodeServerLaunches(serverLaunchId);
+    if (codeServerLaunches.isEmpty()) {
+      logMessage("possiblyRemoveLaunchConfiguration: Can't find the GWT sdm launch with launcherId=" + serverLaunchId);
+      return;
+    }
+
+    for (ILaunch codeServerLaunch : codeServerLaunches) {
+      try {
+        codeServerLaunch.terminate();
+      } catch (CoreException e) {
+        logError("possiblyRemoveLaunchConfiguration: Couldn't stop the Super Dev Mode Code Server.", e);
       }
-    } catch (CoreException e) {
-      logError("possiblyRemoveLaunchConfiguration: Couldn't stop the Super Dev Mode Code Server.", e);
     }
   }
 
@@ -449,14 +449,7 @@ public final class GwtWtpPlugin extends AbstractUIPlugin {
     ILaunchConfiguration launchConfig = launch.getLaunchConfiguration();
     String launchMode = launch.getLaunchMode();
 
-    IServer server = null;
-    try {
-      server = ServerUtil.getServer(launchConfig);
-    } catch (CoreException e) {
-      logError("possiblyLaunchGwtSuperDevModeCodeServer: Could get the WTP server.", e);
-      return;
-    }
-
+    IServer server = getServerFromLaunchConfig(launch);
     if (server == null) {
       logMessage("possiblyLaunchGwtSuperDevModeCodeServer: No WTP server runtime found.");
       return;
@@ -521,7 +514,7 @@ public final class GwtWtpPlugin extends AbstractUIPlugin {
     // The root module will be the server module
     // The root module may have children such as, client, shared
     // The root module may not have any children
-    for (IModule[] module : getAllModules(server)) {
+    for (IModule[] module : launchIndex.getAllModules(server)) {
       if (module[module.length - 1].getProject() == gwtFacetedProject.getProject()) {
         // Child modules are overlaid or included in the root module
         IPath path = null;
@@ -554,24 +547,10 @@ public final class GwtWtpPlugin extends AbstractUIPlugin {
     return launcherDir;
   }
 
-  /**
-   * Return all the modules on the server, including child modules.
-   */
-  private List<IModule[]> getAllModules(IServer server) {
-    List<IModule[]> modules = new ArrayList<>();
-    // todo: add grandchildren
-    for (IModule root : server.getModules()) {
-      modules.add(new IModule[] {root});
-      for (IModule child : server.getChildModules(new IModule[] {root}, null)) {
-        modules.add(new IModule[] {root, child});
-      }
-    }
-    return modules;
-  }
-
   @Override
   public void stop(BundleContext v) throws Exception {
     DebugPlugin.getDefault().removeDebugEventListener(serverProcessListener);
+    launchIndex.stop();
 
     for (String[] command : commandsToExecuteAtExit) {
       try {
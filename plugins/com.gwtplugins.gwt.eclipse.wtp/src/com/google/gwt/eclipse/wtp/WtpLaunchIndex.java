@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright 2014 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.wtp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.ILaunchesListener2;
+import org.eclipse.wst.server.core.IModule;
+import org.eclipse.wst.server.core.IServer;
+import org.eclipse.wst.server.core.IServerLifecycleListener;
+import org.eclipse.wst.server.core.ServerCore;
+import org.eclipse.wst.server.core.ServerUtil;
+
+import com.google.gwt.eclipse.core.launch.GWTLaunchConstants;
+import com.google.gwt.eclipse.core.launch.GwtSuperDevModeLaunchConfiguration;
+
+/**
+ * Indexes the launches the plug-in cares about, so debug events can be handled without looking up the WTP server of
+ * the launch, or going through all the launches, every time.
+ *
+ * Each launch is looked at once, when it is added, and is either a launch of a WTP server, a launch of the Super Dev
+ * Mode Code Server, or of no interest. Code Server launches are also indexed by their launcher id, which several
+ * launches may share. The modules of the servers are cached until the server changes.
+ */
+public final class WtpLaunchIndex implements ILaunchesListener2, IServerLifecycleListener {
+
+  /**
+   * What is known about a launch.
+   */
+  static final class LaunchInfo {
+    /**
+     * Neither a server nor a Code Server launch.
+     */
+    static final LaunchInfo NONE = new LaunchInfo(null, false);
+
+    final boolean codeServer;
+    final IServer server;
+
+    LaunchInfo(IServer server, boolean codeServer) {
+      this.server = server;
+      this.codeServer = codeServer;
+    }
+
+    boolean isIgnored() {
+      return server == null && !codeServer;
+    }
+  }
+
+  /**
+   * The Code Server launches by launcher id. Guarded by itself.
+   */
+  private final Map<String, Set<ILaunch>> codeServerLaunches = new HashMap<String, Set<ILaunch>>();
+  private final Map<ILaunch, LaunchInfo> launches = new ConcurrentHashMap<ILaunch, LaunchInfo>();
+  private final Map<IServer, List<IModule[]>> serverModules = new ConcurrentHashMap<IServer, List<IModule[]>>();
+
+  public void start() {
+    ILaunchManager launchManager = DebugPlugin.getDefault().getLaunchManager();
+    launchManager.addLaunchListener(this);
+    ServerCore.addServerLifecycleListener(this);
+    launchesAdded(launchManager.getLaunches());
+  }
+
+  public void stop() {
+    DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(this);
+    ServerCore.removeServerLifecycleListener(this);
+    launches.clear();
+    synchronized (codeServerLaunches) {
+      codeServerLaunches.clear();
+    }
+    serverModules.clear();
+  }
+
+  /**
+   * Returns what is known about the launch, indexing it if it was missed.
+   */
+  LaunchInfo getLaunchInfo(ILaunch launch) {
+    LaunchInfo info = launches.get(launch);
+    if (info == null) {
+      info = index(launch);
+    }
+    return info;
+  }
+
+  /**
+   * Returns the Super Dev Mode Code Server launches with the given launcher id.
+   */
+  public List<ILaunch> getCodeServerLaunches(String launcherId) {
+    synchronized (codeServerLaunches) {
+      Set<ILaunch> launchesWithId = launcherId == null ? null : codeServerLaunches.get(launcherId);
+      if (launchesWithId == null) {
+        return Collections.emptyList();
+      }
+      return new ArrayList<ILaunch>(launchesWithId);
+    }
+  }
+
+  /**
+   * Return all the modules on the server, including child modules.
+   */
+  List<IModule[]> getAllModules(IServer server) {
+    List<IModule[]> modules = serverModules.get(server);
+    if (modules == null) {
+      modules = new ArrayList<IModule[]>();
+      // todo: add grandchildren
+      for (IModule root : server.getModules()) {
+        modules.add(new IModule[] { root });
+        for (IModule child : server.getChildModules(new IModule[] { root }, null)) {
+          modules.add(new IModule[] { root, child });
+        }
+      }
+      modules = Collections.unmodifiableList(modules);
+      serverModules.put(server, modules);
+    }
+    return modules;
+  }
+
+  @Override
+  public void launchesAdded(ILaunch[] addedLaunches) {
+    for (ILaunch launch : addedLaunches) {
+      index(launch);
+    }
+  }
+
+  @Override
+  public void launchesChanged(ILaunch[] changedLaunches) {
+    for (ILaunch launch : changedLaunches) {
+      unindex(launch);
+      index(launch);
+    }
+  }
+
+  @Override
+  public void launchesRemoved(ILaunch[] removedLaunches) {
+    for (ILaunch launch : removedLaunches) {
+      unindex(launch);
+    }
+  }
+
+  @Override
+  public void launchesTerminated(ILaunch[] terminatedLaunches) {
+    // The launches stay indexed until they are removed
+  }
+
+  @Override
+  public void serverAdded(IServer server) {
+    // A launch may have been indexed before its server existed
+    for (Map.Entry<ILaunch, LaunchInfo> entry : launches.entrySet()) {
+      if (entry.getValue().isIgnored()) {
+        index(entry.getKey());
+      }
+    }
+  }
+
+  @Override
+  public void serverChanged(IServer server) {
+    serverModules.remove(server);
+  }
+
+  @Override
+  public void serverRemoved(IServer server) {
+    serverModules.remove(server);
+    for (Map.Entry<ILaunch, LaunchInfo> entry : launches.entrySet()) {
+      if (entry.getValue().server == server) {
+        entry.setValue(LaunchInfo.NONE);
+      }
+    }
+  }
+
+  private LaunchInfo index(ILaunch launch) {
+    LaunchInfo info = LaunchInfo.NONE;
+    ILaunchConfiguration launchConfig = launch.getLaunchConfiguration();
+    if (launchConfig != null) {
+      try {
+        if (GwtSuperDevModeLaunchConfiguration.TYPE_ID.equals(launchConfig.getType().getIdentifier())) {
+          info = new LaunchInfo(null, true);
+          String launcherId = launchConfig.getAttribute(GWTLaunchConstants.SUPERDEVMODE_LAUNCH_ID, (String) null);
+          if (launcherId != null) {
+            synchronized (codeServerLaunches) {
+              Set<ILaunch> launchesWithId = codeServerLaunches.get(launcherId);
+              if (launchesWithId == null) {
+                launchesWithId = new LinkedHashSet<ILaunch>();
+                codeServerLaunches.put(launcherId, launchesWithId);
+              }
+              launchesWithId.add(launch);
+            }
+          }
+        } else {
+          IServer server = ServerUtil.getServer(launchConfig);
+          if (server != null) {
+            info = new LaunchInfo(server, false);
+          }
+        }
+      } catch (CoreException e) {
+        GwtWtpPlugin.logError("Could not index the launch of " + launchConfig.getName(), e);
+      }
+    }
+
+    launches.put(launch, info);
+    return info;
+  }
+
+  private void unindex(ILaunch launch) {
+    launches.remove(launch);
+    synchronized (codeServerLaunches) {
+      Iterator<Set<ILaunch>> it = codeServerLaunches.values().iterator();
+      while (it.hasNext()) {
+        Set<ILaunch> launchesWithId = it.next();
+        if (launchesWithId.remove(launch) && launchesWithId.isEmpty()) {
+          it.remove();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright 2014 Google Inc. All Rights Reserved.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.google.gwt.eclipse.wtp.utils;
+
+import java.util.Collection;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the URLs the Super Dev Mode code server prints to its console, e.g.
+ * "The code server is ready at http://127.0.0.1:9876/".
+ *
+ * The console output arrives in arbitrary chunks, so the detector only looks at
+ * complete lines, and keeps the last unterminated line of a chunk until the
+ * rest of it arrives. Lines without "http" in them are skipped without running
+ * the matcher. One detector is used per console stream, and it is not thread
+ * safe.
+ */
+public class CodeServerUrlDetector {
+
+  /**
+   * Unterminated lines longer than this are truncated to their end, so output
+   * without line breaks doesn't grow the buffer forever.
+   */
+  private static final int MAX_PARTIAL_LINE_LENGTH = 4096;
+
+  /**
+   * A URL ending with a slash, which is left out of the group.
+   */
+  private static final Pattern URL_PATTERN = Pattern.compile("(https?://\\S*?)/(?=\\s|$)");
+
+  private final Matcher matcher = URL_PATTERN.matcher("");
+
+  /**
+   * The start of the last line, which hasn't been terminated yet.
+   */
+  private final StringBuilder partialLine = new StringBuilder();
+
+  /**
+   * Adds the URLs in the lines completed by the given console output to the
+   * given collection.
+   *
+   * @return true if the collection changed
+   */
+  public boolean append(CharSequence text, Collection<String> urls) {
+    boolean changed = false;
+    int lineStart = 0;
+    int length = text.length();
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(i);
+      if (c != '\n' && c != '\r') {
+        continue;
+      }
+
+      if (partialLine.length() > 0) {
+        partialLine.append(text, lineStart, i);
+        changed |= findUrls(partialLine, 0, partialLine.length(), urls);
+        partialLine.setLength(0);
+      } else if (i > lineStart) {
+        changed |= findUrls(text, lineStart, i, urls);
+      }
+      lineStart = i + 1;
+    }
+
+    if (lineStart < length) {
+      partialLine.append(text, lineStart, length);
+      int excess = partialLine.length() - MAX_PARTIAL_LINE_LENGTH;
+      if (excess > 0) {
+        partialLine.delete(0, excess);
+      }
+    }
+    return changed;
+  }
+
+  private boolean findUrls(CharSequence text, int start, int end, Collection<String> urls) {
+    if (!containsHttp(text, start, end)) {
+      return false;
+    }
+
+    boolean changed = false;
+    matcher.reset(text).region(start, end);
+    while (matcher.find()) {
+      changed |= urls.add(matcher.group(1));
+    }
+    // Don't hold on to the text
+    matcher.reset("");
+    return changed;
+  }
+
+  private static boolean containsHttp(CharSequence text, int start, int end) {
+    for (int i = start; i <= end - 4; i++) {
+      if (text.charAt(i) == 'h' && text.charAt(i + 1) == 't' && text.charAt(i + 2) == 't'
+          && text.charAt(i + 3) == 'p') {
+        return true;
+      }
+    }
+    return false;
+  }
+}